@@ -0,0 +1,227 @@
+package com.growcorehub;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load against a running instance: {@code concurrency}
+ * workers each send the same request back to back for a warmup and then a
+ * measured period, and the driver reports throughput, latency percentiles and
+ * status codes. With {@code --prometheus} it also samples the server's
+ * in-flight request gauge, which shows how many requests the server was
+ * actually working on rather than queueing.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.main=com.growcorehub.HttpLoad \
+ *     -Djmh.args="--url http://localhost:8080/api/projects --concurrency 100 --duration 30 --bearer TOKEN"
+ * </pre>
+ */
+public final class HttpLoad {
+
+	// active_count, or gcount when the server publishes http.server.requests histograms
+	private static final Pattern ACTIVE_REQUESTS = Pattern
+			.compile("^http_server_requests_active_seconds_(?:active_count|gcount)\\{[^}]*} ([0-9.E]+)", Pattern.MULTILINE);
+
+	private HttpLoad() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Options options = Options.parse(args);
+		HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(5)).build();
+		HttpRequest request = options.request();
+
+		long start = System.nanoTime();
+		long measureFrom = start + options.warmupSeconds * 1_000_000_000L;
+		long end = measureFrom + options.durationSeconds * 1_000_000_000L;
+
+		Worker[] workers = new Worker[options.concurrency];
+		CountDownLatch done = new CountDownLatch(workers.length);
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new Worker(client, request, measureFrom, end, done);
+			Thread thread = new Thread(workers[i], "load-" + i);
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		AtomicLong maxActive = new AtomicLong(-1);
+		if (options.prometheus != null) {
+			Thread sampler = new Thread(() -> sampleActive(client, options.prometheus, measureFrom, end, maxActive),
+					"load-sampler");
+			sampler.setDaemon(true);
+			sampler.start();
+		}
+		done.await();
+
+		report(options, workers, maxActive.get());
+	}
+
+	private static void report(Options options, Worker[] workers, long maxActive) {
+		int count = 0;
+		for (Worker worker : workers) {
+			count += worker.count;
+		}
+		long[] latencies = new long[count];
+		int offset = 0;
+		Map<String, Long> statuses = new TreeMap<>();
+		for (Worker worker : workers) {
+			System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+			offset += worker.count;
+			worker.statuses.forEach((status, n) -> statuses.merge(status, n, Long::sum));
+		}
+		Arrays.sort(latencies);
+
+		System.out.printf("%s %s, %d workers, %ds measured after %ds warmup%n", options.method, options.url,
+				options.concurrency, options.durationSeconds, options.warmupSeconds);
+		System.out.printf("requests %d (%.1f/s), statuses %s%n", count, (double) count / options.durationSeconds,
+				statuses);
+		if (count > 0) {
+			System.out.printf("latency ms: p50 %.1f  p90 %.1f  p99 %.1f  p99.9 %.1f  max %.1f%n",
+					percentile(latencies, 0.50), percentile(latencies, 0.90), percentile(latencies, 0.99),
+					percentile(latencies, 0.999), latencies[count - 1] / 1e6);
+		}
+		if (maxActive >= 0) {
+			System.out.printf("server in-flight requests: max %d%n", maxActive);
+		}
+	}
+
+	private static double percentile(long[] sorted, double quantile) {
+		int index = (int) Math.ceil(quantile * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1e6;
+	}
+
+	private static void sampleActive(HttpClient client, String url, long from, long end, AtomicLong maxActive) {
+		HttpRequest scrape = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(5)).build();
+		while (System.nanoTime() < end) {
+			try {
+				Thread.sleep(100);
+				String body = client.send(scrape, HttpResponse.BodyHandlers.ofString()).body();
+				if (System.nanoTime() < from) {
+					continue;
+				}
+				Matcher matcher = ACTIVE_REQUESTS.matcher(body);
+				long active = 0;
+				while (matcher.find()) {
+					active += (long) Double.parseDouble(matcher.group(1));
+				}
+				// The scrape itself is one of them
+				maxActive.accumulateAndGet(active - 1, Math::max);
+			} catch (InterruptedException e) {
+				return;
+			} catch (Exception e) {
+				// A missed sample only lowers the observed maximum
+			}
+		}
+	}
+
+	private static final class Worker implements Runnable {
+
+		private final HttpClient client;
+		private final HttpRequest request;
+		private final long measureFrom;
+		private final long end;
+		private final CountDownLatch done;
+		private final Map<String, Long> statuses = new TreeMap<>();
+		private long[] latencies = new long[1024];
+		private int count;
+
+		Worker(HttpClient client, HttpRequest request, long measureFrom, long end, CountDownLatch done) {
+			this.client = client;
+			this.request = request;
+			this.measureFrom = measureFrom;
+			this.end = end;
+			this.done = done;
+		}
+
+		@Override
+		public void run() {
+			try {
+				long now;
+				while ((now = System.nanoTime()) < end) {
+					String status;
+					try {
+						status = String.valueOf(client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode());
+					} catch (Exception e) {
+						status = e.getClass().getSimpleName();
+					}
+					long finished = System.nanoTime();
+					if (now >= measureFrom && finished <= end) {
+						record(finished - now);
+						statuses.merge(status, 1L, Long::sum);
+					}
+				}
+			} finally {
+				done.countDown();
+			}
+		}
+
+		private void record(long nanos) {
+			if (count == latencies.length) {
+				latencies = Arrays.copyOf(latencies, count * 2);
+			}
+			latencies[count++] = nanos;
+		}
+	}
+
+	private static final class Options {
+
+		private String url;
+		private String method = "GET";
+		private String body;
+		private final List<String> headers = new ArrayList<>();
+		private int concurrency = 50;
+		private int durationSeconds = 30;
+		private int warmupSeconds = 10;
+		private String prometheus;
+
+		static Options parse(String[] args) {
+			Options options = new Options();
+			for (int i = 0; i < args.length; i++) {
+				String value = i + 1 < args.length ? args[i + 1] : null;
+				switch (args[i]) {
+					case "--url" -> options.url = value;
+					case "--method" -> options.method = value;
+					case "--body" -> options.body = value;
+					case "--header" -> options.headers.add(value);
+					case "--bearer" -> options.headers.add("Authorization:Bearer " + value);
+					case "--concurrency" -> options.concurrency = Integer.parseInt(value);
+					case "--duration" -> options.durationSeconds = Integer.parseInt(value);
+					case "--warmup" -> options.warmupSeconds = Integer.parseInt(value);
+					case "--prometheus" -> options.prometheus = value;
+					default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+				}
+				i++;
+			}
+			if (options.url == null) {
+				throw new IllegalArgumentException("--url is required");
+			}
+			return options;
+		}
+
+		HttpRequest request() {
+			HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30))
+					.method(method, body != null ? HttpRequest.BodyPublishers.ofString(body)
+							: HttpRequest.BodyPublishers.noBody());
+			if (body != null) {
+				builder.header("Content-Type", "application/json");
+			}
+			for (String header : headers) {
+				int colon = header.indexOf(':');
+				builder.header(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+			}
+			return builder.build();
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package com.growcorehub.config;
+
+import com.growcorehub.entity.User;
+import com.growcorehub.service.AccountStateRegistry;
+import com.growcorehub.service.TokenRevocationService;
+import com.growcorehub.util.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request in JwtAuthenticationFilter: verifying
+ * the access token, rebuilding the principal from its claims and checking the
+ * revocation filter and account version. None of it touches the database, so
+ * this is the whole per-request authentication cost; compare it with a
+ * single-row user lookup on the target database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+	private JwtAuthenticationFilter filter;
+	private String authorization;
+
+	@Setup
+	public void setUp() throws Exception {
+		JwtUtil jwtUtil = new JwtUtil();
+		ReflectionTestUtils.setField(jwtUtil, "jwtSecret",
+				"mySecretKey12345678901234567890123456789012345678901234567890");
+		ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 900_000L);
+		filter = new JwtAuthenticationFilter(jwtUtil, new TokenRevocationService(null),
+				new AccountStateRegistry(null));
+
+		User user = new User();
+		user.setId(42L);
+		user.setEmail("bench@example.com");
+		authorization = "Bearer " + jwtUtil.generateAccessToken(user, UUID.randomUUID().toString());
+
+		if (authenticate() == null) {
+			throw new IllegalStateException("Benchmark token was not accepted");
+		}
+	}
+
+	@Benchmark
+	public Authentication authenticate() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/profile");
+		request.addHeader("Authorization", authorization);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		SecurityContextHolder.clearContext();
+		return authentication;
+	}
+}
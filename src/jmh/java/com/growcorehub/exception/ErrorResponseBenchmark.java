@@ -0,0 +1,60 @@
+package com.growcorehub.exception;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.growcorehub.dto.response.ErrorResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One expected failure end to end, minus the servlet stack: throwing the
+ * business exception, handling it in GlobalExceptionHandler (including the
+ * sampled log line) and serializing the error body. Logging goes to the
+ * console at logback's defaults, so most lines are dropped by the sampler as
+ * they would be during an error storm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projects/999999");
+
+	@Benchmark
+	public byte[] notFound() throws Exception {
+		ResponseEntity<ErrorResponse> response;
+		try {
+			throw new ResourceNotFoundException("Project not found with id: 999999");
+		} catch (ResourceNotFoundException e) {
+			response = handler.handleResourceNotFound(e, request);
+		}
+		return objectMapper.writeValueAsBytes(response.getBody());
+	}
+
+	@Benchmark
+	public byte[] badRequest() throws Exception {
+		ResponseEntity<ErrorResponse> response;
+		try {
+			throw new BadRequestException("You have already applied to this project");
+		} catch (BadRequestException e) {
+			response = handler.handleBadRequest(e, request);
+		}
+		return objectMapper.writeValueAsBytes(response.getBody());
+	}
+}
@@ -0,0 +1,125 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.GrowcorehubApplication;
+import com.growcorehub.entity.Notification;
+import com.growcorehub.entity.User;
+import com.growcorehub.enums.NotificationAudience;
+import com.growcorehub.enums.NotificationType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting one notification for each of 1,000 users: entities through
+ * {@code saveAll} with Hibernate batching on ({@code batchSize} 50) and off
+ * (1), the JDBC batch behind direct sends, and the {@code INSERT ... SELECT}
+ * behind broadcasts. Runs the application context on in-memory H2 in MySQL
+ * mode, so it shows statement counts and id allocation, not MySQL round trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 8, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationInsertBenchmark {
+
+	private static final int RECIPIENTS = 1000;
+
+	@Param({ "50", "1" })
+	private int batchSize;
+
+	private ConfigurableApplicationContext context;
+	private NotificationRepository notificationRepository;
+	private UserRepository userRepository;
+	private TransactionTemplate transactionTemplate;
+	private JdbcTemplate jdbcTemplate;
+	private List<Long> userIds;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(GrowcorehubApplication.class).web(WebApplicationType.NONE).run(
+				"--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=VALUE;"
+						+ "DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+				"--spring.datasource.driver-class-name=org.h2.Driver", "--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+				"--spring.jpa.hibernate.ddl-auto=create", "--spring.jpa.show-sql=false", "--logging.level.root=WARN",
+				"--logging.level.org.hibernate.SQL=WARN", "--logging.level.org.hibernate.orm.jdbc.bind=WARN",
+				"--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize);
+		notificationRepository = context.getBean(NotificationRepository.class);
+		userRepository = context.getBean(UserRepository.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		List<User> users = new ArrayList<>(RECIPIENTS);
+		for (int i = 0; i < RECIPIENTS; i++) {
+			User user = new User();
+			user.setEmail("bench" + i + "@example.com");
+			user.setPassword("-");
+			user.setFirstName("Bench");
+			user.setLastName("User" + i);
+			users.add(user);
+		}
+		userIds = userRepository.saveAll(users).stream().map(User::getId).toList();
+	}
+
+	@TearDown(Level.Invocation)
+	public void clear() {
+		jdbcTemplate.update("DELETE FROM notifications");
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public int saveAll() {
+		return transactionTemplate.execute(status -> {
+			List<Notification> notifications = new ArrayList<>(RECIPIENTS);
+			for (Long userId : userIds) {
+				Notification notification = new Notification();
+				notification.setUser(userRepository.getReferenceById(userId));
+				notification.setTitle("Maintenance");
+				notification.setMessage("Scheduled maintenance tonight");
+				notification.setType(NotificationType.SYSTEM);
+				notifications.add(notification);
+			}
+			return notificationRepository.saveAll(notifications).size();
+		});
+	}
+
+	@Benchmark
+	public int insertForUsers() {
+		return transactionTemplate.execute(status -> notificationRepository
+				.insertForUsers(userIds, "Maintenance", "Scheduled maintenance tonight", NotificationType.SYSTEM)
+				.size());
+	}
+
+	@Benchmark
+	public int insertForAudience() {
+		return transactionTemplate.execute(status -> notificationRepository.insertForAudience(
+				NotificationAudience.ALL_ACTIVE, "Maintenance", "Scheduled maintenance tonight", NotificationType.SYSTEM)
+				.size());
+	}
+}
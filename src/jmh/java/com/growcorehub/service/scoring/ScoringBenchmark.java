@@ -0,0 +1,127 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growcorehub.entity.Assessment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoring one submission of a 10, 100 or 1,000-question assessment: the
+ * engine on single-choice questions against the map-based scoring it replaced
+ * (questions parsed once, as the scorer did per batch), the engine on a mix of
+ * every question type, and compiling the questions from JSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoringBenchmark {
+
+	private static final TypeReference<List<Map<String, Object>>> QUESTIONS = new TypeReference<>() {
+	};
+	private static final TypeReference<Map<String, Object>> ANSWERS = new TypeReference<>() {
+	};
+
+	@Param({ "10", "100", "1000" })
+	private int questions;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ScoringEngine engine = new ScoringEngine(
+			List.of(new SingleChoiceStrategy(), new MultiSelectStrategy(), new NumericStrategy()), objectMapper);
+
+	private Assessment singleChoice;
+	private Assessment mixed;
+	private Assessment uncached;
+	private String singleChoiceAnswers;
+	private String mixedAnswers;
+	private List<Map<String, Object>> parsedQuestions;
+
+	@Setup
+	public void setUp() throws Exception {
+		StringBuilder single = new StringBuilder("[");
+		StringBuilder singleAnswers = new StringBuilder("{");
+		StringBuilder mix = new StringBuilder("[");
+		StringBuilder mixAnswers = new StringBuilder("{");
+		for (int i = 0; i < questions; i++) {
+			String separator = i == 0 ? "" : ",";
+			// Two in three answered correctly
+			String answer = i % 3 == 0 ? "wrong" : "option" + i;
+			single.append(separator).append("{\"question\":\"Q").append(i).append("\",\"correctAnswer\":\"option")
+					.append(i).append("\"}");
+			singleAnswers.append(separator).append("\"question_").append(i).append("\":\"").append(answer)
+					.append('"');
+
+			mix.append(separator).append(switch (i % 3) {
+				case 0 -> "{\"correctAnswer\":\"option" + i + "\",\"weight\":2}";
+				case 1 -> "{\"type\":\"multi-select\",\"correctAnswers\":[\"a\",\"b\",\"c\",\"d\"]}";
+				default -> "{\"type\":\"numeric\",\"correctAnswer\":" + i + ",\"tolerance\":0.5}";
+			});
+			mixAnswers.append(separator).append("\"question_").append(i).append("\":").append(switch (i % 3) {
+				case 0 -> "\"" + answer + "\"";
+				case 1 -> "[\"a\",\"b\",\"x\"]";
+				default -> String.valueOf(i + 0.25);
+			});
+		}
+
+		singleChoice = assessment(1L, single.append(']').toString());
+		mixed = assessment(2L, mix.append(']').toString());
+		// No id, so it is compiled on every call
+		uncached = assessment(null, mixed.getQuestions());
+		singleChoiceAnswers = singleAnswers.append('}').toString();
+		mixedAnswers = mixAnswers.append('}').toString();
+		parsedQuestions = objectMapper.readValue(singleChoice.getQuestions(), QUESTIONS);
+	}
+
+	@Benchmark
+	public BigDecimal engine() {
+		return engine.score(singleChoice, singleChoiceAnswers);
+	}
+
+	@Benchmark
+	public BigDecimal legacy() throws Exception {
+		Map<String, Object> answers = objectMapper.readValue(singleChoiceAnswers, ANSWERS);
+		int correctAnswers = 0;
+		for (int i = 0; i < parsedQuestions.size(); i++) {
+			String correctAnswer = (String) parsedQuestions.get(i).get("correctAnswer");
+			String userAnswer = (String) answers.get("question_" + i);
+			if (correctAnswer != null && correctAnswer.equals(userAnswer)) {
+				correctAnswers++;
+			}
+		}
+		return new BigDecimal((correctAnswers * 100.0) / parsedQuestions.size());
+	}
+
+	@Benchmark
+	public BigDecimal engineMixed() {
+		return engine.score(mixed, mixedAnswers);
+	}
+
+	@Benchmark
+	public CompiledAssessment compile() {
+		return engine.compile(uncached);
+	}
+
+	private static Assessment assessment(Long id, String questions) {
+		Assessment assessment = new Assessment();
+		assessment.setId(id);
+		assessment.setQuestions(questions);
+		return assessment;
+	}
+}
@@ -0,0 +1,83 @@
+package com.growcorehub.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing one submission in the binary format against the JSON
+ * text it replaces, for 10, 100 and 1,000 answers: half single-choice, a
+ * quarter multi-select and a quarter numeric. Setup prints both sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnswerCodecBenchmark {
+
+	private static final String[] OPTIONS = { "Strongly agree", "Agree", "Neutral", "Disagree" };
+
+	@Param({ "10", "100", "1000" })
+	private int answers;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private String json;
+	private JsonNode tree;
+	private byte[] binary;
+
+	@Setup
+	public void setUp() throws Exception {
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < answers; i++) {
+			builder.append(i == 0 ? "" : ",").append("\"question_").append(i).append("\":");
+			switch (i % 4) {
+				case 0, 2 -> builder.append('"').append(OPTIONS[i % 3]).append('"');
+				case 1 -> builder.append("[\"").append(OPTIONS[0]).append("\",\"").append(OPTIONS[2]).append("\"]");
+				default -> builder.append(i * 7 % 100);
+			}
+		}
+		json = builder.append('}').toString();
+		tree = objectMapper.readTree(json);
+		binary = AnswerCodec.encode(tree);
+
+		int jsonBytes = json.getBytes(StandardCharsets.UTF_8).length;
+		System.out.printf("%n%d answers: %d bytes as JSON, %d bytes binary (%.1f%%)%n", answers, jsonBytes,
+				binary.length, 100.0 * binary.length / jsonBytes);
+	}
+
+	@Benchmark
+	public JsonNode decode() {
+		return AnswerCodec.decode(binary);
+	}
+
+	@Benchmark
+	public JsonNode parseJson() throws Exception {
+		return objectMapper.readTree(json);
+	}
+
+	@Benchmark
+	public byte[] encode() {
+		return AnswerCodec.encode(tree);
+	}
+
+	@Benchmark
+	public byte[] writeJson() throws Exception {
+		return objectMapper.writeValueAsBytes(tree);
+	}
+}
@@ -0,0 +1,56 @@
+package com.growcorehub.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of the skill leaderboards from certification rows, as
+ * LeaderboardService does once the rows are streamed in: one builder per
+ * skill, every row offered, then every board built. Rows are generated on the
+ * fly (20 skills, five certifications per user on average) so the input does
+ * not share the heap with the boards; the database read is not included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = { "-Xms3g", "-Xmx3g" })
+public class LeaderboardBenchmark {
+
+	private static final int SKILLS = 20;
+	private static final long EPOCH = 1_700_000_000_000L;
+
+	@Param({ "1000000", "10000000" })
+	private int rows;
+
+	@Benchmark
+	public Map<Integer, Leaderboard> coldLoad() {
+		SplittableRandom random = new SplittableRandom(42);
+		int users = rows / 5;
+		Map<Integer, Leaderboard.Builder> builders = new HashMap<>();
+		for (int i = 0; i < rows; i++) {
+			int skill = random.nextInt(SKILLS);
+			builders.computeIfAbsent(skill, ignored -> new Leaderboard.Builder()).offer(random.nextInt(users),
+					BigDecimal.valueOf(random.nextInt(10001), 2), EPOCH + random.nextInt(1_000_000_000));
+		}
+
+		Map<Integer, Leaderboard> boards = new HashMap<>();
+		builders.forEach((skill, builder) -> boards.put(skill, builder.build()));
+		return boards;
+	}
+}
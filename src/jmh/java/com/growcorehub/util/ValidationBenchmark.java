@@ -0,0 +1,94 @@
+package com.growcorehub.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * The scanners against the regex implementations they replaced, on
+ * pathological inputs at each validator's length limit: inputs that pass
+ * every character check and fail on the last one, so both sides scan it all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+	private static final Pattern PASSWORD_PATTERN = Pattern
+			.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)[a-zA-Z\\d@$!%*?&]{8,}$");
+
+	// 255 characters; every dot in the domain is a place for the regex to backtrack to
+	private final String email = "a".repeat(120) + "@" + "a.".repeat(66) + "a1";
+	// 100 characters, no uppercase letter
+	private final String password = "a1".repeat(50);
+	// 1000 characters, invalid last character
+	private final String skills = "java, spring-boot. ".repeat(52) + "kotlin, sql#";
+	// 1000 characters of whitespace runs and characters to strip
+	private final String input = "a \t\n<b>&'\"  ".repeat(83) + "tail";
+	private final String phone = "+1 (234) 567-89-01 ".repeat(3);
+
+	private final ValidationUtil validationUtil = new ValidationUtil();
+
+	@Benchmark
+	public boolean email() {
+		return validationUtil.isValidEmail(email);
+	}
+
+	@Benchmark
+	public boolean emailRegex() {
+		return email.length() <= 255 && EMAIL_PATTERN.matcher(email.trim()).matches();
+	}
+
+	@Benchmark
+	public boolean password() {
+		return validationUtil.isValidPassword(password);
+	}
+
+	@Benchmark
+	public boolean passwordRegex() {
+		return password.length() >= 8 && password.length() <= 100 && PASSWORD_PATTERN.matcher(password).matches();
+	}
+
+	@Benchmark
+	public boolean skills() {
+		return validationUtil.isValidSkills(skills);
+	}
+
+	@Benchmark
+	public boolean skillsRegex() {
+		return !skills.trim().isEmpty() && skills.length() <= 1000 && skills.matches("^[a-zA-Z0-9\\s,.-]+$");
+	}
+
+	@Benchmark
+	public String sanitize() {
+		return validationUtil.sanitizeInput(input);
+	}
+
+	@Benchmark
+	public String sanitizeRegex() {
+		return input.trim().replaceAll("[<>\"'&]", "").replaceAll("\\s+", " ");
+	}
+
+	@Benchmark
+	public String normalizePhone() {
+		return validationUtil.normalizePhone(phone);
+	}
+
+	@Benchmark
+	public String normalizePhoneRegex() {
+		return phone.replaceAll("[\\s()-]", "");
+	}
+}
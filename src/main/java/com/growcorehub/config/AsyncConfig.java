@@ -1,10 +1,66 @@
 package com.growcorehub.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import java.util.Map;
+
 @Configuration
 @EnableAsync
+@Slf4j
 public class AsyncConfig {
 	// Enable async processing for event listeners
-}
\ No newline at end of file
+
+	/**
+	 * Copies the caller's MDC (correlation id) onto @Async tasks. Picked up by the
+	 * auto-configured application task executor.
+	 */
+	@Bean
+	public TaskDecorator mdcTaskDecorator() {
+		return runnable -> {
+			Map<String, String> context = MDC.getCopyOfContextMap();
+			return () -> {
+				Map<String, String> previous = MDC.getCopyOfContextMap();
+				if (context != null) {
+					MDC.setContextMap(context);
+				} else {
+					MDC.clear();
+				}
+				try {
+					runnable.run();
+				} finally {
+					if (previous != null) {
+						MDC.setContextMap(previous);
+					} else {
+						MDC.clear();
+					}
+				}
+			};
+		};
+	}
+
+	/**
+	 * Reports which threading model serves requests; virtual threads are silently
+	 * ignored by Spring on runtimes older than Java 21.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void logThreadingModel(ApplicationReadyEvent event) {
+		Environment environment = event.getApplicationContext().getEnvironment();
+		boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+		if (Threading.VIRTUAL.isActive(environment)) {
+			log.info("Request handling and @Async tasks run on virtual threads");
+		} else if (requested) {
+			log.warn("Virtual threads requested but the runtime is Java {}; using platform threads",
+					Runtime.version().feature());
+		}
+	}
+}
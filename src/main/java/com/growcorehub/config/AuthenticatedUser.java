@@ -0,0 +1,49 @@
+package com.growcorehub.config;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * Principal rebuilt from access token claims, so authenticated requests do not
+ * need to load the user from the database.
+ */
+public class AuthenticatedUser implements UserDetails {
+
+	private final Long id;
+	private final String email;
+	private final int tokenVersion;
+	private final Collection<? extends GrantedAuthority> authorities;
+
+	public AuthenticatedUser(Long id, String email, int tokenVersion,
+			Collection<? extends GrantedAuthority> authorities) {
+		this.id = id;
+		this.email = email;
+		this.tokenVersion = tokenVersion;
+		this.authorities = authorities;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public int getTokenVersion() {
+		return tokenVersion;
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public String getPassword() {
+		return null;
+	}
+
+	@Override
+	public String getUsername() {
+		return email;
+	}
+}
@@ -0,0 +1,75 @@
+package com.growcorehub.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tags every request with a correlation id (taken from the caller or generated)
+ * that is put in the MDC, echoed back as a header and copied to @Async tasks.
+ * A configurable fraction of requests is logged with status and duration.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+	public static final String HEADER = "X-Correlation-Id";
+	public static final String MDC_KEY = "correlationId";
+
+	private static final int MAX_ID_LENGTH = 64;
+
+	@Value("${growcorehub.logging.request-sample-rate:0.01}")
+	private double sampleRate;
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull FilterChain filterChain) throws ServletException, IOException {
+
+		String correlationId = request.getHeader(HEADER);
+		if (!isValid(correlationId)) {
+			correlationId = UUID.randomUUID().toString();
+		}
+
+		MDC.put(MDC_KEY, correlationId);
+		response.setHeader(HEADER, correlationId);
+
+		boolean sampled = sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+		long start = sampled ? System.nanoTime() : 0L;
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (sampled) {
+				log.info("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), response.getStatus(),
+						(System.nanoTime() - start) / 1_000_000);
+			}
+			MDC.remove(MDC_KEY);
+		}
+	}
+
+	// Caller supplied ids end up in logs, so only accept short, plain tokens
+	private boolean isValid(String id) {
+		if (id == null || id.isEmpty() || id.length() > MAX_ID_LENGTH)
+			return false;
+
+		for (int i = 0; i < id.length(); i++) {
+			char c = id.charAt(i);
+			if (!Character.isLetterOrDigit(c) && c != '-' && c != '_' && c != '.')
+				return false;
+		}
+		return true;
+	}
+}
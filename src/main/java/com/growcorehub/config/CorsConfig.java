@@ -28,11 +28,11 @@ public class CorsConfig {
 		configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
 
 		// Allow specific headers
-		configuration
-				.setAllowedHeaders(Arrays.asList("authorization", "content-type", "x-auth-token", "cache-control"));
+		configuration.setAllowedHeaders(
+				Arrays.asList("authorization", "content-type", "x-auth-token", "cache-control", "x-correlation-id"));
 
 		// Expose headers to frontend
-		configuration.setExposedHeaders(Arrays.asList("x-auth-token"));
+		configuration.setExposedHeaders(Arrays.asList("x-auth-token", "x-correlation-id"));
 
 		// Allow credentials (cookies, authorization headers)
 		configuration.setAllowCredentials(true);
@@ -0,0 +1,144 @@
+package com.growcorehub.config;
+
+import org.hibernate.Interceptor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counts JDBC statements and entity loads for the current request thread, and
+ * tracks repeated SQL shapes to spot N+1 query loops. Registered with Hibernate
+ * as both statement inspector and interceptor.
+ */
+public class HibernateRequestStatistics implements StatementInspector, Interceptor {
+
+	private static final long serialVersionUID = 1L;
+
+	// Bounds the per-request shape map on endpoints issuing many distinct queries
+	private static final int MAX_TRACKED_SHAPES = 256;
+
+	private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+	private final boolean enforceBudgets;
+
+	public HibernateRequestStatistics(boolean enforceBudgets) {
+		this.enforceBudgets = enforceBudgets;
+	}
+
+	/**
+	 * Start counting for the current thread
+	 */
+	public static void begin() {
+		CURRENT.set(new Counts());
+	}
+
+	/**
+	 * Attach the endpoint's declared budget to the current request
+	 */
+	public static void applyBudget(QueryBudget budget) {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.budget = budget;
+		}
+	}
+
+	/**
+	 * Stop counting and return what was recorded, or null if counting was not
+	 * started on this thread
+	 */
+	public static Counts end() {
+		Counts counts = CURRENT.get();
+		CURRENT.remove();
+		return counts;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.record(sql);
+
+			if (enforceBudgets && counts.isOverBudget()) {
+				throw new QueryBudgetExceededException(counts.describe());
+			}
+		}
+		return sql;
+	}
+
+	@Override
+	public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+		Counts counts = CURRENT.get();
+		if (counts != null) {
+			counts.entityLoads++;
+		}
+		return false;
+	}
+
+	public static final class Counts {
+		private int statements;
+		private int entityLoads;
+		private int maxRepeats;
+		private String mostRepeatedSql;
+		private QueryBudget budget;
+		private final Map<String, Integer> shapes = new HashMap<>();
+
+		// Hibernate SQL is already parameterized, so identical strings are one shape
+		private void record(String sql) {
+			statements++;
+
+			Integer seen = shapes.get(sql);
+			if (seen == null && shapes.size() >= MAX_TRACKED_SHAPES) {
+				return;
+			}
+			int repeats = seen == null ? 1 : seen + 1;
+			shapes.put(sql, repeats);
+
+			if (repeats > maxRepeats) {
+				maxRepeats = repeats;
+				mostRepeatedSql = sql;
+			}
+		}
+
+		public int getStatements() {
+			return statements;
+		}
+
+		public int getEntityLoads() {
+			return entityLoads;
+		}
+
+		public int getMaxRepeats() {
+			return maxRepeats;
+		}
+
+		public String getMostRepeatedSql() {
+			return mostRepeatedSql;
+		}
+
+		public QueryBudget getBudget() {
+			return budget;
+		}
+
+		public boolean isOverBudget() {
+			return budget != null && (statements > budget.statements() || maxRepeats > budget.repeats());
+		}
+
+		public String describe() {
+			return String.format("%d statements, max %d repeats (budget %s): %s", statements, maxRepeats,
+					budget != null ? budget.statements() + "/" + budget.repeats() : "none", mostRepeatedSql);
+		}
+	}
+
+	/**
+	 * Raised in enforcing mode (tests) when an endpoint exceeds its budget
+	 */
+	public static class QueryBudgetExceededException extends IllegalStateException {
+		private static final long serialVersionUID = 1L;
+
+		public QueryBudgetExceededException(String message) {
+			super("Query budget exceeded: " + message);
+		}
+	}
+}
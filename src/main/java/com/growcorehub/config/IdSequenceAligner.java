@@ -0,0 +1,59 @@
+package com.growcorehub.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+
+/**
+ * Moves the emulated sequence tables past existing ids. Tables created before
+ * the switch from IDENTITY already hold rows, and a freshly created sequence
+ * table would otherwise hand out ids that are taken. Runs before the web server
+ * starts accepting requests, and a failure stops startup: the node would
+ * otherwise fail inserts with duplicate keys. Databases with native sequences
+ * have no sequence tables and are skipped.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner implements SmartInitializingSingleton {
+
+	private static final String[][] SEQUENCES = { { "notifications", "notifications_seq" },
+			{ "work_sessions", "work_sessions_seq" }, { "user_assessments", "user_assessments_seq" },
+			{ "certifications", "certifications_seq" } };
+
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		for (String[] sequence : SEQUENCES) {
+			try {
+				if (!isTable(sequence[1])) {
+					log.debug("No sequence table {}; the database has native sequences", sequence[1]);
+					continue;
+				}
+				// The pooled optimizer hands out (value - allocationSize, value], so stay a
+				// full block ahead of the highest existing id
+				int updated = jdbcTemplate.update("UPDATE " + sequence[1] + " SET next_val = GREATEST(next_val, "
+						+ "(SELECT COALESCE(MAX(id), 0) + 1 + ? FROM " + sequence[0] + "))",
+						PersistenceConfig.ID_ALLOCATION_SIZE);
+				log.debug("Aligned id sequence {} ({} rows)", sequence[1], updated);
+			} catch (Exception e) {
+				throw new IllegalStateException("Could not align id sequence " + sequence[1], e);
+			}
+		}
+	}
+
+	private boolean isTable(String name) {
+		return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			try (ResultSet tables = connection.getMetaData().getTables(connection.getCatalog(), null, name,
+					new String[] { "TABLE" })) {
+				return tables.next();
+			}
+		}));
+	}
+}
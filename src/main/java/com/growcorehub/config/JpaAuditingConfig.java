@@ -0,0 +1,13 @@
+package com.growcorehub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+/**
+ * Populates the {@code @CreatedDate} / {@code @LastModifiedDate} columns of the
+ * audited entities.
+ */
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
@@ -1,9 +1,12 @@
 package com.growcorehub.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growcorehub.dto.response.ErrorResponse;
+import com.growcorehub.util.LogSampler;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
@@ -11,31 +14,30 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
 
-	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final ObjectMapper objectMapper;
+
+	private final LogSampler logSampler = new LogSampler(5, 1000);
 
 	@Override
 	public void commence(HttpServletRequest request, HttpServletResponse response,
 			AuthenticationException authException) throws IOException, ServletException {
 
-		log.error("Unauthorized error: {}", authException.getMessage());
+		int suppressed = logSampler.acquire("unauthorized");
+		if (suppressed != LogSampler.SUPPRESSED) {
+			log.warn("Unauthorized error: {} ({} similar suppressed)", authException.getMessage(), suppressed);
+		}
 
 		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
 		response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
 
-		final Map<String, Object> body = new HashMap<>();
-		body.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-		body.put("error", "Unauthorized");
-		body.put("message", "Access denied. Please provide valid authentication credentials.");
-		body.put("path", request.getServletPath());
-		body.put("timestamp", LocalDateTime.now().toString());
+		ErrorResponse body = new ErrorResponse(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized",
+				"Access denied. Please provide valid authentication credentials.", request.getServletPath());
 
 		objectMapper.writeValue(response.getOutputStream(), body);
 	}
@@ -1,7 +1,11 @@
 package com.growcorehub.config;
 
-import com.growcorehub.service.UserService;
+import com.growcorehub.service.AccountStateRegistry;
+import com.growcorehub.service.TokenRevocationService;
 import com.growcorehub.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,73 +15,105 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	private static final String STREAM_PATH = "/api/notifications/stream";
+
 	private final JwtUtil jwtUtil;
-	private final UserService userService;
+	private final TokenRevocationService tokenRevocationService;
+	private final AccountStateRegistry accountStateRegistry;
 
 	@Override
 	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
 			@NonNull FilterChain filterChain) throws ServletException, IOException {
 
-		final String requestTokenHeader = request.getHeader("Authorization");
+		String requestTokenHeader = request.getHeader("Authorization");
+
+		// EventSource cannot set headers, so the notification stream may pass the
+		// access token as a query parameter instead
+		if (requestTokenHeader == null && STREAM_PATH.equals(request.getRequestURI())) {
+			String queryToken = request.getParameter("access_token");
+			if (StringUtils.hasText(queryToken)) {
+				requestTokenHeader = "Bearer " + queryToken;
+			}
+		}
 
-		String username = null;
-		String jwtToken = null;
+		AuthenticatedUser principal = null;
 
 		// JWT Token is in the form "Bearer token". Remove Bearer word and get only the
-		// Token
+		// Token. Only access tokens are accepted here - refresh and reset tokens are
+		// rejected by the type check.
 		if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-			jwtToken = requestTokenHeader.substring(7);
+			String jwtToken = requestTokenHeader.substring(7);
 			try {
-				username = jwtUtil.getEmailFromJwtToken(jwtToken);
-			} catch (Exception e) {
-				log.error("Unable to get JWT Token or JWT Token has expired", e);
+				Claims claims = jwtUtil.parseToken(jwtToken, JwtUtil.TYPE_ACCESS);
+
+				if (tokenRevocationService.isRevoked(claims.get(JwtUtil.CLAIM_SESSION, String.class))) {
+					log.debug("Rejected access token from revoked session");
+				} else {
+					principal = toPrincipal(claims);
+				}
+			} catch (JwtException | IllegalArgumentException | ClassCastException e) {
+				log.debug("Unable to get JWT Token or JWT Token has expired: {}", e.getMessage());
 			}
 		} else if (StringUtils.hasText(requestTokenHeader)) {
 			log.warn("JWT Token does not begin with Bearer String");
 		}
 
-		// Once we get the token validate it and set authentication
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-			try {
-				UserDetails userDetails = this.userService.loadUserByUsername(username);
-
-				// If token is valid configure Spring Security to manually set authentication
-				if (jwtUtil.validateJwtToken(jwtToken)) {
-					UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails,
-							null, userDetails.getAuthorities());
+		// The principal is rebuilt from the verified claims - no database lookup. The
+		// only account state checked is the in-memory token version.
+		if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+			if (accountStateRegistry.isCurrent(principal.getId(), principal.getTokenVersion())) {
+				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(principal,
+						null, principal.getAuthorities());
 
-					authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+				authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-					// After setting the Authentication in the context, we specify
-					// that the current user is authenticated. So it passes the Spring Security
-					// Configurations successfully.
-					SecurityContextHolder.getContext().setAuthentication(authToken);
-				}
-			} catch (Exception e) {
-				log.error("Cannot set user authentication", e);
+				// After setting the Authentication in the context, we specify
+				// that the current user is authenticated. So it passes the Spring Security
+				// Configurations successfully.
+				SecurityContextHolder.getContext().setAuthentication(authToken);
+			} else {
+				log.debug("Rejected access token with stale account version for user {}", principal.getId());
 			}
 		}
 
 		filterChain.doFilter(request, response);
 	}
 
+	private AuthenticatedUser toPrincipal(Claims claims) {
+		Number userId = claims.get(JwtUtil.CLAIM_USER_ID, Number.class);
+		Number version = claims.get(JwtUtil.CLAIM_VERSION, Number.class);
+		List<?> roles = claims.get(JwtUtil.CLAIM_ROLES, List.class);
+
+		if (userId == null || version == null || roles == null) {
+			throw new MalformedJwtException("Access token is missing principal claims");
+		}
+
+		List<SimpleGrantedAuthority> authorities = new ArrayList<>(roles.size());
+		for (Object role : roles) {
+			authorities.add(new SimpleGrantedAuthority(role.toString()));
+		}
+		return new AuthenticatedUser(userId.longValue(), claims.getSubject(), version.intValue(), authorities);
+	}
+
 	@Override
 	protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
 		String path = request.getRequestURI();
 		return path.startsWith("/api/auth/") || path.equals("/api/health") || path.startsWith("/swagger-")
-				|| path.startsWith("/v3/api-docs");
+				|| path.startsWith("/v3/api-docs") || path.startsWith("/actuator/");
 	}
 }
\ No newline at end of file
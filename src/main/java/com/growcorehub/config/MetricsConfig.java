@@ -0,0 +1,33 @@
+package com.growcorehub.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+	// Enables @Timed on service methods
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry registry) {
+		return new TimedAspect(registry);
+	}
+
+	@Bean
+	public HibernateRequestStatistics hibernateRequestStatistics(
+			@Value("${growcorehub.query-budget.enforce:false}") boolean enforceBudgets) {
+		return new HibernateRequestStatistics(enforceBudgets);
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer hibernateStatisticsCustomizer(HibernateRequestStatistics statistics) {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, statistics);
+			properties.put(AvailableSettings.INTERCEPTOR, statistics);
+		};
+	}
+}
@@ -0,0 +1,33 @@
+package com.growcorehub.config;
+
+import com.growcorehub.service.InMemoryNotificationBroker;
+import com.growcorehub.service.LocalUnreadCountStore;
+import com.growcorehub.service.NotificationBroker;
+import com.growcorehub.service.UnreadCountStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(NotificationRetentionProperties.class)
+public class NotificationConfig {
+
+	// Replaced by any other NotificationBroker bean (e.g. a shared pub/sub broker)
+	@Bean
+	@ConditionalOnMissingBean(NotificationBroker.class)
+	public NotificationBroker notificationBroker() {
+		return new InMemoryNotificationBroker();
+	}
+
+	// Replaced by any other UnreadCountStore bean (e.g. counters in a shared cache)
+	@Bean
+	@ConditionalOnMissingBean(UnreadCountStore.class)
+	public UnreadCountStore unreadCountStore(
+			@Value("${growcorehub.notifications.unread-cache.max-entries:200000}") int maxEntries,
+			MeterRegistry meterRegistry) {
+		return new LocalUnreadCountStore(maxEntries, meterRegistry);
+	}
+}
@@ -0,0 +1,53 @@
+package com.growcorehub.config;
+
+import com.growcorehub.enums.NotificationType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Notification retention policy. {@code defaults} applies to every type without
+ * an entry under {@code types}; a type entry replaces the whole policy.
+ */
+@Data
+@ConfigurationProperties(prefix = "growcorehub.notifications.retention")
+public class NotificationRetentionProperties {
+
+	private boolean enabled = true;
+
+	// Copy purged rows to notifications_archive before deleting them
+	private boolean archive = true;
+
+	// Rows per delete transaction; keeps row locks short
+	private int chunkSize = 500;
+
+	// Pause between chunks so replication and foreground queries keep up
+	private Duration chunkPause = Duration.ofMillis(100);
+
+	private int maxChunksPerRun = 200;
+
+	// Users checked against max-per-user per type and run
+	private int capCheckUsersPerRun = 100;
+
+	private Policy defaults = new Policy();
+
+	private Map<NotificationType, Policy> types = new EnumMap<>(NotificationType.class);
+
+	public Policy policyFor(NotificationType type) {
+		return types.getOrDefault(type, defaults);
+	}
+
+	@Data
+	public static class Policy {
+
+		private Duration readMaxAge = Duration.ofDays(90);
+
+		private Duration unreadMaxAge = Duration.ofDays(180);
+
+		// Newest notifications kept per user; 0 disables the cap
+		private int maxPerUser = 500;
+	}
+}
@@ -0,0 +1,27 @@
+package com.growcorehub.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many SQL statements an endpoint may issue per request, and how
+ * often a single statement shape may repeat before it is treated as an N+1.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface QueryBudget {
+
+	/**
+	 * Maximum JDBC statements per request
+	 */
+	int statements();
+
+	/**
+	 * Maximum executions of one identical SQL shape per request
+	 */
+	int repeats() default 3;
+}
@@ -0,0 +1,29 @@
+package com.growcorehub.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Attaches the handler's {@link QueryBudget} to the request's statistics
+ */
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+	@Override
+	public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull Object handler) {
+		if (handler instanceof HandlerMethod handlerMethod) {
+			QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+			if (budget == null) {
+				budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+			}
+			if (budget != null) {
+				HibernateRequestStatistics.applyBudget(budget);
+			}
+		}
+		return true;
+	}
+}
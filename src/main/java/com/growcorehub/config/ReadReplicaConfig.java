@@ -0,0 +1,73 @@
+package com.growcorehub.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+
+/**
+ * Read replica support, enabled by setting
+ * {@code growcorehub.datasource.replica.url}. The primary pool keeps the
+ * standard {@code spring.datasource.*} settings; the replica pool reuses the
+ * primary's credentials and driver properties unless overridden under
+ * {@code growcorehub.datasource.replica.*}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "growcorehub.datasource.replica.url")
+public class ReadReplicaConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	@ConfigurationProperties("growcorehub.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(DataSourceProperties properties,
+			@Qualifier("primaryDataSource") HikariDataSource primary,
+			@Value("${growcorehub.datasource.replica.url}") String url,
+			@Value("${growcorehub.datasource.replica.username:}") String username,
+			@Value("${growcorehub.datasource.replica.password:}") String password) {
+		HikariDataSource replica = DataSourceBuilder.create().type(HikariDataSource.class)
+				.driverClassName(properties.determineDriverClassName()).url(url)
+				.username(username.isEmpty() ? properties.determineUsername() : username)
+				.password(password.isEmpty() ? properties.determinePassword() : password).build();
+
+		// Same statement cache and driver tuning as the primary
+		replica.setDataSourceProperties(primary.getDataSourceProperties());
+		replica.setPoolName("growcorehub-replica");
+		replica.setReadOnly(true);
+		return replica;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${growcorehub.datasource.replica.read-your-writes-ms:2000}") long readYourWritesMs) {
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, readYourWritesMs,
+				ReadReplicaConfig::currentWriter);
+		routing.afterPropertiesSet();
+
+		// Connections are fetched on first use, after the transaction is marked
+		// read-only, so the router sees the final flag
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+
+	private static Object currentWriter() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+	}
+}
@@ -0,0 +1,96 @@
+package com.growcorehub.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the
+ * primary. Must sit behind a LazyConnectionDataSourceProxy so the route is
+ * chosen once the transaction's read-only flag is known.
+ * <p>
+ * After a committed read-write transaction, reads made on behalf of the same
+ * writer (see {@code writerKey}) stay on the primary for the read-your-writes
+ * window, hiding replication lag from the user who just wrote.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private static final int PRUNE_THRESHOLD = 10_000;
+
+	private final Supplier<Object> writerKey;
+	private final long readYourWritesNanos;
+
+	// Writer key -> nanoTime until which its reads are pinned to the primary
+	private final Map<Object, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, long readYourWritesMs,
+			Supplier<Object> writerKey) {
+		this.writerKey = writerKey;
+		this.readYourWritesNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+		setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		setLenientFallback(false);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return currentRoute();
+	}
+
+	public Route currentRoute() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			pinAfterCommit();
+			return Route.PRIMARY;
+		}
+		return isPinned() ? Route.PRIMARY : Route.REPLICA;
+	}
+
+	private void pinAfterCommit() {
+		if (readYourWritesNanos <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		Object key = writerKey.get();
+		if (key == null) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				long now = System.nanoTime();
+				pinnedUntil.put(key, now + readYourWritesNanos);
+				if (pinnedUntil.size() > PRUNE_THRESHOLD) {
+					pinnedUntil.values().removeIf(until -> until - now < 0);
+				}
+			}
+		});
+	}
+
+	private boolean isPinned() {
+		if (readYourWritesNanos <= 0 || pinnedUntil.isEmpty()) {
+			return false;
+		}
+		Object key = writerKey.get();
+		if (key == null) {
+			return false;
+		}
+		Long until = pinnedUntil.get(key);
+		if (until == null) {
+			return false;
+		}
+		if (until - System.nanoTime() < 0) {
+			pinnedUntil.remove(key, until);
+			return false;
+		}
+		return true;
+	}
+}
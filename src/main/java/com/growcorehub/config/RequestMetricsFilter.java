@@ -0,0 +1,134 @@
+package com.growcorehub.config;
+
+import com.growcorehub.util.LogSampler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Records how many JDBC statements and entity loads each request caused,
+ * tagged by the matched URI template and outcome, and flags requests that
+ * exceed their {@link QueryBudget} or repeat the same statement.
+ * <p>
+ * With {@code growcorehub.query-budget.response-headers} enabled (dev) the
+ * counts are also returned as response headers.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+	public static final String HEADER_STATEMENTS = "X-Query-Count";
+	public static final String HEADER_MAX_REPEATS = "X-Query-Max-Repeats";
+	public static final String HEADER_OVER_BUDGET = "X-Query-Over-Budget";
+
+	private final MeterRegistry meterRegistry;
+
+	private final LogSampler logSampler = new LogSampler(1, 10000);
+
+	@Value("${growcorehub.query-budget.response-headers:false}")
+	private boolean responseHeaders;
+
+	// Repeats of one statement shape that count as an N+1 when no budget is declared
+	@Value("${growcorehub.query-budget.repeat-threshold:5}")
+	private int repeatThreshold;
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull FilterChain filterChain) throws ServletException, IOException {
+
+		// Headers must be set before the body is committed, so buffer it in dev
+		ContentCachingResponseWrapper wrapper = responseHeaders ? new ContentCachingResponseWrapper(response) : null;
+
+		HibernateRequestStatistics.begin();
+		try {
+			filterChain.doFilter(request, wrapper != null ? wrapper : response);
+		} finally {
+			HibernateRequestStatistics.Counts counts = HibernateRequestStatistics.end();
+			if (counts != null) {
+				record(request, response.getStatus(), counts);
+
+				if (wrapper != null) {
+					wrapper.setHeader(HEADER_STATEMENTS, String.valueOf(counts.getStatements()));
+					wrapper.setHeader(HEADER_MAX_REPEATS, String.valueOf(counts.getMaxRepeats()));
+					if (counts.isOverBudget()) {
+						wrapper.setHeader(HEADER_OVER_BUDGET, "true");
+					}
+				}
+			}
+			if (wrapper != null) {
+				wrapper.copyBodyToResponse();
+			}
+		}
+	}
+
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+		// Long-lived event streams are neither counted nor buffered
+		String uri = request.getRequestURI();
+		return uri.startsWith("/actuator") || uri.endsWith("/stream");
+	}
+
+	private void record(HttpServletRequest request, int status, HibernateRequestStatistics.Counts counts) {
+		String uri = uriTemplate(request);
+		String outcome = outcome(status);
+
+		DistributionSummary.builder("growcorehub.request.jdbc.statements")
+				.description("JDBC statements executed per request").tags("uri", uri, "outcome", outcome)
+				.publishPercentileHistogram().register(meterRegistry).record(counts.getStatements());
+
+		DistributionSummary.builder("growcorehub.request.entity.loads")
+				.description("Hibernate entity loads per request").tags("uri", uri, "outcome", outcome)
+				.publishPercentileHistogram().register(meterRegistry).record(counts.getEntityLoads());
+
+		if (counts.isOverBudget()) {
+			Counter.builder("growcorehub.request.query.budget.exceeded")
+					.description("Requests exceeding their declared query budget").tags("uri", uri)
+					.register(meterRegistry).increment();
+			warn(uri, "Query budget exceeded on {}: {}", counts);
+		} else if (counts.getBudget() == null && counts.getMaxRepeats() >= repeatThreshold) {
+			Counter.builder("growcorehub.request.query.repeated")
+					.description("Requests repeating one statement shape (likely N+1)").tags("uri", uri)
+					.register(meterRegistry).increment();
+			warn(uri, "Repeated statement on {}: {}", counts);
+		}
+	}
+
+	private void warn(String uri, String format, HibernateRequestStatistics.Counts counts) {
+		if (logSampler.acquire(uri) != LogSampler.SUPPRESSED) {
+			log.warn(format, uri, counts.describe());
+		}
+	}
+
+	private String uriTemplate(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+
+	private String outcome(int status) {
+		if (status >= 500)
+			return "SERVER_ERROR";
+		if (status >= 400)
+			return "CLIENT_ERROR";
+		if (status >= 300)
+			return "REDIRECTION";
+		return "SUCCESS";
+	}
+}
@@ -0,0 +1,10 @@
+package com.growcorehub.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+	// Enable scheduled maintenance jobs (token revocation refresh, cleanup)
+}
@@ -1,6 +1,7 @@
 package com.growcorehub.config;
 
 import com.growcorehub.service.UserService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -65,10 +66,19 @@ public class SecurityConfig {
 
 				// Authorization rules
 				.authorizeHttpRequests(authz -> authz
+						// Async dispatches of already authorized requests (event streams)
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
 						// Public endpoints
 						.requestMatchers("/api/auth/**").permitAll().requestMatchers("/api/health").permitAll()
 						.requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
+						// Health and Prometheus scrape endpoints (restrict at the network level)
+						.requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+
+						// Third parties verify certification codes without an account
+						.requestMatchers(HttpMethod.GET, "/api/certifications/verify/**").permitAll()
+
 						// Public read access to projects (for browsing)
 						.requestMatchers(HttpMethod.GET, "/api/projects/**").permitAll()
 
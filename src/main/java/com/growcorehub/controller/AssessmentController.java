@@ -1,9 +1,16 @@
 package com.growcorehub.controller;
 
 import com.growcorehub.dto.request.AssessmentSubmissionRequest;
+import com.growcorehub.dto.request.SaveAnswersRequest;
+import com.growcorehub.dto.response.AssessmentAttemptResponse;
 import com.growcorehub.dto.response.AssessmentResponse;
+import com.growcorehub.dto.response.AssessmentResultResponse;
+import com.growcorehub.dto.response.ScoreDistributionResponse;
+import com.growcorehub.service.AssessmentAttemptService;
 import com.growcorehub.service.AssessmentService;
+import com.growcorehub.service.ScoreDistributionService;
 import jakarta.validation.Valid;
+import com.growcorehub.config.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,6 +25,8 @@ import java.util.List;
 public class AssessmentController {
 
 	private final AssessmentService assessmentService;
+	private final AssessmentAttemptService assessmentAttemptService;
+	private final ScoreDistributionService scoreDistributionService;
 
 	@GetMapping("/project/{projectId}")
 	public ResponseEntity<List<AssessmentResponse>> getAssessmentsByProject(@PathVariable Long projectId,
@@ -29,18 +38,57 @@ public class AssessmentController {
 	}
 
 	@GetMapping("/{id}")
+	@QueryBudget(statements = 4)
 	public ResponseEntity<AssessmentResponse> getAssessmentById(@PathVariable Long id, Authentication authentication) {
 
 		AssessmentResponse assessment = assessmentService.getAssessmentById(id, authentication.getName());
 		return ResponseEntity.ok(assessment);
 	}
 
+	@PostMapping("/{id}/start")
+	public ResponseEntity<AssessmentAttemptResponse> startAttempt(@PathVariable Long id,
+			Authentication authentication) {
+
+		return ResponseEntity.ok(assessmentAttemptService.startAttempt(id, authentication.getName()));
+	}
+
+	@GetMapping("/{id}/attempt")
+	public ResponseEntity<AssessmentAttemptResponse> getAttempt(@PathVariable Long id,
+			Authentication authentication) {
+
+		return ResponseEntity.ok(assessmentAttemptService.getAttempt(id, authentication.getName()));
+	}
+
+	@PutMapping("/{id}/answers")
+	public ResponseEntity<AssessmentAttemptResponse> saveAnswers(@PathVariable Long id,
+			@Valid @RequestBody SaveAnswersRequest request, Authentication authentication) {
+
+		return ResponseEntity.ok(assessmentAttemptService.saveAnswers(id, request, authentication.getName()));
+	}
+
+	/**
+	 * Scoring is asynchronous: poll this, or listen for assessment-scored events
+	 * on the notification stream
+	 */
+	@GetMapping("/{id}/result")
+	public ResponseEntity<AssessmentResultResponse> getResult(@PathVariable Long id, Authentication authentication) {
+
+		return ResponseEntity.ok(assessmentService.getResult(id, authentication.getName()));
+	}
+
+	@GetMapping("/{id}/distribution")
+	public ResponseEntity<ScoreDistributionResponse> getDistribution(@PathVariable Long id,
+			Authentication authentication) {
+
+		return ResponseEntity.ok(scoreDistributionService.getDistribution(id, authentication.getName()));
+	}
+
 	@PostMapping("/{id}/submit")
 	public ResponseEntity<AssessmentResponse> submitAssessment(@PathVariable Long id,
 			@Valid @RequestBody AssessmentSubmissionRequest request, Authentication authentication) {
 
 		request.setAssessmentId(id);
-		AssessmentResponse response = assessmentService.submitAssessment(request, authentication.getName());
+		AssessmentResponse response = assessmentAttemptService.submitAssessment(request, authentication.getName());
 		return ResponseEntity.ok(response);
 	}
 }
\ No newline at end of file
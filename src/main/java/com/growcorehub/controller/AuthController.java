@@ -23,14 +23,14 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
-        log.info("Login request received for email: {}", request.getEmail());
+        log.debug("Login request received for email: {}", request.getEmail());
         AuthResponse response = authService.login(request);
         return ResponseEntity.ok(response);
     }
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
-        log.info("Registration request received for email: {}", request.getEmail());
+        log.debug("Registration request received for email: {}", request.getEmail());
         AuthResponse response = authService.register(request);
         
         // Return 201 Created for successful registration
@@ -39,14 +39,20 @@ public class AuthController {
 
     @PostMapping("/refresh")
     public ResponseEntity<AuthResponse> refreshToken(@RequestBody String refreshToken) {
-        log.info("Token refresh request received");
+        log.debug("Token refresh request received");
         AuthResponse response = authService.refreshToken(refreshToken);
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestBody String refreshToken) {
+        authService.logout(refreshToken);
+        return ResponseEntity.ok("Logged out successfully.");
+    }
+
     @PostMapping("/forgot-password")
     public ResponseEntity<String> forgotPassword(@RequestParam String email) {
-        log.info("Password reset request for email: {}", email);
+        log.debug("Password reset request for email: {}", email);
         authService.initiatePasswordReset(email);
         return ResponseEntity.ok("If the email exists, a password reset link has been sent.");
     }
@@ -55,7 +61,7 @@ public class AuthController {
     public ResponseEntity<String> resetPassword(
             @RequestParam String token, 
             @RequestParam String newPassword) {
-        log.info("Password reset attempt with token");
+        log.debug("Password reset attempt with token");
         authService.resetPassword(token, newPassword);
         return ResponseEntity.ok("Password has been reset successfully.");
     }
@@ -0,0 +1,65 @@
+package com.growcorehub.controller;
+
+import com.growcorehub.config.QueryBudget;
+import com.growcorehub.dto.response.CertificationResponse;
+import com.growcorehub.dto.response.LeaderboardEntryResponse;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.service.CertificationService;
+import com.growcorehub.service.LeaderboardService;
+import com.growcorehub.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/certifications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class CertificationController {
+
+	private final CertificationService certificationService;
+	private final LeaderboardService leaderboardService;
+	private final UserService userService;
+
+	@GetMapping("/my")
+	@QueryBudget(statements = 5)
+	public ResponseEntity<List<CertificationResponse>> getMyCertifications(Authentication authentication) {
+		return ResponseEntity.ok(certificationService.getUserCertifications(authentication.getName()));
+	}
+
+	/**
+	 * Public check of a verification code. Invalid codes and removed
+	 * certifications get the same 404.
+	 */
+	@GetMapping("/verify/{code}")
+	@QueryBudget(statements = 1)
+	public ResponseEntity<CertificationResponse> verify(@PathVariable String code) {
+		CertificationResponse certification = certificationService.verify(code)
+				.orElseThrow(() -> new ResourceNotFoundException("Certification not found"));
+		return ResponseEntity.ok().cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+				.body(certification);
+	}
+
+	/**
+	 * Best score per user in a skill, highest first
+	 */
+	@GetMapping("/leaderboard")
+	@QueryBudget(statements = 2)
+	public ResponseEntity<Page<LeaderboardEntryResponse>> getLeaderboard(@RequestParam String skill,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(leaderboardService.getTop(skill, page, size));
+	}
+
+	@GetMapping("/leaderboard/me")
+	@QueryBudget(statements = 2)
+	public ResponseEntity<LeaderboardEntryResponse> getMyRank(@RequestParam String skill,
+			Authentication authentication) {
+		return ResponseEntity.ok(leaderboardService.getRank(skill, userService.findByEmail(authentication.getName())));
+	}
+}
@@ -3,8 +3,10 @@ package com.growcorehub.controller;
 import com.growcorehub.dto.response.DashboardResponse;
 import com.growcorehub.entity.*;
 import com.growcorehub.enums.ApplicationStatus;
+import com.growcorehub.enums.ScoringStatus;
 import com.growcorehub.repository.*;
 import com.growcorehub.service.UserService;
+import com.growcorehub.config.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +32,7 @@ public class DashboardController {
 	private final NotificationRepository notificationRepository;
 
 	@GetMapping("/summary")
+	@QueryBudget(statements = 8)
 	public ResponseEntity<DashboardResponse> getDashboardSummary(Authentication authentication) {
 		User user = userService.findByEmail(authentication.getName());
 
@@ -50,7 +53,8 @@ public class DashboardController {
 		response.setTotalHoursWorked(totalHours);
 
 		// Average score
-		List<UserAssessment> userAssessments = userAssessmentRepository.findByUserId(user.getId());
+		List<UserAssessment> userAssessments = userAssessmentRepository.findByUserId(user.getId()).stream()
+				.filter(userAssessment -> userAssessment.getStatus() != ScoringStatus.PENDING).toList();
 		if (!userAssessments.isEmpty()) {
 			BigDecimal averageScore = userAssessments.stream().map(UserAssessment::getScore)
 					.reduce(BigDecimal.ZERO, BigDecimal::add).divide(new BigDecimal(userAssessments.size()));
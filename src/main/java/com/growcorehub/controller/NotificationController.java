@@ -0,0 +1,93 @@
+package com.growcorehub.controller;
+
+import com.growcorehub.config.AuthenticatedUser;
+import com.growcorehub.config.QueryBudget;
+import com.growcorehub.dto.request.BroadcastNotificationRequest;
+import com.growcorehub.dto.request.MarkNotificationsReadRequest;
+import com.growcorehub.dto.response.NotificationResponse;
+import com.growcorehub.enums.NotificationType;
+import com.growcorehub.service.NotificationService;
+import com.growcorehub.service.NotificationStreamHub;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class NotificationController {
+
+	private final NotificationService notificationService;
+	private final NotificationStreamHub notificationStreamHub;
+
+	@GetMapping
+	@QueryBudget(statements = 3)
+	public ResponseEntity<Page<NotificationResponse>> getNotifications(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size, Authentication authentication) {
+		Page<NotificationResponse> notifications = notificationService
+				.getNotificationResponses(currentUserId(authentication), PageRequest.of(page, Math.min(size, 100)));
+		return ResponseEntity.ok(notifications);
+	}
+
+	@GetMapping("/unread-count")
+	@QueryBudget(statements = 1)
+	public ResponseEntity<Map<String, Long>> getUnreadCount(Authentication authentication) {
+		long count = notificationService.getUnreadNotificationCount(currentUserId(authentication));
+		return ResponseEntity.ok(Map.of("count", count));
+	}
+
+	@PutMapping("/{id}/read")
+	@QueryBudget(statements = 2)
+	public ResponseEntity<Void> markAsRead(@PathVariable Long id, Authentication authentication) {
+		notificationService.markAsRead(id, currentUserId(authentication));
+		return ResponseEntity.noContent().build();
+	}
+
+	@PutMapping("/read")
+	@QueryBudget(statements = 1)
+	public ResponseEntity<Map<String, Integer>> markAsRead(@Valid @RequestBody MarkNotificationsReadRequest request,
+			Authentication authentication) {
+		int updated = notificationService.markAsRead(request.getIds(), currentUserId(authentication));
+		return ResponseEntity.ok(Map.of("updated", updated));
+	}
+
+	@PutMapping("/read-all")
+	@QueryBudget(statements = 1)
+	public ResponseEntity<Map<String, Integer>> markAllAsRead(Authentication authentication) {
+		int updated = notificationService.markAllAsRead(currentUserId(authentication));
+		return ResponseEntity.ok(Map.of("updated", updated));
+	}
+
+	@PostMapping("/broadcast")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<Map<String, Integer>> broadcast(@Valid @RequestBody BroadcastNotificationRequest request) {
+		int recipients = notificationService.broadcast(request.getAudience(), request.getTitle(),
+				request.getMessage(), request.getType() != null ? request.getType() : NotificationType.SYSTEM);
+		return ResponseEntity.ok(Map.of("recipients", recipients));
+	}
+
+	/**
+	 * Server-sent events replacing unread-count polling. Emits
+	 * {@code unread-count} on connect, then {@code notification}, {@code read}
+	 * and {@code resync} events.
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(Authentication authentication) {
+		Long userId = currentUserId(authentication);
+		return notificationStreamHub.open(userId, notificationService.getUnreadNotificationCount(userId));
+	}
+
+	private Long currentUserId(Authentication authentication) {
+		return ((AuthenticatedUser) authentication.getPrincipal()).getId();
+	}
+}
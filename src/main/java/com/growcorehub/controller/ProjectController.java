@@ -1,6 +1,9 @@
 package com.growcorehub.controller;
 
+import com.growcorehub.dto.request.BulkReviewRequest;
 import com.growcorehub.dto.request.ProjectApplicationRequest;
+import com.growcorehub.dto.response.ApplicantRankingResponse;
+import com.growcorehub.dto.response.BulkReviewResponse;
 import com.growcorehub.dto.response.ProjectResponse;
 import com.growcorehub.entity.ProjectApplication;
 import com.growcorehub.entity.User;
@@ -9,16 +12,22 @@ import com.growcorehub.exception.BadRequestException;
 import com.growcorehub.exception.ResourceNotFoundException;
 import com.growcorehub.repository.ProjectApplicationRepository;
 import com.growcorehub.repository.ProjectRepository;
+import com.growcorehub.service.ApplicantRankingService;
+import com.growcorehub.service.ApplicationReviewService;
+import com.growcorehub.service.EligibilityService;
 import com.growcorehub.service.EmailService;
 import com.growcorehub.service.NotificationService;
 import com.growcorehub.service.ProjectService;
 import com.growcorehub.service.UserService;
+import com.growcorehub.config.QueryBudget;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
@@ -36,8 +45,13 @@ public class ProjectController {
 	private final UserService userService;
 	private final NotificationService notificationService;
 	private final EmailService emailService;
+	private final ApplicantRankingService applicantRankingService;
+	private final ApplicationReviewService applicationReviewService;
+	private final EligibilityService eligibilityService;
 
 	@GetMapping
+	// Assessments are loaded for the whole page and eligibility is cached, so no statement repeats per project
+	@QueryBudget(statements = 12, repeats = 2)
 	public ResponseEntity<Page<ProjectResponse>> getAllProjects(@RequestParam(required = false) String category,
 			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size,
 			@RequestParam(defaultValue = "createdAt") String sortBy,
@@ -54,6 +68,7 @@ public class ProjectController {
 	}
 
 	@GetMapping("/{id}")
+	@QueryBudget(statements = 10)
 	public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, Authentication authentication) {
 
 		String userEmail = authentication != null ? authentication.getName() : null;
@@ -62,6 +77,7 @@ public class ProjectController {
 	}
 
 	@PostMapping("/{id}/apply")
+	@QueryBudget(statements = 10)
 	public ResponseEntity<String> applyToProject(@PathVariable Long id, Authentication authentication) {
 
 		User user = userService.findByEmail(authentication.getName());
@@ -82,6 +98,8 @@ public class ProjectController {
 		application.setProject(projectRepository.findById(id).get());
 		application.setApplicationStatus(ApplicationStatus.APPLIED);
 		applicationRepository.save(application);
+		applicantRankingService.rescore(List.of(application.getId()));
+		eligibilityService.invalidateAfterCommit(List.of(user.getId()));
 
 		// Send notification and email
 		String projectTitle = projectRepository.findById(id).get().getTitle();
@@ -90,7 +108,37 @@ public class ProjectController {
 		return ResponseEntity.ok("Application submitted successfully");
 	}
 
+	/**
+	 * Open applications ranked by assessment score, best first; applicants below
+	 * the project's minimum score are left out
+	 */
+	@GetMapping("/{id}/applicants/top")
+	@PreAuthorize("hasRole('ADMIN')")
+	@QueryBudget(statements = 4)
+	public ResponseEntity<Page<ApplicantRankingResponse>> getTopApplicants(@PathVariable Long id,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(applicantRankingService.getTopApplicants(id, page, size));
+	}
+
+	/**
+	 * Moves matching applications to another status in the background; poll the
+	 * returned handle for progress
+	 */
+	@PostMapping("/{id}/applications/bulk-review")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<BulkReviewResponse> startBulkReview(@PathVariable Long id,
+			@Valid @RequestBody BulkReviewRequest request) {
+		return ResponseEntity.accepted().body(applicationReviewService.startReview(id, request));
+	}
+
+	@GetMapping("/{id}/applications/bulk-review/{reviewId}")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<BulkReviewResponse> getBulkReview(@PathVariable Long id, @PathVariable String reviewId) {
+		return ResponseEntity.ok(applicationReviewService.getReview(id, reviewId));
+	}
+
 	@GetMapping("/my-applications")
+	@QueryBudget(statements = 10, repeats = 2)
 	public ResponseEntity<List<ProjectResponse>> getMyApplications(Authentication authentication) {
 		List<ProjectResponse> applications = projectService.getUserApplications(authentication.getName());
 		return ResponseEntity.ok(applications);
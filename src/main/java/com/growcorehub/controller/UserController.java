@@ -3,6 +3,7 @@ package com.growcorehub.controller;
 import com.growcorehub.dto.request.ProfileUpdateRequest;
 import com.growcorehub.dto.response.UserResponse;
 import com.growcorehub.service.UserService;
+import com.growcorehub.config.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -17,6 +18,7 @@ public class UserController {
     private final UserService userService;
 
     @GetMapping("/profile")
+    @QueryBudget(statements = 3)
     public ResponseEntity<UserResponse> getProfile(Authentication authentication) {
         UserResponse response = userService.getUserProfile(authentication.getName());
         return ResponseEntity.ok(response);
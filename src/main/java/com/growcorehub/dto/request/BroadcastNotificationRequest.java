@@ -0,0 +1,23 @@
+package com.growcorehub.dto.request;
+
+import com.growcorehub.enums.NotificationAudience;
+import com.growcorehub.enums.NotificationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class BroadcastNotificationRequest {
+	@NotNull
+	private NotificationAudience audience;
+
+	@NotBlank
+	@Size(max = 255)
+	private String title;
+
+	@NotBlank
+	private String message;
+
+	private NotificationType type = NotificationType.SYSTEM;
+}
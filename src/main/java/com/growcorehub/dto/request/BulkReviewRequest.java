@@ -0,0 +1,35 @@
+package com.growcorehub.dto.request;
+
+import com.growcorehub.enums.ApplicationStatus;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Moves every application of a project in {@code fromStatus} to
+ * {@code toStatus}, optionally only those with a score at or above
+ * {@code minimumScore} or only the listed applications
+ */
+@Data
+public class BulkReviewRequest {
+	// Defaults when omitted; an explicit null is rejected
+	@NotNull
+	private ApplicationStatus fromStatus = ApplicationStatus.APPLIED;
+
+	@NotNull
+	private ApplicationStatus toStatus;
+
+	@DecimalMin("0")
+	@DecimalMax("100")
+	private BigDecimal minimumScore;
+
+	@Size(max = 10000)
+	private List<Long> applicationIds;
+
+	private boolean notify = true;
+}
@@ -0,0 +1,12 @@
+package com.growcorehub.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class SaveAnswersRequest {
+	@NotNull
+	@Size(max = 65535)
+	private String answers; // JSON string
+}
@@ -0,0 +1,18 @@
+package com.growcorehub.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class ApplicantRankingResponse {
+	private int rank;
+	private Long applicationId;
+	private Long userId;
+	private String firstName;
+	private String lastName;
+	private String email;
+	private BigDecimal score;
+	private LocalDateTime appliedAt;
+}
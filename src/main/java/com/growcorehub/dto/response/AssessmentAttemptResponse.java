@@ -0,0 +1,18 @@
+package com.growcorehub.dto.response;
+
+import com.growcorehub.enums.AttemptStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AssessmentAttemptResponse {
+	private Long id;
+	private Long assessmentId;
+	private AttemptStatus status;
+	private LocalDateTime startedAt;
+	private LocalDateTime deadline;
+	private Long remainingSeconds;
+	private String answers;
+	private LocalDateTime savedAt;
+}
@@ -1,5 +1,6 @@
 package com.growcorehub.dto.response;
 
+import com.growcorehub.enums.ScoringStatus;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -15,7 +16,8 @@ public class AssessmentResponse {
 	private BigDecimal maxScore;
 	private Integer timeLimitMinutes;
 	private Boolean isCompleted;
-	private BigDecimal userScore;
+	private ScoringStatus scoringStatus;
+	private BigDecimal userScore; // null while scoring is pending
 	private LocalDateTime completedAt;
 }
 
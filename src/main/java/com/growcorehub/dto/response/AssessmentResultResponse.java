@@ -0,0 +1,17 @@
+package com.growcorehub.dto.response;
+
+import com.growcorehub.enums.ScoringStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class AssessmentResultResponse {
+	private Long assessmentId;
+	private ScoringStatus status;
+	private BigDecimal score; // null while pending
+	private Boolean certified;
+	private LocalDateTime submittedAt;
+	private LocalDateTime scoredAt;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 @AllArgsConstructor
 public class AuthResponse {
 	private String token;
+	private String refreshToken;
 	private String type = "Bearer";
 	private UserResponse user;
 
@@ -14,4 +15,10 @@ public class AuthResponse {
 		this.token = token;
 		this.user = user;
 	}
+
+	public AuthResponse(String token, String refreshToken, UserResponse user) {
+		this.token = token;
+		this.refreshToken = refreshToken;
+		this.user = user;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.growcorehub.dto.response;
+
+import com.growcorehub.enums.ApplicationStatus;
+import com.growcorehub.enums.BulkReviewState;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BulkReviewResponse {
+	private String id;
+	private Long projectId;
+	private ApplicationStatus fromStatus;
+	private ApplicationStatus toStatus;
+	private BulkReviewState state;
+	private long matched; // applications matching when the review started
+	private long updated;
+	private long skipped; // no longer matching, or changed by someone else, when their chunk ran
+	private int chunks;
+	private LocalDateTime startedAt;
+	private LocalDateTime finishedAt;
+	private String error;
+}
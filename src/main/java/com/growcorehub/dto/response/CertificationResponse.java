@@ -0,0 +1,16 @@
+package com.growcorehub.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class CertificationResponse {
+	private Long id;
+	private String holderName;
+	private String skillName;
+	private BigDecimal score;
+	private LocalDateTime earnedAt;
+	private String verificationCode;
+}
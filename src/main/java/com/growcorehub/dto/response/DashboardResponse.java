@@ -3,7 +3,6 @@ package com.growcorehub.dto.response;
 import lombok.Data;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
@@ -18,19 +17,3 @@ public class DashboardResponse {
 	private List<NotificationResponse> recentNotifications;
 }
 
-@Data
-class CertificationResponse {
-	private Long id;
-	private String skillName;
-	private BigDecimal score;
-	private LocalDateTime earnedAt;
-}
-
-@Data
-class NotificationResponse {
-	private Long id;
-	private String title;
-	private String message;
-	private Boolean isRead;
-	private LocalDateTime createdAt;
-}
\ No newline at end of file
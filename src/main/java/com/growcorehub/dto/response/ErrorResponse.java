@@ -0,0 +1,23 @@
+package com.growcorehub.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Error body returned by every failure path. Immutable and serialized directly,
+ * field errors are only included for validation failures.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ErrorResponse(LocalDateTime timestamp, int status, String error, String message, String path,
+		Map<String, String> errors) {
+
+	public ErrorResponse(int status, String error, String message, String path) {
+		this(LocalDateTime.now(), status, error, message, path, null);
+	}
+
+	public ErrorResponse(int status, String error, String message, String path, Map<String, String> errors) {
+		this(LocalDateTime.now(), status, error, message, path, errors);
+	}
+}
@@ -0,0 +1,15 @@
+package com.growcorehub.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+public class LeaderboardEntryResponse {
+	private long rank;
+	private Long userId;
+	private String name;
+	private BigDecimal score;
+	private LocalDateTime earnedAt;
+}
@@ -0,0 +1,16 @@
+package com.growcorehub.dto.response;
+
+import com.growcorehub.enums.NotificationType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class NotificationResponse {
+	private Long id;
+	private String title;
+	private String message;
+	private NotificationType type;
+	private Boolean isRead;
+	private LocalDateTime createdAt;
+}
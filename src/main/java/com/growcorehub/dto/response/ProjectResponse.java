@@ -28,4 +28,6 @@ public class ProjectResponse {
 	private ApplicationStatus applicationStatus;
 	private LocalDateTime appliedAt;
 	private BigDecimal assessmentScore;
+	private Boolean canApply;
+	private Boolean meetsMinimumScore;
 }
\ No newline at end of file
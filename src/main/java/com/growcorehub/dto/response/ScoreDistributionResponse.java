@@ -0,0 +1,18 @@
+package com.growcorehub.dto.response;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+public class ScoreDistributionResponse {
+	private Long assessmentId;
+	private Long count;
+	private BigDecimal mean;
+	private Map<String, BigDecimal> percentiles; // p10 ... p90, at 0.1 resolution
+	private BigDecimal minimumScore; // of the assessment's project
+	private BigDecimal passRate; // percentage at or above minimumScore
+	private BigDecimal userScore;
+	private BigDecimal userPercentile;
+}
@@ -1,5 +1,6 @@
 package com.growcorehub.entity;
 
+import com.growcorehub.service.ActiveProjectsListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@EntityListeners(ActiveProjectsListener.class)
 public class Assessment {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,53 @@
+package com.growcorehub.entity;
+
+import com.growcorehub.enums.AttemptStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user's sitting of an assessment, from start until it is submitted or its
+ * deadline passes. Answers are autosaved here until then.
+ */
+@Entity
+@Table(name = "assessment_attempts", uniqueConstraints = @UniqueConstraint(columnNames = { "user_id",
+		"assessment_id" }), indexes = @Index(name = "idx_attempts_status_deadline", columnList = "status, deadline"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentAttempt {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "assessment_id", nullable = false)
+	private Assessment assessment;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private AttemptStatus status = AttemptStatus.IN_PROGRESS;
+
+	@Column(name = "started_at", nullable = false, updatable = false)
+	private LocalDateTime startedAt;
+
+	// Null for untimed assessments
+	@Column
+	private LocalDateTime deadline;
+
+	@Column(columnDefinition = "JSON")
+	private String answers;
+
+	@Column(name = "saved_at")
+	private LocalDateTime savedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+}
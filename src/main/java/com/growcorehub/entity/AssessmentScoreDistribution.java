@@ -0,0 +1,37 @@
+package com.growcorehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpointed score histogram of one assessment; see ScoreHistogram for the
+ * encoding. Nodes merge the scores they recorded since their last checkpoint
+ * into this row.
+ */
+@Entity
+@Table(name = "assessment_score_distributions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssessmentScoreDistribution {
+	@Id
+	@Column(name = "assessment_id")
+	private Long assessmentId;
+
+	@Column(nullable = false, columnDefinition = "BLOB")
+	private byte[] histogram;
+
+	@Column(name = "total_count", nullable = false)
+	private long totalCount;
+
+	// The seed counted submissions scored before this; merges only add later ones. Null on rows seeded without it
+	@Column(name = "seeded_before")
+	private LocalDateTime seededBefore;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -11,14 +11,16 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "certifications")
+@Table(name = "certifications", indexes = @Index(name = "idx_certifications_earned_at", columnList = "earned_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Certification {
+	// Pooled sequence ids (table-emulated on MySQL) so inserts can be batched
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certification_seq")
+	@SequenceGenerator(name = "certification_seq", sequenceName = "certifications_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
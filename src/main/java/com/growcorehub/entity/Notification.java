@@ -11,14 +11,20 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+// Listing and unread counts are per user; the retention job scans by age
+@Table(name = "notifications", indexes = {
+		@Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+		@Index(name = "idx_notifications_user_read", columnList = "user_id, is_read"),
+		@Index(name = "idx_notifications_type_created", columnList = "type, created_at") })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class Notification {
+	// Pooled sequence ids (table-emulated on MySQL) so inserts can be batched
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+	@SequenceGenerator(name = "notification_seq", sequenceName = "notifications_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,43 @@
+package com.growcorehub.entity;
+
+import com.growcorehub.enums.NotificationType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Purged notifications, copied by the retention job. No foreign key to users
+ * so archived rows never block user deletion.
+ */
+@Entity
+@Table(name = "notifications_archive", indexes = {
+		@Index(name = "idx_notifications_archive_user", columnList = "user_id, created_at") })
+@Data
+@NoArgsConstructor
+public class NotificationArchive {
+	@Id
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(nullable = false)
+	private String title;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String message;
+
+	@Enumerated(EnumType.STRING)
+	private NotificationType type;
+
+	@Column(name = "is_read")
+	private Boolean isRead;
+
+	@Column(name = "created_at")
+	private LocalDateTime createdAt;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+}
@@ -1,6 +1,7 @@
 package com.growcorehub.entity;
 
 import com.growcorehub.enums.ProjectStatus;
+import com.growcorehub.service.ActiveProjectsListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,7 +18,7 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({ AuditingEntityListener.class, ActiveProjectsListener.class })
 public class Project {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -12,7 +12,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "project_applications")
+@Table(name = "project_applications", indexes = @Index(name = "idx_applications_project_status_score", columnList = "project_id, application_status, assessment_score"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,41 @@
+package com.growcorehub.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "refresh_tokens", indexes = { @Index(name = "idx_refresh_tokens_session", columnList = "session_id"),
+		@Index(name = "idx_refresh_tokens_expires", columnList = "expires_at") })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "token_id", nullable = false, unique = true, length = 36)
+	private String tokenId;
+
+	@Column(name = "session_id", nullable = false, length = 36)
+	private String sessionId;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	private User user;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt;
+
+	// Set once the token has been exchanged for a new one
+	@Column(nullable = false)
+	private Boolean rotated = false;
+
+	// Set when the whole session is revoked (logout, password reset, reuse)
+	@Column(nullable = false)
+	private Boolean revoked = false;
+}
@@ -1,5 +1,6 @@
 package com.growcorehub.entity;
 
+import com.growcorehub.enums.UserRole;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -49,6 +50,14 @@ public class User {
 	@Column(name = "email_verified")
 	private Boolean emailVerified = false;
 
+	@Enumerated(EnumType.STRING)
+	@Column(name = "role", length = 20)
+	private UserRole role = UserRole.USER;
+
+	// Bumped whenever the account state changes so issued tokens can be rejected
+	@Column(name = "token_version")
+	private Integer tokenVersion = 0;
+
 	@OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private UserProfile profile;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.growcorehub.entity;
 
+import com.growcorehub.enums.ScoringStatus;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -17,8 +18,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class UserAssessment {
+	// Pooled sequence ids (table-emulated on MySQL) so inserts can be batched
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_assessment_seq")
+	@SequenceGenerator(name = "user_assessment_seq", sequenceName = "user_assessments_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -29,13 +32,27 @@ public class UserAssessment {
 	@JoinColumn(name = "assessment_id", nullable = false)
 	private Assessment assessment;
 
+	// Zero until scored
 	@Column(nullable = false, precision = 5, scale = 2)
 	private BigDecimal score;
 
+	// Null on rows scored before scoring became asynchronous
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private ScoringStatus status;
+
+	// Only set on rows not yet converted to answersBin, or whose text is not a JSON object
 	@Column(columnDefinition = "JSON")
 	private String answers;
 
+	// AnswerCodec form of the answers
+	@Column(name = "answers_bin", columnDefinition = "BLOB")
+	private byte[] answersBin;
+
 	@CreatedDate
 	@Column(name = "completed_at", updatable = false)
 	private LocalDateTime completedAt;
+
+	@Column(name = "scored_at")
+	private LocalDateTime scoredAt;
 }
\ No newline at end of file
@@ -17,8 +17,10 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
 public class WorkSession {
+	// Pooled sequence ids (table-emulated on MySQL) so inserts can be batched
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "work_session_seq")
+	@SequenceGenerator(name = "work_session_seq", sequenceName = "work_sessions_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,18 @@
 package com.growcorehub.enums;
 
 public enum ApplicationStatus {
-	APPLIED, ACCEPTED, REJECTED, IN_PROGRESS, COMPLETED
+	APPLIED, ACCEPTED, REJECTED, IN_PROGRESS, COMPLETED;
+
+	/**
+	 * Review moves: applications are accepted or rejected, accepted ones start
+	 * work or are withdrawn, and work in progress completes
+	 */
+	public boolean canTransitionTo(ApplicationStatus target) {
+		return switch (this) {
+		case APPLIED -> target == ACCEPTED || target == REJECTED;
+		case ACCEPTED -> target == IN_PROGRESS || target == REJECTED;
+		case IN_PROGRESS -> target == COMPLETED;
+		case REJECTED, COMPLETED -> false;
+		};
+	}
 }
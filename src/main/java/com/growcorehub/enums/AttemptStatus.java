@@ -0,0 +1,5 @@
+package com.growcorehub.enums;
+
+public enum AttemptStatus {
+	IN_PROGRESS, SUBMITTED, EXPIRED
+}
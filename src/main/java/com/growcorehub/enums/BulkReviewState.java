@@ -0,0 +1,5 @@
+package com.growcorehub.enums;
+
+public enum BulkReviewState {
+	RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,22 @@
+package com.growcorehub.enums;
+
+/**
+ * User segments a notification can be broadcast to. Each segment is a fixed
+ * SQL fragment over {@code users u} (joined to {@code user_profiles p}).
+ */
+public enum NotificationAudience {
+	ALL_ACTIVE("u.is_active = true"),
+	EMAIL_VERIFIED("u.is_active = true AND u.email_verified = true"),
+	EMAIL_UNVERIFIED("u.is_active = true AND (u.email_verified = false OR u.email_verified IS NULL)"),
+	PROFILE_INCOMPLETE("u.is_active = true AND (p.profile_completed = false OR p.profile_completed IS NULL)");
+
+	private final String condition;
+
+	NotificationAudience(String condition) {
+		this.condition = condition;
+	}
+
+	public String getCondition() {
+		return condition;
+	}
+}
@@ -5,8 +5,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(value = HttpStatus.BAD_REQUEST)
 public class BadRequestException extends RuntimeException {
+	/**
+	 * Expected outcome - created without a stack trace, so it is cheap to throw
+	 */
 	public BadRequestException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 
 	public BadRequestException(String message, Throwable cause) {
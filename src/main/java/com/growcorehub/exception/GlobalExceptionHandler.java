@@ -1,131 +1,157 @@
 package com.growcorehub.exception;
 
+import com.growcorehub.dto.response.ErrorResponse;
+import com.growcorehub.util.LogSampler;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
-import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
-import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestControllerAdvice
 @Slf4j
 public class GlobalExceptionHandler {
 
+	// Expected client errors: a few lines per second per exception type is plenty
+	private final LogSampler clientErrorSampler = new LogSampler(5, 1000);
+
+	// Unexpected errors keep their stack traces, but are still rate limited
+	private final LogSampler serverErrorSampler = new LogSampler(20, 1000);
+
 	@ExceptionHandler(ResourceNotFoundException.class)
-	public ResponseEntity<Map<String, Object>> handleResourceNotFound(ResourceNotFoundException ex,
-			WebRequest request) {
-		log.warn("Resource not found: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleResourceNotFound(ResourceNotFoundException ex,
+			HttpServletRequest request) {
+		logClientError("Resource not found", ex);
 		return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage(), request);
 	}
 
 	@ExceptionHandler(BadRequestException.class)
-	public ResponseEntity<Map<String, Object>> handleBadRequest(BadRequestException ex, WebRequest request) {
-		log.warn("Bad request: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException ex, HttpServletRequest request) {
+		logClientError("Bad request", ex);
 		return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage(), request);
 	}
 
 	@ExceptionHandler(UnauthorizedException.class)
-	public ResponseEntity<Map<String, Object>> handleUnauthorized(UnauthorizedException ex, WebRequest request) {
-		log.warn("Unauthorized access: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleUnauthorized(UnauthorizedException ex, HttpServletRequest request) {
+		logClientError("Unauthorized access", ex);
 		return buildErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage(), request);
 	}
 
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleServiceUnavailable(ServiceUnavailableException ex,
+			HttpServletRequest request) {
+		logClientError("Service unavailable", ex);
+		return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), request);
+	}
+
 	@ExceptionHandler(AuthenticationException.class)
-	public ResponseEntity<Map<String, Object>> handleAuthentication(AuthenticationException ex, WebRequest request) {
-		log.warn("Authentication failed: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleAuthentication(AuthenticationException ex,
+			HttpServletRequest request) {
+		logClientError("Authentication failed", ex);
 		return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Authentication failed", request);
 	}
 
 	@ExceptionHandler(AccessDeniedException.class)
-	public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex, WebRequest request) {
-		log.warn("Access denied: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException ex, HttpServletRequest request) {
+		logClientError("Access denied", ex);
 		return buildErrorResponse(HttpStatus.FORBIDDEN, "Access denied", request);
 	}
 
 	@ExceptionHandler(BadCredentialsException.class)
-	public ResponseEntity<Map<String, Object>> handleBadCredentials(BadCredentialsException ex, WebRequest request) {
-		log.warn("Bad credentials: {}", ex.getMessage());
+	public ResponseEntity<ErrorResponse> handleBadCredentials(BadCredentialsException ex,
+			HttpServletRequest request) {
+		logClientError("Bad credentials", ex);
 		return buildErrorResponse(HttpStatus.UNAUTHORIZED, "Invalid credentials", request);
 	}
 
-	@ExceptionHandler(MethodArgumentNotValidException.class)
-	public ResponseEntity<Map<String, Object>> handleValidationErrors(MethodArgumentNotValidException ex,
-			WebRequest request) {
-		Map<String, String> errors = new HashMap<>();
-		ex.getBindingResult().getFieldErrors()
-				.forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
-
-		Map<String, Object> body = new HashMap<>();
-		body.put("timestamp", LocalDateTime.now());
-		body.put("status", HttpStatus.BAD_REQUEST.value());
-		body.put("error", "Validation Failed");
-		body.put("message", "Input validation failed");
-		body.put("errors", errors);
-		body.put("path", request.getDescription(false).replace("uri=", ""));
+	// Typically a unique constraint hit by two concurrent identical requests
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ResponseEntity<ErrorResponse> handleDataIntegrityViolation(DataIntegrityViolationException ex,
+			HttpServletRequest request) {
+		logClientError("Data integrity violation", ex);
+		return buildErrorResponse(HttpStatus.CONFLICT, "Request conflicts with existing data", request);
+	}
 
-		return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+	@ExceptionHandler(MethodArgumentNotValidException.class)
+	public ResponseEntity<ErrorResponse> handleValidationErrors(MethodArgumentNotValidException ex,
+			HttpServletRequest request) {
+		return buildValidationResponse("Validation Failed", "Input validation failed",
+				fieldErrors(ex.getBindingResult().getFieldErrors()), request);
 	}
 
 	@ExceptionHandler(BindException.class)
-	public ResponseEntity<Map<String, Object>> handleBindException(BindException ex, WebRequest request) {
-		Map<String, String> errors = new HashMap<>();
-		ex.getBindingResult().getFieldErrors()
-				.forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
-
-		Map<String, Object> body = new HashMap<>();
-		body.put("timestamp", LocalDateTime.now());
-		body.put("status", HttpStatus.BAD_REQUEST.value());
-		body.put("error", "Binding Failed");
-		body.put("message", "Request binding failed");
-		body.put("errors", errors);
-		body.put("path", request.getDescription(false).replace("uri=", ""));
-
-		return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+	public ResponseEntity<ErrorResponse> handleBindException(BindException ex, HttpServletRequest request) {
+		return buildValidationResponse("Binding Failed", "Request binding failed",
+				fieldErrors(ex.getBindingResult().getFieldErrors()), request);
 	}
 
 	@ExceptionHandler(ConstraintViolationException.class)
-	public ResponseEntity<Map<String, Object>> handleConstraintViolation(ConstraintViolationException ex,
-			WebRequest request) {
-		Map<String, String> errors = new HashMap<>();
-		ex.getConstraintViolations()
-				.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
-
-		Map<String, Object> body = new HashMap<>();
-		body.put("timestamp", LocalDateTime.now());
-		body.put("status", HttpStatus.BAD_REQUEST.value());
-		body.put("error", "Constraint Violation");
-		body.put("message", "Validation constraint violated");
-		body.put("errors", errors);
-		body.put("path", request.getDescription(false).replace("uri=", ""));
+	public ResponseEntity<ErrorResponse> handleConstraintViolation(ConstraintViolationException ex,
+			HttpServletRequest request) {
+		Set<ConstraintViolation<?>> violations = ex.getConstraintViolations();
+		Map<String, String> errors = new HashMap<>(Math.max(4, violations.size() * 2));
+		violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
 
-		return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+		return buildValidationResponse("Constraint Violation", "Validation constraint violated", errors, request);
+	}
+
+	// Client disconnected from an event stream; there is no response left to write
+	@ExceptionHandler(AsyncRequestNotUsableException.class)
+	public void handleDisconnectedClient(AsyncRequestNotUsableException ex) {
+		log.debug("Client disconnected: {}", ex.getMessage());
 	}
 
 	@ExceptionHandler(Exception.class)
-	public ResponseEntity<Map<String, Object>> handleGlobalException(Exception ex, WebRequest request) {
-		log.error("Unexpected error: ", ex);
+	public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, HttpServletRequest request) {
+		int suppressed = serverErrorSampler.acquire(ex.getClass().getName());
+		if (suppressed != LogSampler.SUPPRESSED) {
+			log.error("Unexpected error on {} ({} similar errors suppressed): ", request.getRequestURI(), suppressed,
+					ex);
+		}
 		return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, "An unexpected error occurred", request);
 	}
 
-	private ResponseEntity<Map<String, Object>> buildErrorResponse(HttpStatus status, String message,
-			WebRequest request) {
-		Map<String, Object> body = new HashMap<>();
-		body.put("timestamp", LocalDateTime.now());
-		body.put("status", status.value());
-		body.put("error", status.getReasonPhrase());
-		body.put("message", message);
-		body.put("path", request.getDescription(false).replace("uri=", ""));
+	// Expected outcomes are logged without stack traces and sampled per type
+	private void logClientError(String description, Exception ex) {
+		int suppressed = clientErrorSampler.acquire(ex.getClass().getName());
+		if (suppressed != LogSampler.SUPPRESSED) {
+			log.warn("{}: {} ({} similar suppressed)", description, ex.getMessage(), suppressed);
+		}
+	}
+
+	private Map<String, String> fieldErrors(List<FieldError> fieldErrors) {
+		Map<String, String> errors = new HashMap<>(Math.max(4, fieldErrors.size() * 2));
+		fieldErrors.forEach(error -> errors.put(error.getField(), error.getDefaultMessage()));
+		return errors;
+	}
+
+	private ResponseEntity<ErrorResponse> buildValidationResponse(String error, String message,
+			Map<String, String> errors, HttpServletRequest request) {
+		ErrorResponse body = new ErrorResponse(HttpStatus.BAD_REQUEST.value(), error, message,
+				request.getRequestURI(), errors);
+		return new ResponseEntity<>(body, HttpStatus.BAD_REQUEST);
+	}
 
+	private ResponseEntity<ErrorResponse> buildErrorResponse(HttpStatus status, String message,
+			HttpServletRequest request) {
+		ErrorResponse body = new ErrorResponse(status.value(), status.getReasonPhrase(), message,
+				request.getRequestURI());
 		return new ResponseEntity<>(body, status);
 	}
 }
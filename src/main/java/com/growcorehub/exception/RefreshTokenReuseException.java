@@ -0,0 +1,11 @@
+package com.growcorehub.exception;
+
+/**
+ * A rotated refresh token was presented again. Its session is revoked in the
+ * same transaction, which commits despite this exception.
+ */
+public class RefreshTokenReuseException extends BadRequestException {
+	public RefreshTokenReuseException() {
+		super("Refresh token has already been used");
+	}
+}
@@ -5,8 +5,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(value = HttpStatus.NOT_FOUND)
 public class ResourceNotFoundException extends RuntimeException {
+	/**
+	 * Expected outcome - created without a stack trace, so it is cheap to throw
+	 */
 	public ResourceNotFoundException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 
 	public ResourceNotFoundException(String message, Throwable cause) {
@@ -0,0 +1,15 @@
+package com.growcorehub.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+	/**
+	 * Temporary condition (e.g. an index still loading) - created without a
+	 * stack trace
+	 */
+	public ServiceUnavailableException(String message) {
+		super(message, null, false, false);
+	}
+}
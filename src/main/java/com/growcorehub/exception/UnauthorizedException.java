@@ -5,8 +5,11 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 
 @ResponseStatus(value = HttpStatus.UNAUTHORIZED)
 public class UnauthorizedException extends RuntimeException {
+	/**
+	 * Expected outcome - created without a stack trace, so it is cheap to throw
+	 */
 	public UnauthorizedException(String message) {
-		super(message);
+		super(message, null, false, false);
 	}
 
 	public UnauthorizedException(String message, Throwable cause) {
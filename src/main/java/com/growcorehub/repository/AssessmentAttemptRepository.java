@@ -0,0 +1,48 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.entity.AssessmentAttempt;
+import com.growcorehub.enums.AttemptStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AssessmentAttemptRepository extends JpaRepository<AssessmentAttempt, Long> {
+
+	Optional<AssessmentAttempt> findByUserIdAndAssessmentId(Long userId, Long assessmentId);
+
+	@Query("SELECT a FROM AssessmentAttempt a JOIN FETCH a.user JOIN FETCH a.assessment WHERE a.id = :id")
+	Optional<AssessmentAttempt> findWithUserAndAssessmentById(@Param("id") Long id);
+
+	// Deadlines to track after a restart: id and deadline only
+	@Query("SELECT a.id, a.deadline FROM AssessmentAttempt a WHERE a.status = :status AND a.deadline IS NOT NULL")
+	List<Object[]> findDeadlinesByStatus(@Param("status") AttemptStatus status);
+
+	@Query("SELECT a.id FROM AssessmentAttempt a WHERE a.status = :status AND a.deadline < :before ORDER BY a.deadline")
+	List<Long> findIdsByStatusAndDeadlineBefore(@Param("status") AttemptStatus status,
+			@Param("before") LocalDateTime before, Pageable pageable);
+
+	/**
+	 * Autosave; only while the attempt is open and {@code cutoff} has not passed
+	 */
+	@Modifying
+	@Query("UPDATE AssessmentAttempt a SET a.answers = :answers, a.savedAt = :now WHERE a.id = :id "
+			+ "AND a.status = com.growcorehub.enums.AttemptStatus.IN_PROGRESS AND (a.deadline IS NULL OR a.deadline > :cutoff)")
+	int saveAnswers(@Param("id") Long id, @Param("answers") String answers, @Param("now") LocalDateTime now,
+			@Param("cutoff") LocalDateTime cutoff);
+
+	/**
+	 * Moves an open attempt to {@code status}; 0 if it was already closed
+	 */
+	@Modifying
+	@Query("UPDATE AssessmentAttempt a SET a.status = :status, a.finishedAt = :now WHERE a.id = :id "
+			+ "AND a.status = com.growcorehub.enums.AttemptStatus.IN_PROGRESS")
+	int close(@Param("id") Long id, @Param("status") AttemptStatus status, @Param("now") LocalDateTime now);
+}
@@ -1,13 +1,27 @@
 package com.growcorehub.repository;
 
 import com.growcorehub.entity.Assessment;
+import com.growcorehub.enums.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface AssessmentRepository extends JpaRepository<Assessment, Long> {
 	
 	List<Assessment> findByProjectId(Long projectId);
-}
\ No newline at end of file
+
+	// Assessments of a page of projects in one query
+	List<Assessment> findByProjectIdInOrderByIdAsc(Collection<Long> projectIds);
+
+	@Query("SELECT a.project.id, COUNT(a) FROM Assessment a WHERE a.project.id IN :projectIds GROUP BY a.project.id")
+	List<Object[]> countByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+	// Assessments as (project id, assessment id) for projects in the given status
+	@Query("SELECT a.project.id, a.id FROM Assessment a WHERE a.project.status = :status ORDER BY a.project.id, a.id")
+	List<Object[]> findIdsByProjectStatus(@Param("status") ProjectStatus status);
+}
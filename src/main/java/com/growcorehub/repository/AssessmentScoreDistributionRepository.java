@@ -0,0 +1,19 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.entity.AssessmentScoreDistribution;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface AssessmentScoreDistributionRepository extends JpaRepository<AssessmentScoreDistribution, Long> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM AssessmentScoreDistribution d WHERE d.assessmentId = :assessmentId")
+	Optional<AssessmentScoreDistribution> findForUpdate(@Param("assessmentId") Long assessmentId);
+}
@@ -1,10 +1,15 @@
 package com.growcorehub.repository;
 
 import com.growcorehub.entity.Certification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CertificationRepository extends JpaRepository<Certification, Long> {
@@ -12,4 +17,16 @@ public interface CertificationRepository extends JpaRepository<Certification, Lo
 	List<Certification> findByUserId(Long userId);
 
 	List<Certification> findByUserIdOrderByEarnedAtDesc(Long userId);
-}
\ No newline at end of file
+
+	@Query("SELECT c FROM Certification c JOIN FETCH c.user WHERE c.id = :id")
+	Optional<Certification> findWithUserById(@Param("id") Long id);
+
+	// Leaderboard rows as (id, user id, skill, score, earned at), streamed in id order
+	@Query("SELECT c.id, c.user.id, c.skillName, c.score, c.earnedAt FROM Certification c WHERE c.id > :afterId ORDER BY c.id")
+	List<Object[]> findLeaderboardRows(@Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT c.id, c.user.id, c.skillName, c.score, c.earnedAt FROM Certification c "
+			+ "WHERE c.earnedAt >= :since AND c.id > :afterId ORDER BY c.id")
+	List<Object[]> findLeaderboardRowsEarnedSince(@Param("since") LocalDateTime since, @Param("afterId") Long afterId,
+			Pageable pageable);
+}
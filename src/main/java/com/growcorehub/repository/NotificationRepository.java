@@ -4,12 +4,33 @@ import com.growcorehub.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationRepositoryCustom {
 	
 	Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
 	long countByUserIdAndIsReadFalse(Long userId);
-}
\ No newline at end of file
+
+	@Query("SELECT n.user.id, COUNT(n) FROM Notification n WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+	List<Object[]> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+
+	@Query("SELECT n.user.id FROM Notification n WHERE n.id = :id")
+	Optional<Long> findUserIdById(@Param("id") Long id);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.id IN :ids AND n.isRead = false")
+	int markReadByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+	int markAllRead(@Param("userId") Long userId);
+}
@@ -0,0 +1,65 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.enums.NotificationAudience;
+import com.growcorehub.enums.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based notification writes that bypass the entity lifecycle
+ */
+public interface NotificationRepositoryCustom {
+
+	/**
+	 * Inserts one notification per user in the audience with a single
+	 * {@code INSERT ... SELECT}. Returns the inserted (id, user id) pairs.
+	 */
+	List<long[]> insertForAudience(NotificationAudience audience, String title, String message, NotificationType type);
+
+	/**
+	 * Inserts the same notification for each user in one batch. Returns the
+	 * inserted (id, user id) pairs.
+	 */
+	List<long[]> insertForUsers(List<Long> userIds, String title, String message, NotificationType type);
+
+	/**
+	 * Locks up to {@code limit} notifications of a type that are read and older
+	 * than {@code readBefore}, or older than {@code unreadBefore} regardless.
+	 * Rows locked by another purger are skipped.
+	 */
+	List<Long> lockExpired(NotificationType type, LocalDateTime readBefore, LocalDateTime unreadBefore, int limit);
+
+	/**
+	 * Users holding more than {@code keep} notifications of a type, limited to
+	 * users who received one since {@code since}
+	 */
+	List<Long> findUsersOverCap(NotificationType type, int keep, LocalDateTime since, int limit);
+
+	/**
+	 * Locks up to {@code limit} of a user's notifications of a type beyond the
+	 * newest {@code keep}
+	 */
+	List<Long> lockOverCap(Long userId, NotificationType type, int keep, int limit);
+
+	/**
+	 * Locks those of the given notifications that belong to the user and are
+	 * still unread, so the caller knows exactly which rows it is about to mark
+	 */
+	List<Long> lockUnread(Long userId, Collection<Long> ids);
+
+	int archive(List<Long> ids, LocalDateTime archivedAt);
+
+	int deleteByIds(List<Long> ids);
+
+	/**
+	 * Stamps rows written before auditing was enabled so they can age out
+	 */
+	int backfillCreatedAt(LocalDateTime createdAt, int limit);
+
+	/**
+	 * Approximate row count from table statistics (no scan)
+	 */
+	long estimateRowCount(String table);
+}
@@ -0,0 +1,161 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.config.PersistenceConfig;
+import com.growcorehub.enums.NotificationAudience;
+import com.growcorehub.enums.NotificationType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL implementation. Broadcast ids come from the same table-emulated
+ * sequence as {@code Notification}, reserved as one block so the rows can be
+ * inserted without going through Hibernate.
+ */
+public class NotificationRepositoryImpl implements NotificationRepositoryCustom {
+
+	private static final String AUDIENCE_FROM = " FROM users u LEFT JOIN user_profiles p ON p.user_id = u.id WHERE ";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedJdbcTemplate;
+	private final TransactionTemplate reservationTransaction;
+
+	public NotificationRepositoryImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+		this.reservationTransaction = new TransactionTemplate(transactionManager);
+		this.reservationTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	public List<long[]> insertForAudience(NotificationAudience audience, String title, String message,
+			NotificationType type) {
+		String condition = audience.getCondition();
+
+		// Snapshot the audience so users joining mid-broadcast cannot overrun the id block
+		Map<String, Object> snapshot = jdbcTemplate.queryForMap(
+				"SELECT COUNT(*) AS recipients, COALESCE(MAX(u.id), 0) AS max_user_id" + AUDIENCE_FROM + condition);
+		int recipients = ((Number) snapshot.get("recipients")).intValue();
+		long maxUserId = ((Number) snapshot.get("max_user_id")).longValue();
+		if (recipients == 0) {
+			return List.of();
+		}
+
+		long firstId = reserveIds(recipients);
+		jdbcTemplate.update("INSERT INTO notifications (id, user_id, title, message, type, is_read, created_at) "
+				+ "SELECT ? + ROW_NUMBER() OVER (ORDER BY u.id), u.id, ?, ?, ?, false, ?" + AUDIENCE_FROM + condition
+				+ " AND u.id <= ? ORDER BY u.id LIMIT ?", firstId - 1, title, message, type.name(),
+				LocalDateTime.now(), maxUserId, recipients);
+
+		return jdbcTemplate.query("SELECT id, user_id FROM notifications WHERE id BETWEEN ? AND ?",
+				(rs, rowNum) -> new long[] { rs.getLong(1), rs.getLong(2) }, firstId, firstId + recipients - 1);
+	}
+
+	@Override
+	public List<long[]> insertForUsers(List<Long> userIds, String title, String message, NotificationType type) {
+		if (userIds.isEmpty()) {
+			return List.of();
+		}
+
+		long firstId = reserveIds(userIds.size());
+		LocalDateTime createdAt = LocalDateTime.now();
+		List<Object[]> rows = new ArrayList<>(userIds.size());
+		List<long[]> inserted = new ArrayList<>(userIds.size());
+		for (int i = 0; i < userIds.size(); i++) {
+			rows.add(new Object[] { firstId + i, userIds.get(i), title, message, type.name(), createdAt });
+			inserted.add(new long[] { firstId + i, userIds.get(i) });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO notifications (id, user_id, title, message, type, is_read, created_at) "
+				+ "VALUES (?, ?, ?, ?, ?, false, ?)", rows);
+		return inserted;
+	}
+
+	@Override
+	public List<Long> lockExpired(NotificationType type, LocalDateTime readBefore, LocalDateTime unreadBefore,
+			int limit) {
+		LocalDateTime scanBefore = readBefore.isAfter(unreadBefore) ? readBefore : unreadBefore;
+		return jdbcTemplate.queryForList(
+				"SELECT id FROM notifications WHERE type = ? AND created_at < ? "
+						+ "AND ((is_read = true AND created_at < ?) OR created_at < ?) "
+						+ "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED",
+				Long.class, type.name(), scanBefore, readBefore, unreadBefore, limit);
+	}
+
+	@Override
+	public List<Long> findUsersOverCap(NotificationType type, int keep, LocalDateTime since, int limit) {
+		return jdbcTemplate.queryForList("SELECT n.user_id FROM notifications n WHERE n.type = ? AND n.user_id IN "
+				+ "(SELECT r.user_id FROM notifications r WHERE r.type = ? AND r.created_at >= ?) "
+				+ "GROUP BY n.user_id HAVING COUNT(*) > ? LIMIT ?", Long.class, type.name(), type.name(), since, keep,
+				limit);
+	}
+
+	@Override
+	public List<Long> lockOverCap(Long userId, NotificationType type, int keep, int limit) {
+		return jdbcTemplate.queryForList(
+				"SELECT id FROM notifications WHERE user_id = ? AND type = ? "
+						+ "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ? FOR UPDATE SKIP LOCKED",
+				Long.class, userId, type.name(), limit, keep);
+	}
+
+	@Override
+	public List<Long> lockUnread(Long userId, Collection<Long> ids) {
+		return namedJdbcTemplate.queryForList(
+				"SELECT id FROM notifications WHERE user_id = :userId AND id IN (:ids) AND is_read = false "
+						+ "ORDER BY id FOR UPDATE",
+				new MapSqlParameterSource("userId", userId).addValue("ids", ids), Long.class);
+	}
+
+	@Override
+	public int archive(List<Long> ids, LocalDateTime archivedAt) {
+		return namedJdbcTemplate.update(
+				"INSERT INTO notifications_archive (id, user_id, title, message, type, is_read, created_at, archived_at) "
+						+ "SELECT id, user_id, title, message, type, is_read, created_at, :archivedAt "
+						+ "FROM notifications WHERE id IN (:ids)",
+				new MapSqlParameterSource("ids", ids).addValue("archivedAt", archivedAt));
+	}
+
+	@Override
+	public int deleteByIds(List<Long> ids) {
+		return namedJdbcTemplate.update("DELETE FROM notifications WHERE id IN (:ids)",
+				new MapSqlParameterSource("ids", ids));
+	}
+
+	@Override
+	public int backfillCreatedAt(LocalDateTime createdAt, int limit) {
+		return jdbcTemplate.update("UPDATE notifications SET created_at = ? WHERE created_at IS NULL LIMIT ?",
+				createdAt, limit);
+	}
+
+	@Override
+	public long estimateRowCount(String table) {
+		Long rows = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(TABLE_ROWS), 0) FROM information_schema.TABLES "
+				+ "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?", Long.class, table);
+		return rows != null ? rows : 0;
+	}
+
+	/**
+	 * Claims ids [first, first + count). Hibernate only ever holds ids below the
+	 * stored value, and its next block starts above the reserved range. Runs in
+	 * its own short transaction so the sequence row is not locked for the whole
+	 * broadcast.
+	 */
+	private long reserveIds(int count) {
+		Long first = reservationTransaction.execute(status -> {
+			Long current = jdbcTemplate.queryForObject("SELECT next_val FROM notifications_seq FOR UPDATE",
+					Long.class);
+			jdbcTemplate.update("UPDATE notifications_seq SET next_val = ?",
+					current + count + PersistenceConfig.ID_ALLOCATION_SIZE);
+			return current + 1;
+		});
+		return first;
+	}
+}
@@ -2,9 +2,17 @@ package com.growcorehub.repository;
 
 import com.growcorehub.entity.ProjectApplication;
 import com.growcorehub.enums.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +28,74 @@ public interface ProjectApplicationRepository extends JpaRepository<ProjectAppli
 	boolean existsByUserIdAndProjectId(Long userId, Long projectId);
 
 	List<ProjectApplication> findByUserIdAndApplicationStatus(Long userId, ApplicationStatus status);
-}
\ No newline at end of file
+
+	// Projects fetched along, for listings that render each one
+	@Query("SELECT pa FROM ProjectApplication pa JOIN FETCH pa.project WHERE pa.user.id = :userId")
+	List<ProjectApplication> findWithProjectByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT pa FROM ProjectApplication pa JOIN FETCH pa.project WHERE pa.user.id = :userId "
+			+ "AND pa.applicationStatus = :status")
+	List<ProjectApplication> findWithProjectByUserIdAndApplicationStatus(@Param("userId") Long userId,
+			@Param("status") ApplicationStatus status);
+
+	// A user's applications as (project id, status, applied at, assessment score)
+	@Query("SELECT pa.project.id, pa.applicationStatus, pa.appliedAt, pa.assessmentScore FROM ProjectApplication pa "
+			+ "WHERE pa.user.id = :userId")
+	List<Object[]> findSummariesByUserId(@Param("userId") Long userId);
+
+	// Ranked applicants as (id, user id, score, applied at), best first; served by the project/status/score index
+	@Query("SELECT pa.id, pa.user.id, pa.assessmentScore, pa.appliedAt FROM ProjectApplication pa "
+			+ "WHERE pa.project.id = :projectId AND pa.applicationStatus = :status AND pa.assessmentScore >= :minimumScore "
+			+ "ORDER BY pa.assessmentScore DESC, pa.appliedAt ASC, pa.id ASC")
+	List<Object[]> findRanked(@Param("projectId") Long projectId, @Param("status") ApplicationStatus status,
+			@Param("minimumScore") BigDecimal minimumScore, Pageable pageable);
+
+	@Query("SELECT COUNT(pa) FROM ProjectApplication pa WHERE pa.project.id = :projectId "
+			+ "AND pa.applicationStatus = :status AND pa.assessmentScore >= :minimumScore")
+	long countRanked(@Param("projectId") Long projectId, @Param("status") ApplicationStatus status,
+			@Param("minimumScore") BigDecimal minimumScore);
+
+	// Applications the given results count towards; callers drop user/assessment pairs that do not match
+	@Query("SELECT pa.id, pa.user.id, a.id FROM ProjectApplication pa JOIN Assessment a ON a.project = pa.project "
+			+ "WHERE a.id IN :assessmentIds AND pa.user.id IN :userIds")
+	List<Object[]> findIdsByAssessmentsAndUsers(@Param("assessmentIds") Collection<Long> assessmentIds,
+			@Param("userIds") Collection<Long> userIds);
+
+	// Sum of each application's scored results on its project's assessments
+	@Query("SELECT pa.id, SUM(ua.score) FROM ProjectApplication pa JOIN UserAssessment ua ON ua.user = pa.user "
+			+ "WHERE pa.id IN :ids AND ua.assessment.project = pa.project "
+			+ "AND (ua.status IS NULL OR ua.status = com.growcorehub.enums.ScoringStatus.SCORED) GROUP BY pa.id")
+	List<Object[]> sumScoresByIds(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT pa.id FROM ProjectApplication pa WHERE pa.assessmentScore IS NULL ORDER BY pa.id")
+	List<Long> findIdsWithoutScore(Pageable pageable);
+
+	// Bulk review candidates as (id, user id, email), in id order after :afterId
+	@Query("SELECT pa.id, u.id, u.email FROM ProjectApplication pa JOIN pa.user u WHERE pa.project.id = :projectId "
+			+ "AND pa.applicationStatus = :status AND pa.id > :afterId "
+			+ "AND (:minimumScore IS NULL OR pa.assessmentScore >= :minimumScore) ORDER BY pa.id")
+	List<Object[]> findReviewCandidates(@Param("projectId") Long projectId, @Param("status") ApplicationStatus status,
+			@Param("minimumScore") BigDecimal minimumScore, @Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT pa.id, u.id, u.email FROM ProjectApplication pa JOIN pa.user u WHERE pa.id IN :ids "
+			+ "AND pa.project.id = :projectId AND pa.applicationStatus = :status "
+			+ "AND (:minimumScore IS NULL OR pa.assessmentScore >= :minimumScore) ORDER BY pa.id")
+	List<Object[]> findReviewCandidatesByIds(@Param("ids") Collection<Long> ids, @Param("projectId") Long projectId,
+			@Param("status") ApplicationStatus status, @Param("minimumScore") BigDecimal minimumScore);
+
+	@Query("SELECT COUNT(pa) FROM ProjectApplication pa WHERE pa.project.id = :projectId "
+			+ "AND pa.applicationStatus = :status AND (:minimumScore IS NULL OR pa.assessmentScore >= :minimumScore)")
+	long countReviewCandidates(@Param("projectId") Long projectId, @Param("status") ApplicationStatus status,
+			@Param("minimumScore") BigDecimal minimumScore);
+
+	// Guarded on the current status, so rows changed since they were selected are left alone
+	@Modifying
+	@Query("UPDATE ProjectApplication pa SET pa.applicationStatus = :to WHERE pa.id IN :ids AND pa.applicationStatus = :from")
+	int transitionStatus(@Param("ids") Collection<Long> ids, @Param("from") ApplicationStatus from,
+			@Param("to") ApplicationStatus to);
+
+	// Locks the rows still in the status so no other reviewer can move them before this transaction does
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT pa.id FROM ProjectApplication pa WHERE pa.id IN :ids AND pa.applicationStatus = :status ORDER BY pa.id")
+	List<Long> lockIdsByIdsAndStatus(@Param("ids") Collection<Long> ids, @Param("status") ApplicationStatus status);
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 	
@@ -17,4 +19,8 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 	@Query("SELECT p FROM Project p WHERE p.status = :status AND " + "(:category IS NULL OR p.category = :category)")
 	Page<Project> findByStatusAndCategory(@Param("status") ProjectStatus status, @Param("category") String category,
 			Pageable pageable);
+
+	// Projects as (id, minimum score) in id order
+	@Query("SELECT p.id, p.minimumScore FROM Project p WHERE p.status = :status ORDER BY p.id")
+	List<Object[]> findIdsAndMinimumScoresByStatus(@Param("status") ProjectStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+package com.growcorehub.repository;
+
+import com.growcorehub.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+	Optional<RefreshToken> findByTokenId(String tokenId);
+
+	// Read-write so the check runs on the primary and never misses a revocation
+	// that has not reached a replica yet
+	@Transactional
+	boolean existsBySessionIdAndRevokedTrue(String sessionId);
+
+	@Query("SELECT DISTINCT rt.sessionId FROM RefreshToken rt WHERE rt.revoked = true AND rt.expiresAt > :now")
+	List<String> findRevokedSessionIds(@Param("now") LocalDateTime now);
+
+	@Query("SELECT DISTINCT rt.sessionId FROM RefreshToken rt WHERE rt.user.id = :userId AND rt.revoked = false")
+	List<String> findActiveSessionIdsByUserId(@Param("userId") Long userId);
+
+	// Claims a token for rotation; 0 when another request already rotated it, or it was revoked
+	@Modifying
+	@Query("UPDATE RefreshToken rt SET rt.rotated = true WHERE rt.tokenId = :tokenId AND rt.rotated = false "
+			+ "AND rt.revoked = false")
+	int markRotated(@Param("tokenId") String tokenId);
+
+	@Modifying
+	@Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.sessionId = :sessionId")
+	int revokeSession(@Param("sessionId") String sessionId);
+
+	@Modifying
+	@Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user.id = :userId AND rt.revoked = false")
+	int revokeAllByUserId(@Param("userId") Long userId);
+
+	@Modifying
+	@Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,9 +1,18 @@
 package com.growcorehub.repository;
 
 import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.enums.ScoringStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +24,41 @@ public interface UserAssessmentRepository extends JpaRepository<UserAssessment,
 	Optional<UserAssessment> findByUserIdAndAssessmentId(Long userId, Long assessmentId);
 
 	boolean existsByUserIdAndAssessmentId(Long userId, Long assessmentId);
+
+	List<UserAssessment> findByUserIdAndAssessmentIdIn(Long userId, Collection<Long> assessmentIds);
+
+	@Query("SELECT ua FROM UserAssessment ua JOIN FETCH ua.assessment WHERE ua.id IN :ids "
+			+ "AND ua.status = com.growcorehub.enums.ScoringStatus.PENDING")
+	List<UserAssessment> findPendingWithAssessment(@Param("ids") Collection<Long> ids);
+
+	// Serializes scorers on the same rows; whoever loses sees them already scored
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT ua FROM UserAssessment ua WHERE ua.id IN :ids AND ua.status = com.growcorehub.enums.ScoringStatus.PENDING")
+	List<UserAssessment> lockPending(@Param("ids") Collection<Long> ids);
+
+	// Score counts for seeding a distribution: one grouped scan, no entities. Legacy rows have no scored_at
+	@Query("SELECT ua.score, COUNT(ua) FROM UserAssessment ua WHERE ua.assessment.id = :assessmentId "
+			+ "AND (ua.status IS NULL OR ua.status = com.growcorehub.enums.ScoringStatus.SCORED) "
+			+ "AND (ua.scoredAt IS NULL OR ua.scoredAt < :before) GROUP BY ua.score")
+	List<Object[]> countScoresByAssessmentId(@Param("assessmentId") Long assessmentId,
+			@Param("before") LocalDateTime before);
+
+	// A user's scored results as (assessment id, score)
+	@Query("SELECT ua.assessment.id, ua.score FROM UserAssessment ua WHERE ua.user.id = :userId "
+			+ "AND (ua.status IS NULL OR ua.status = com.growcorehub.enums.ScoringStatus.SCORED)")
+	List<Object[]> findScoresByUserId(@Param("userId") Long userId);
+
+	@Query("SELECT ua.id FROM UserAssessment ua WHERE ua.status = :status ORDER BY ua.id")
+	List<Long> findIdsByStatus(@Param("status") ScoringStatus status, Pageable pageable);
+
+	// Rows: (id, answers), keyset-paged, for converting answers to binary
+	@Query("SELECT ua.id, ua.answers FROM UserAssessment ua WHERE ua.id > :afterId AND ua.answersBin IS NULL "
+			+ "AND ua.answers IS NOT NULL ORDER BY ua.id")
+	List<Object[]> findTextAnswers(@Param("afterId") Long afterId, Pageable pageable);
+
+	// Touches only the answer columns, so it cannot undo a concurrent scoring update
+	@Modifying
+	@Query("UPDATE UserAssessment ua SET ua.answersBin = :answersBin, ua.answers = NULL WHERE ua.id = :id "
+			+ "AND ua.answersBin IS NULL")
+	int convertAnswers(@Param("id") Long id, @Param("answersBin") byte[] answersBin);
 }
\ No newline at end of file
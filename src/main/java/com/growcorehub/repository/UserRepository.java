@@ -2,8 +2,12 @@ package com.growcorehub.repository;
 
 import com.growcorehub.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByEmail(String email);
 
 	boolean existsByEmail(String email);
+
+	// Only users whose account state ever changed carry a non-zero version
+	@Query("SELECT u.id, u.tokenVersion FROM User u WHERE u.tokenVersion > 0")
+	List<Object[]> findChangedTokenVersions();
+
+	// Sets the password only if it is still the one the caller read; 0 when it changed meanwhile
+	@Modifying
+	@Query("UPDATE User u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :currentPassword")
+	int replacePassword(@Param("userId") Long userId, @Param("currentPassword") String currentPassword,
+			@Param("newPassword") String newPassword);
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.growcorehub.service;
+
+import com.growcorehub.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory view of account token versions. Only users whose account state has
+ * changed (deactivated, re-activated) are tracked, so the map stays small and
+ * an access token is checked without touching the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStateRegistry {
+
+	private final UserRepository userRepository;
+
+	private volatile Map<Long, Integer> versions = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns true if a token issued with the given version is still valid
+	 */
+	public boolean isCurrent(Long userId, int tokenVersion) {
+		Integer current = versions.get(userId);
+		return current == null ? tokenVersion == 0 : current == tokenVersion;
+	}
+
+	/**
+	 * Record a new version once the surrounding transaction commits
+	 */
+	public void update(Long userId, int tokenVersion) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					versions.put(userId, tokenVersion);
+				}
+			});
+		} else {
+			versions.put(userId, tokenVersion);
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadVersions() {
+		reload();
+	}
+
+	/**
+	 * Reload from the database so changes made on other nodes are picked up
+	 */
+	@Scheduled(fixedDelayString = "${jwt.account-state.refresh-interval-ms:60000}", initialDelayString = "${jwt.account-state.refresh-interval-ms:60000}")
+	public void reload() {
+		try {
+			Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+			for (Object[] row : userRepository.findChangedTokenVersions()) {
+				loaded.put((Long) row[0], (Integer) row[1]);
+			}
+			// Versions only ever increase, so keep local updates that raced the query
+			versions.forEach((userId, version) -> loaded.merge(userId, version, Math::max));
+			versions = loaded;
+			log.debug("Loaded {} account state versions", loaded.size());
+		} catch (Exception e) {
+			log.error("Failed to load account state versions: {}", e.getMessage());
+		}
+	}
+}
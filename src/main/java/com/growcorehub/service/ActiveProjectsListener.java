@@ -0,0 +1,29 @@
+package com.growcorehub.service;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Marks the active-project index stale once a transaction that wrote a project
+ * or one of its assessments commits, so new or reactivated projects are listed
+ * on the next request rather than after the refresh interval. Bulk JPQL
+ * updates bypass it and still wait for the interval.
+ */
+public class ActiveProjectsListener {
+
+	// Resolved lazily: listeners are built with the entity manager factory the service depends on
+	private final ObjectProvider<EligibilityService> eligibilityService;
+
+	public ActiveProjectsListener(ObjectProvider<EligibilityService> eligibilityService) {
+		this.eligibilityService = eligibilityService;
+	}
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	public void onWrite(Object entity) {
+		eligibilityService.ifAvailable(EligibilityService::refreshActiveProjectsAfterCommit);
+	}
+}
@@ -0,0 +1,402 @@
+package com.growcorehub.service;
+
+import com.growcorehub.dto.response.ApplicantRankingResponse;
+import com.growcorehub.entity.Project;
+import com.growcorehub.entity.ProjectApplication;
+import com.growcorehub.entity.User;
+import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.enums.ApplicationStatus;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.repository.AssessmentRepository;
+import com.growcorehub.repository.ProjectApplicationRepository;
+import com.growcorehub.repository.ProjectRepository;
+import com.growcorehub.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks a project's open applications by assessment score. An application's
+ * score is the mean of the applicant's results on the project's assessments,
+ * counting assessments not yet taken as zero; it is stored on the application
+ * whenever a result is scored. Applicants below the project's minimum score
+ * are not ranked.
+ * <p>
+ * Each node keeps the best {@code capacity} applicants of a project in memory
+ * and updates them as scores change, so the first pages are served without a
+ * query on applications. Deeper pages use the project/status/score index.
+ */
+@Service
+@Slf4j
+public class ApplicantRankingService {
+
+	private static final int MAX_PAGE_SIZE = 100;
+	private static final int BACKFILL_BATCH_SIZE = 500;
+
+	// Best first; ties go to the earlier application
+	private static final Comparator<Ranked> RANK_ORDER = Comparator.comparing(Ranked::score).reversed()
+			.thenComparing(Ranked::appliedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+			.thenComparing(Ranked::applicationId);
+
+	private final ProjectApplicationRepository applicationRepository;
+	private final ProjectRepository projectRepository;
+	private final AssessmentRepository assessmentRepository;
+	private final UserRepository userRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor executor;
+	private final int capacity;
+	private final long refreshIntervalMs;
+
+	private final Map<Long, ProjectRanking> rankings = new ConcurrentHashMap<>();
+
+	public ApplicantRankingService(ProjectApplicationRepository applicationRepository,
+			ProjectRepository projectRepository, AssessmentRepository assessmentRepository,
+			UserRepository userRepository, PlatformTransactionManager transactionManager,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+			@Value("${growcorehub.projects.ranking.capacity:1000}") int capacity,
+			@Value("${growcorehub.projects.ranking.refresh-interval-ms:600000}") long refreshIntervalMs) {
+		this.applicationRepository = applicationRepository;
+		this.projectRepository = projectRepository;
+		this.assessmentRepository = assessmentRepository;
+		this.userRepository = userRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.executor = executor;
+		this.capacity = capacity;
+		this.refreshIntervalMs = refreshIntervalMs;
+	}
+
+	/**
+	 * Scores applications that predate stored scores, in the background
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillScores() {
+		executor.execute(() -> {
+			int scored = 0;
+			try {
+				List<Long> ids;
+				while (!(ids = applicationRepository.findIdsWithoutScore(PageRequest.of(0, BACKFILL_BATCH_SIZE)))
+						.isEmpty()) {
+					List<Long> batch = ids;
+					transactionTemplate.executeWithoutResult(status -> rescoreApplications(batch));
+					scored += batch.size();
+				}
+			} catch (RuntimeException e) {
+				log.warn("Stopped scoring existing applications after {}: {}", scored, e.getMessage());
+			}
+			if (scored > 0) {
+				log.info("Scored {} existing project applications", scored);
+			}
+		});
+	}
+
+	@Transactional(readOnly = true)
+	@Timed(value = "growcorehub.projects.applicants.top", description = "Top applicants of a project", histogram = true)
+	public Page<ApplicantRankingResponse> getTopApplicants(Long projectId, int page, int size) {
+		Project project = projectRepository.findById(projectId)
+				.orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+		BigDecimal minimumScore = project.getMinimumScore() != null ? project.getMinimumScore() : BigDecimal.ZERO;
+		PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+
+		ProjectRanking ranking = rankings.get(projectId);
+		if (ranking == null || !ranking.isUsable(minimumScore)) {
+			ranking = load(projectId, minimumScore);
+			rankings.put(projectId, ranking);
+		} else if (ranking.claimRefresh(refreshIntervalMs)) {
+			refreshInBackground(projectId, minimumScore, ranking);
+		}
+
+		List<Ranked> ranked = ranking.page((int) pageable.getOffset(), pageable.getPageSize());
+		if (ranked == null) {
+			// Beyond what is held in memory
+			ranked = applicationRepository.findRanked(projectId, ApplicationStatus.APPLIED, minimumScore, pageable)
+					.stream().map(ApplicantRankingService::toRanked).toList();
+		}
+		return new PageImpl<>(toResponses(ranked, (int) pageable.getOffset()), pageable, ranking.eligibleCount());
+	}
+
+	/**
+	 * Recomputes application scores after results were scored; joins the
+	 * caller's transaction
+	 */
+	@Transactional
+	public void rescoreForResults(Collection<UserAssessment> results) {
+		if (results.isEmpty()) {
+			return;
+		}
+		Set<List<Long>> userAssessmentPairs = new HashSet<>();
+		Set<Long> userIds = new HashSet<>();
+		Set<Long> assessmentIds = new HashSet<>();
+		for (UserAssessment result : results) {
+			userAssessmentPairs.add(List.of(result.getUser().getId(), result.getAssessment().getId()));
+			userIds.add(result.getUser().getId());
+			assessmentIds.add(result.getAssessment().getId());
+		}
+
+		List<Long> applicationIds = applicationRepository.findIdsByAssessmentsAndUsers(assessmentIds, userIds).stream()
+				.filter(row -> userAssessmentPairs.contains(List.of((Long) row[1], (Long) row[2])))
+				.map(row -> (Long) row[0]).distinct().toList();
+		if (!applicationIds.isEmpty()) {
+			rescoreApplications(applicationIds);
+		}
+	}
+
+	/**
+	 * Recomputes the scores of the given applications, e.g. right after they
+	 * were created
+	 */
+	@Transactional
+	public void rescore(Collection<Long> applicationIds) {
+		rescoreApplications(applicationIds);
+	}
+
+	/**
+	 * Drops the project's ranking once the current transaction commits, e.g.
+	 * after applications changed status in bulk
+	 */
+	public void invalidateAfterCommit(Long projectId) {
+		afterCommit(() -> rankings.remove(projectId));
+	}
+
+	private void rescoreApplications(Collection<Long> applicationIds) {
+		List<ProjectApplication> applications = applicationRepository.findAllById(applicationIds);
+		Set<Long> projectIds = applications.stream().map(application -> application.getProject().getId())
+				.collect(Collectors.toSet());
+		Map<Long, Long> assessmentCounts = toMap(assessmentRepository.countByProjectIds(projectIds));
+		Map<Long, BigDecimal> scoreSums = new HashMap<>();
+		for (Object[] row : applicationRepository.sumScoresByIds(applicationIds)) {
+			scoreSums.put((Long) row[0], (BigDecimal) row[1]);
+		}
+
+		List<ScoreChange> changes = new ArrayList<>();
+		for (ProjectApplication application : applications) {
+			long assessments = assessmentCounts.getOrDefault(application.getProject().getId(), 0L);
+			BigDecimal sum = scoreSums.getOrDefault(application.getId(), BigDecimal.ZERO);
+			BigDecimal score = assessments == 0 ? BigDecimal.ZERO.setScale(2)
+					: sum.divide(BigDecimal.valueOf(assessments), 2, RoundingMode.HALF_UP);
+
+			BigDecimal previous = application.getAssessmentScore();
+			if (previous != null && previous.compareTo(score) == 0) {
+				continue;
+			}
+			application.setAssessmentScore(score);
+			if (application.getApplicationStatus() == ApplicationStatus.APPLIED) {
+				changes.add(new ScoreChange(application.getProject().getId(), new Ranked(application.getId(),
+						application.getUser().getId(), score, application.getAppliedAt()), previous));
+			}
+		}
+
+		if (!changes.isEmpty()) {
+			afterCommit(() -> changes.forEach(this::apply));
+		}
+	}
+
+	private void apply(ScoreChange change) {
+		// Rankings not in memory are loaded from the stored scores when next read
+		ProjectRanking ranking = rankings.get(change.projectId());
+		if (ranking != null) {
+			ranking.update(change.ranked(), change.previousScore());
+		}
+	}
+
+	// An expired ranking keeps serving reads while its replacement loads
+	private void refreshInBackground(Long projectId, BigDecimal minimumScore, ProjectRanking expired) {
+		try {
+			executor.execute(() -> {
+				try {
+					ProjectRanking fresh = transactionTemplate.execute(status -> load(projectId, minimumScore));
+					rankings.replace(projectId, expired, fresh);
+				} catch (RuntimeException e) {
+					log.warn("Failed to refresh applicant ranking of project {}: {}", projectId, e.getMessage());
+					rankings.remove(projectId, expired);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			// Reloaded by the next read instead
+			rankings.remove(projectId, expired);
+		}
+	}
+
+	private ProjectRanking load(Long projectId, BigDecimal minimumScore) {
+		List<Ranked> top = applicationRepository
+				.findRanked(projectId, ApplicationStatus.APPLIED, minimumScore, PageRequest.of(0, capacity)).stream()
+				.map(ApplicantRankingService::toRanked).toList();
+		long eligible = top.size() < capacity ? top.size()
+				: applicationRepository.countRanked(projectId, ApplicationStatus.APPLIED, minimumScore);
+		return new ProjectRanking(capacity, minimumScore, top, eligible);
+	}
+
+	private List<ApplicantRankingResponse> toResponses(List<Ranked> ranked, int offset) {
+		Map<Long, User> users = userRepository.findAllById(ranked.stream().map(Ranked::userId).toList()).stream()
+				.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		List<ApplicantRankingResponse> responses = new ArrayList<>(ranked.size());
+		for (Ranked entry : ranked) {
+			ApplicantRankingResponse response = new ApplicantRankingResponse();
+			response.setRank(offset + responses.size() + 1);
+			response.setApplicationId(entry.applicationId());
+			response.setUserId(entry.userId());
+			response.setScore(entry.score());
+			response.setAppliedAt(entry.appliedAt());
+			User user = users.get(entry.userId());
+			if (user != null) {
+				response.setFirstName(user.getFirstName());
+				response.setLastName(user.getLastName());
+				response.setEmail(user.getEmail());
+			}
+			responses.add(response);
+		}
+		return responses;
+	}
+
+	private static Ranked toRanked(Object[] row) {
+		return new Ranked((Long) row[0], (Long) row[1], (BigDecimal) row[2], (LocalDateTime) row[3]);
+	}
+
+	private static Map<Long, Long> toMap(List<Object[]> rows) {
+		Map<Long, Long> map = new HashMap<>();
+		for (Object[] row : rows) {
+			map.put((Long) row[0], (Long) row[1]);
+		}
+		return map;
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private record Ranked(long applicationId, long userId, BigDecimal score, LocalDateTime appliedAt) {
+	}
+
+	private record ScoreChange(Long projectId, Ranked ranked, BigDecimal previousScore) {
+	}
+
+	/**
+	 * The best applicants of one project, bounded to {@code capacity}, plus the
+	 * number of eligible applicants overall. Once an applicant leaves a full set
+	 * the next best is not known here, so the ranking asks to be reloaded.
+	 */
+	private static final class ProjectRanking {
+
+		private final int capacity;
+		private final BigDecimal minimumScore;
+		private final long loadedAt = System.currentTimeMillis();
+		private final TreeSet<Ranked> top = new TreeSet<>(RANK_ORDER);
+		private final Map<Long, Ranked> byApplication = new HashMap<>();
+		private long eligible;
+		private boolean stale;
+		private boolean refreshing;
+		// Rebuilt on the first read after a change
+		private Ranked[] ordered;
+
+		ProjectRanking(int capacity, BigDecimal minimumScore, List<Ranked> best, long eligible) {
+			this.capacity = capacity;
+			this.minimumScore = minimumScore;
+			this.eligible = eligible;
+			for (Ranked ranked : best) {
+				top.add(ranked);
+				byApplication.put(ranked.applicationId(), ranked);
+			}
+		}
+
+		synchronized boolean isUsable(BigDecimal currentMinimumScore) {
+			return !stale && minimumScore.compareTo(currentMinimumScore) == 0;
+		}
+
+		/**
+		 * True for the one caller that should reload an expired ranking
+		 */
+		synchronized boolean claimRefresh(long refreshIntervalMs) {
+			if (refreshing || System.currentTimeMillis() - loadedAt < refreshIntervalMs) {
+				return false;
+			}
+			refreshing = true;
+			return true;
+		}
+
+		synchronized long eligibleCount() {
+			return eligible;
+		}
+
+		/**
+		 * The entries at {@code offset}, or null when they are not all held here
+		 */
+		synchronized List<Ranked> page(int offset, int size) {
+			if (offset + size > top.size() && top.size() < eligible) {
+				return null;
+			}
+			if (ordered == null) {
+				ordered = top.toArray(new Ranked[0]);
+			}
+			int end = Math.min(ordered.length, offset + size);
+			return offset >= end ? List.of() : List.copyOf(Arrays.asList(ordered).subList(offset, end));
+		}
+
+		synchronized void update(Ranked ranked, BigDecimal previousScore) {
+			Ranked existing = byApplication.remove(ranked.applicationId());
+			if (existing != null) {
+				top.remove(existing);
+			}
+			if (isEligible(previousScore)) {
+				eligible--;
+			}
+			if (isEligible(ranked.score())) {
+				eligible++;
+				if (top.size() < capacity || RANK_ORDER.compare(ranked, top.last()) < 0) {
+					top.add(ranked);
+					byApplication.put(ranked.applicationId(), ranked);
+					if (top.size() > capacity) {
+						byApplication.remove(top.pollLast().applicationId());
+					}
+				}
+			}
+			// An eligible applicant outside the set may now belong in it
+			stale |= top.size() < Math.min(capacity, eligible);
+			ordered = null;
+		}
+
+		private boolean isEligible(BigDecimal score) {
+			return score != null && score.compareTo(minimumScore) >= 0;
+		}
+	}
+}
@@ -0,0 +1,316 @@
+package com.growcorehub.service;
+
+import com.growcorehub.dto.request.BulkReviewRequest;
+import com.growcorehub.dto.response.BulkReviewResponse;
+import com.growcorehub.entity.Project;
+import com.growcorehub.enums.ApplicationStatus;
+import com.growcorehub.enums.BulkReviewState;
+import com.growcorehub.exception.BadRequestException;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.repository.ProjectApplicationRepository;
+import com.growcorehub.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk status changes for a project's applications. A review runs in the
+ * background in chunks: each chunk selects the next matching applications by
+ * id and moves them with one {@code UPDATE} guarded on their current status,
+ * in its own short transaction. Applicants of a chunk are notified together,
+ * once it commits.
+ * <p>
+ * Reviews are tracked in memory on the node that runs them; the handle
+ * returned on start is polled for progress there.
+ */
+@Service
+@Slf4j
+public class ApplicationReviewService {
+
+	private static final Duration FINISHED_RETENTION = Duration.ofHours(1);
+
+	private final ProjectApplicationRepository applicationRepository;
+	private final ProjectRepository projectRepository;
+	private final ApplicantRankingService applicantRankingService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate chunkTransaction;
+	private final Executor executor;
+	private final int chunkSize;
+	private final long chunkPauseMs;
+	private final MeterRegistry meterRegistry;
+	private final Timer chunkTimer;
+
+	private final Map<String, BulkReview> reviews = new ConcurrentHashMap<>();
+
+	public ApplicationReviewService(ProjectApplicationRepository applicationRepository,
+			ProjectRepository projectRepository, ApplicantRankingService applicantRankingService,
+			ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+			@Value("${growcorehub.applications.bulk-review.chunk-size:500}") int chunkSize,
+			@Value("${growcorehub.applications.bulk-review.chunk-pause-ms:50}") long chunkPauseMs,
+			MeterRegistry meterRegistry) {
+		this.applicationRepository = applicationRepository;
+		this.projectRepository = projectRepository;
+		this.applicantRankingService = applicantRankingService;
+		this.eventPublisher = eventPublisher;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.executor = executor;
+		this.chunkSize = chunkSize;
+		this.chunkPauseMs = chunkPauseMs;
+		this.meterRegistry = meterRegistry;
+		this.chunkTimer = Timer.builder("growcorehub.applications.review.chunk")
+				.description("Duration of one bulk review chunk").register(meterRegistry);
+	}
+
+	/**
+	 * Starts a bulk review and returns its handle; one review per project runs
+	 * at a time on this node
+	 */
+	public BulkReviewResponse startReview(Long projectId, BulkReviewRequest request) {
+		Project project = projectRepository.findById(projectId)
+				.orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+		// Bean validation annotations on the request are not enforced without a provider
+		if (request.getFromStatus() == null || request.getToStatus() == null) {
+			throw new BadRequestException("Both fromStatus and toStatus are required");
+		}
+		if (!request.getFromStatus().canTransitionTo(request.getToStatus())) {
+			throw new BadRequestException(
+					"Applications cannot move from " + request.getFromStatus() + " to " + request.getToStatus());
+		}
+
+		removeFinishedReviews();
+		List<Long> applicationIds = request.getApplicationIds() != null
+				? request.getApplicationIds().stream().distinct().sorted().toList()
+				: null;
+		long matched = applicationIds != null ? applicationIds.size()
+				: applicationRepository.countReviewCandidates(projectId, request.getFromStatus(),
+						request.getMinimumScore());
+
+		BulkReview review = new BulkReview(UUID.randomUUID().toString(), project.getId(), project.getTitle(), request,
+				applicationIds, matched);
+		synchronized (reviews) {
+			boolean running = reviews.values().stream().anyMatch(
+					other -> other.projectId.equals(projectId) && other.state == BulkReviewState.RUNNING);
+			if (running) {
+				throw new BadRequestException("A bulk review is already running for this project");
+			}
+			reviews.put(review.id, review);
+		}
+
+		executor.execute(() -> run(review));
+		log.info("Started bulk review {} of project {}: {} -> {}, {} applications", review.id, projectId,
+				request.getFromStatus(), request.getToStatus(), matched);
+		return review.toResponse();
+	}
+
+	public BulkReviewResponse getReview(Long projectId, String reviewId) {
+		BulkReview review = reviews.get(reviewId);
+		if (review == null || !review.projectId.equals(projectId)) {
+			throw new ResourceNotFoundException("Bulk review not found with id: " + reviewId);
+		}
+		return review.toResponse();
+	}
+
+	private void run(BulkReview review) {
+		Counter reviewed = Counter.builder("growcorehub.applications.reviewed")
+				.description("Applications moved by bulk reviews").tag("status", review.toStatus.name())
+				.register(meterRegistry);
+		try {
+			boolean more = true;
+			while (more) {
+				more = chunkTimer.record(() -> chunkTransaction.execute(status -> reviewChunk(review)));
+				if (more && !pause()) {
+					throw new IllegalStateException("Interrupted");
+				}
+			}
+			review.state = BulkReviewState.COMPLETED;
+		} catch (RuntimeException e) {
+			log.error("Bulk review {} of project {} failed after {} applications: {}", review.id, review.projectId,
+					review.updated.get(), e.getMessage());
+			review.error = e.getMessage();
+			review.state = BulkReviewState.FAILED;
+		} finally {
+			review.finishedAt = LocalDateTime.now();
+			reviewed.increment(review.updated.get());
+		}
+		log.info("Bulk review {} of project {} {}: {} updated, {} skipped", review.id, review.projectId,
+				review.state.name().toLowerCase(), review.updated.get(), review.skipped.get());
+	}
+
+	/**
+	 * Moves the next chunk; returns whether there may be more
+	 */
+	private boolean reviewChunk(BulkReview review) {
+		List<Object[]> candidates = review.nextCandidates();
+		if (candidates.isEmpty()) {
+			return review.hasMoreIds();
+		}
+
+		List<Long> ids = new ArrayList<>(candidates.size());
+		candidates.forEach(row -> ids.add((Long) row[0]));
+		// Rows someone else moved since they were selected drop out here; only the locked ones are ours
+		List<Long> locked = applicationRepository.lockIdsByIdsAndStatus(ids, review.fromStatus);
+		int updated = locked.isEmpty() ? 0
+				: applicationRepository.transitionStatus(locked, review.fromStatus, review.toStatus);
+
+		List<Object[]> moved = candidates;
+		if (locked.size() < ids.size()) {
+			Set<Long> ours = Set.copyOf(locked);
+			moved = candidates.stream().filter(row -> ours.contains((Long) row[0])).toList();
+		}
+
+		review.chunks.incrementAndGet();
+		review.updated.addAndGet(updated);
+		review.skipped.addAndGet(ids.size() - updated);
+		if (updated > 0) {
+			applicantRankingService.invalidateAfterCommit(review.projectId);
+			if (review.notify) {
+				publishAfterCommit(review, moved);
+			}
+		}
+		return candidates.size() == chunkSize || review.hasMoreIds();
+	}
+
+	private void publishAfterCommit(BulkReview review, List<Object[]> moved) {
+		List<Long> userIds = moved.stream().map(row -> (Long) row[1]).toList();
+		List<String> emails = moved.stream().map(row -> (String) row[2]).toList();
+		ApplicationsReviewedEvent event = new ApplicationsReviewedEvent(review.projectId, review.projectTitle,
+				review.toStatus, userIds, emails);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eventPublisher.publishEvent(event);
+				}
+			});
+		} else {
+			eventPublisher.publishEvent(event);
+		}
+	}
+
+	private void removeFinishedReviews() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(FINISHED_RETENTION);
+		reviews.values().removeIf(review -> review.finishedAt != null && review.finishedAt.isBefore(cutoff));
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(chunkPauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * Applications of one reviewed chunk that moved to {@code status}
+	 */
+	public record ApplicationsReviewedEvent(Long projectId, String projectTitle, ApplicationStatus status,
+			List<Long> userIds, List<String> emails) {
+	}
+
+	private final class BulkReview {
+
+		private final String id;
+		private final Long projectId;
+		private final String projectTitle;
+		private final ApplicationStatus fromStatus;
+		private final ApplicationStatus toStatus;
+		private final BigDecimal minimumScore;
+		private final boolean notify;
+		private final List<Long> applicationIds; // null when selecting by status and score
+		private final long matched;
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final AtomicLong updated = new AtomicLong();
+		private final AtomicLong skipped = new AtomicLong();
+		private final AtomicInteger chunks = new AtomicInteger();
+		private volatile BulkReviewState state = BulkReviewState.RUNNING;
+		private volatile LocalDateTime finishedAt;
+		private volatile String error;
+
+		// Position of the next chunk: last id seen, or next index into applicationIds
+		private long afterId;
+		private int nextIndex;
+
+		BulkReview(String id, Long projectId, String projectTitle, BulkReviewRequest request, List<Long> applicationIds,
+				long matched) {
+			this.id = id;
+			this.projectId = projectId;
+			this.projectTitle = projectTitle;
+			this.fromStatus = request.getFromStatus();
+			this.toStatus = request.getToStatus();
+			this.minimumScore = request.getMinimumScore();
+			this.notify = request.isNotify();
+			this.applicationIds = applicationIds;
+			this.matched = matched;
+		}
+
+		List<Object[]> nextCandidates() {
+			if (applicationIds != null) {
+				List<Long> slice = applicationIds.subList(nextIndex,
+						Math.min(nextIndex + chunkSize, applicationIds.size()));
+				nextIndex += slice.size();
+				if (slice.isEmpty()) {
+					return List.of();
+				}
+				List<Object[]> candidates = applicationRepository.findReviewCandidatesByIds(slice, projectId,
+						fromStatus, minimumScore);
+				skipped.addAndGet(slice.size() - candidates.size());
+				return candidates;
+			}
+			List<Object[]> candidates = applicationRepository.findReviewCandidates(projectId, fromStatus, minimumScore,
+					afterId, PageRequest.of(0, chunkSize));
+			if (!candidates.isEmpty()) {
+				afterId = (Long) candidates.get(candidates.size() - 1)[0];
+			}
+			return candidates;
+		}
+
+		boolean hasMoreIds() {
+			return applicationIds != null && nextIndex < applicationIds.size();
+		}
+
+		BulkReviewResponse toResponse() {
+			BulkReviewResponse response = new BulkReviewResponse();
+			response.setId(id);
+			response.setProjectId(projectId);
+			response.setFromStatus(fromStatus);
+			response.setToStatus(toStatus);
+			response.setState(state);
+			response.setMatched(matched);
+			response.setUpdated(updated.get());
+			response.setSkipped(skipped.get());
+			response.setChunks(chunks.get());
+			response.setStartedAt(startedAt);
+			response.setFinishedAt(finishedAt);
+			response.setError(error);
+			return response;
+		}
+	}
+}
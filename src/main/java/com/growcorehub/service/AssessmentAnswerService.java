@@ -0,0 +1,172 @@
+package com.growcorehub.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.util.AnswerCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stores submitted answers in {@link AnswerCodec} form instead of JSON text,
+ * and converts rows written before that in the background: small keyset
+ * chunks, one short transaction each with a pause in between. Text that is
+ * not a JSON object is kept as it is.
+ * <p>
+ * The json-bytes and binary-bytes counters cover every conversion, so their
+ * ratio is the storage saved.
+ */
+@Service
+@Slf4j
+public class AssessmentAnswerService {
+
+	private final UserAssessmentRepository userAssessmentRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate chunkTransaction;
+
+	private final Counter jsonBytes;
+	private final Counter binaryBytes;
+	private final Counter migrated;
+	private final Timer decodeTimer;
+
+	@Value("${growcorehub.assessments.answers.migration.enabled:true}")
+	private boolean migrationEnabled;
+
+	@Value("${growcorehub.assessments.answers.migration.chunk-size:500}")
+	private int chunkSize;
+
+	@Value("${growcorehub.assessments.answers.migration.chunk-pause-ms:100}")
+	private long chunkPauseMs;
+
+	public AssessmentAnswerService(UserAssessmentRepository userAssessmentRepository, ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.userAssessmentRepository = userAssessmentRepository;
+		this.objectMapper = objectMapper;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.jsonBytes = Counter.builder("growcorehub.assessments.answers.json-bytes")
+				.description("JSON size of answers converted to binary").register(meterRegistry);
+		this.binaryBytes = Counter.builder("growcorehub.assessments.answers.binary-bytes")
+				.description("Binary size of the same answers").register(meterRegistry);
+		this.migrated = Counter.builder("growcorehub.assessments.answers.migrated")
+				.description("Stored answers converted from JSON text").register(meterRegistry);
+		this.decodeTimer = Timer.builder("growcorehub.assessments.answers.decode")
+				.description("Time to decode one submission's answers").register(meterRegistry);
+	}
+
+	/**
+	 * Sets the submission's answers from the JSON the client sent
+	 */
+	public void store(UserAssessment userAssessment, String answersJson) {
+		byte[] encoded = encode(answersJson);
+		userAssessment.setAnswersBin(encoded);
+		userAssessment.setAnswers(encoded == null ? answersJson : null);
+	}
+
+	/**
+	 * The submission's answers as the JSON object clients send; a missing node
+	 * when there are none or they cannot be read, which scores zero
+	 */
+	public JsonNode read(UserAssessment userAssessment) {
+		try {
+			if (userAssessment.getAnswersBin() != null) {
+				long start = System.nanoTime();
+				JsonNode answers = AnswerCodec.decode(userAssessment.getAnswersBin());
+				decodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				return answers;
+			}
+			if (userAssessment.getAnswers() != null) {
+				return objectMapper.readTree(userAssessment.getAnswers());
+			}
+		} catch (Exception e) {
+			log.error("Could not read answers of assessment submission {}: {}", userAssessment.getId(),
+					e.getMessage());
+		}
+		return MissingNode.getInstance();
+	}
+
+	/**
+	 * Converts rows still holding JSON text. Each run walks the table once, so
+	 * rows it cannot convert are skipped until the next run.
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.assessments.answers.migration.interval-ms:3600000}", initialDelayString = "${growcorehub.assessments.answers.migration.initial-delay-ms:60000}")
+	public void migrate() {
+		if (!migrationEnabled) {
+			return;
+		}
+		long afterId = 0;
+		long converted = 0;
+		try {
+			List<Object[]> chunk;
+			do {
+				long from = afterId;
+				chunk = userAssessmentRepository.findTextAnswers(from, PageRequest.of(0, chunkSize));
+				if (chunk.isEmpty()) {
+					break;
+				}
+				List<Object[]> rows = chunk;
+				Integer updated = chunkTransaction.execute(status -> convert(rows));
+				converted += updated != null ? updated : 0;
+				afterId = (Long) chunk.get(chunk.size() - 1)[0];
+			} while (chunk.size() == chunkSize && pause());
+
+			if (converted > 0) {
+				log.info("Converted answers of {} assessment submissions to binary", converted);
+			}
+		} catch (Exception e) {
+			log.error("Answer conversion stopped after {} rows: {}", converted, e.getMessage());
+		}
+	}
+
+	// Rows: (id, answers)
+	private int convert(List<Object[]> rows) {
+		int updated = 0;
+		for (Object[] row : rows) {
+			byte[] encoded = encode((String) row[1]);
+			if (encoded != null) {
+				updated += userAssessmentRepository.convertAnswers((Long) row[0], encoded);
+			}
+		}
+		migrated.increment(updated);
+		return updated;
+	}
+
+	private byte[] encode(String answersJson) {
+		if (answersJson == null) {
+			return null;
+		}
+		try {
+			byte[] encoded = AnswerCodec.encode(objectMapper.readTree(answersJson));
+			if (encoded != null) {
+				jsonBytes.increment(answersJson.getBytes(StandardCharsets.UTF_8).length);
+				binaryBytes.increment(encoded.length);
+			}
+			return encoded;
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(chunkPauseMs);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,341 @@
+package com.growcorehub.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growcorehub.dto.request.AssessmentSubmissionRequest;
+import com.growcorehub.dto.request.SaveAnswersRequest;
+import com.growcorehub.dto.response.AssessmentAttemptResponse;
+import com.growcorehub.dto.response.AssessmentResponse;
+import com.growcorehub.entity.Assessment;
+import com.growcorehub.entity.AssessmentAttempt;
+import com.growcorehub.entity.User;
+import com.growcorehub.enums.AttemptStatus;
+import com.growcorehub.exception.BadRequestException;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.repository.AssessmentAttemptRepository;
+import com.growcorehub.repository.AssessmentRepository;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.util.HashedTimerWheel;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Attempt lifecycle for assessments: start records a deadline from the time
+ * limit, answers are autosaved, and the attempt ends on submit or when the
+ * deadline passes. Deadlines live in an in-process timer wheel; on expiry the
+ * autosaved answers are scored as the submission.
+ * <p>
+ * Submissions and autosaves check the deadline themselves, so the wheel only
+ * decides how soon an abandoned attempt is finalised. Open attempts are loaded
+ * back into the wheel on startup, and a slow sweep picks up attempts whose
+ * node went away.
+ */
+@Service
+@Slf4j
+public class AssessmentAttemptService {
+
+	// Expired attempts are finalised in groups of this size, one executor task each
+	private static final int EXPIRY_BATCH_SIZE = 100;
+	// Same cap as SaveAnswersRequest declares
+	private static final int MAX_ANSWERS_LENGTH = 65535;
+
+	private final AssessmentAttemptRepository attemptRepository;
+	private final AssessmentRepository assessmentRepository;
+	private final UserAssessmentRepository userAssessmentRepository;
+	private final AssessmentService assessmentService;
+	private final UserService userService;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate expiryTransaction;
+	private final Executor executor;
+	private final HashedTimerWheel<Long> deadlines;
+	private final Counter expiredAttempts;
+
+	// Late requests (network, clock skew) are still accepted for this long after the deadline
+	@Value("${growcorehub.assessments.attempts.submit-grace-ms:5000}")
+	private long submitGraceMs;
+
+	public AssessmentAttemptService(AssessmentAttemptRepository attemptRepository,
+			AssessmentRepository assessmentRepository, UserAssessmentRepository userAssessmentRepository,
+			AssessmentService assessmentService, UserService userService, ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+			@Value("${growcorehub.assessments.attempts.tick-ms:1000}") long tickMs,
+			@Value("${growcorehub.assessments.attempts.wheel-size:512}") int wheelSize,
+			MeterRegistry meterRegistry) {
+		this.attemptRepository = attemptRepository;
+		this.assessmentRepository = assessmentRepository;
+		this.userAssessmentRepository = userAssessmentRepository;
+		this.assessmentService = assessmentService;
+		this.userService = userService;
+		this.objectMapper = objectMapper;
+		this.expiryTransaction = new TransactionTemplate(transactionManager);
+		this.executor = executor;
+		this.deadlines = new HashedTimerWheel<>("assessment-deadlines", Duration.ofMillis(tickMs), wheelSize,
+				this::onDeadlinesPassed);
+		Gauge.builder("growcorehub.assessments.attempts.tracked", deadlines, HashedTimerWheel::size)
+				.description("Open attempt deadlines tracked on this node").register(meterRegistry);
+		this.expiredAttempts = Counter.builder("growcorehub.assessments.attempts.expired")
+				.description("Attempts finalised because their deadline passed").register(meterRegistry);
+	}
+
+	@PostConstruct
+	void startDeadlineTimer() {
+		deadlines.start();
+	}
+
+	@PreDestroy
+	void stopDeadlineTimer() {
+		deadlines.close();
+	}
+
+	/**
+	 * Reloads open attempts after a restart; overdue ones expire on the first tick
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void trackOpenAttempts() {
+		List<Object[]> open = attemptRepository.findDeadlinesByStatus(AttemptStatus.IN_PROGRESS);
+		open.forEach(row -> track((Long) row[0], (LocalDateTime) row[1]));
+		log.info("Tracking {} open assessment attempts", open.size());
+	}
+
+	/**
+	 * Starts an attempt, or returns the open one without resetting its clock
+	 */
+	@Transactional
+	public AssessmentAttemptResponse startAttempt(Long assessmentId, String userEmail) {
+		User user = userService.findByEmail(userEmail);
+		Assessment assessment = findAssessment(assessmentId);
+
+		if (userAssessmentRepository.existsByUserIdAndAssessmentId(user.getId(), assessmentId)) {
+			throw new BadRequestException("Assessment already completed");
+		}
+
+		AssessmentAttempt existing = attemptRepository.findByUserIdAndAssessmentId(user.getId(), assessmentId)
+				.orElse(null);
+		if (existing != null) {
+			if (existing.getStatus() != AttemptStatus.IN_PROGRESS) {
+				throw new BadRequestException("Assessment attempt is already closed");
+			}
+			return convertToAttemptResponse(existing, assessmentId);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		AssessmentAttempt attempt = new AssessmentAttempt();
+		attempt.setUser(user);
+		attempt.setAssessment(assessment);
+		attempt.setStartedAt(now);
+		if (assessment.getTimeLimitMinutes() != null) {
+			attempt.setDeadline(now.plusMinutes(assessment.getTimeLimitMinutes()));
+		}
+		AssessmentAttempt saved = attemptRepository.save(attempt);
+
+		if (saved.getDeadline() != null) {
+			afterCommit(() -> track(saved.getId(), saved.getDeadline()));
+		}
+		return convertToAttemptResponse(saved, assessmentId);
+	}
+
+	@Transactional(readOnly = true)
+	public AssessmentAttemptResponse getAttempt(Long assessmentId, String userEmail) {
+		User user = userService.findByEmail(userEmail);
+		return convertToAttemptResponse(findAttempt(user.getId(), assessmentId), assessmentId);
+	}
+
+	@Transactional
+	public AssessmentAttemptResponse saveAnswers(Long assessmentId, SaveAnswersRequest request, String userEmail) {
+		checkAnswers(request.getAnswers());
+		User user = userService.findByEmail(userEmail);
+		AssessmentAttempt attempt = findAttempt(user.getId(), assessmentId);
+
+		// Conditional update: an expiry racing this save wins or waits, never gets overwritten
+		LocalDateTime now = LocalDateTime.now();
+		if (attemptRepository.saveAnswers(attempt.getId(), request.getAnswers(), now, submitCutoff(now)) == 0) {
+			throw new BadRequestException("Assessment attempt is closed or its time limit has passed");
+		}
+
+		AssessmentAttemptResponse response = convertToAttemptResponse(attempt, assessmentId);
+		response.setAnswers(request.getAnswers());
+		response.setSavedAt(now);
+		return response;
+	}
+
+	@Transactional
+	@Timed(value = "growcorehub.assessments.submit", description = "Assessment submission", histogram = true)
+	public AssessmentResponse submitAssessment(AssessmentSubmissionRequest request, String userEmail) {
+		User user = userService.findByEmail(userEmail);
+		Assessment assessment = findAssessment(request.getAssessmentId());
+
+		AssessmentAttempt attempt = attemptRepository
+				.findByUserIdAndAssessmentId(user.getId(), assessment.getId()).orElse(null);
+		if (attempt != null) {
+			checkAnswers(request.getAnswers());
+			LocalDateTime now = LocalDateTime.now();
+			if (attemptRepository.saveAnswers(attempt.getId(), request.getAnswers(), now, submitCutoff(now)) == 0
+					|| attemptRepository.close(attempt.getId(), AttemptStatus.SUBMITTED, now) == 0) {
+				throw new BadRequestException("Assessment attempt is closed or its time limit has passed");
+			}
+			Long attemptId = attempt.getId();
+			afterCommit(() -> deadlines.cancel(attemptId));
+		} else if (assessment.getTimeLimitMinutes() != null) {
+			throw new BadRequestException("Assessment attempt has not been started");
+		}
+		// Untimed assessments can still be submitted without starting an attempt
+
+		return assessmentService.recordResult(user, assessment, request.getAnswers());
+	}
+
+	/**
+	 * Safety net for attempts no node is tracking (started on a node that has
+	 * since gone away). One indexed query per interval, not one per attempt.
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.assessments.attempts.sweep-interval-ms:300000}", initialDelayString = "${growcorehub.assessments.attempts.sweep-interval-ms:300000}")
+	public void expireOverdueAttempts() {
+		LocalDateTime before = submitCutoff(LocalDateTime.now()).minusMinutes(1);
+		List<Long> overdue = attemptRepository.findIdsByStatusAndDeadlineBefore(AttemptStatus.IN_PROGRESS, before,
+				PageRequest.of(0, EXPIRY_BATCH_SIZE * 10));
+		if (!overdue.isEmpty()) {
+			log.info("Expiring {} overdue assessment attempts", overdue.size());
+			onDeadlinesPassed(overdue);
+		}
+	}
+
+	// Runs on the timer thread, so the actual work is handed to the executor
+	private void onDeadlinesPassed(List<Long> attemptIds) {
+		for (int from = 0; from < attemptIds.size(); from += EXPIRY_BATCH_SIZE) {
+			List<Long> batch = List
+					.copyOf(attemptIds.subList(from, Math.min(from + EXPIRY_BATCH_SIZE, attemptIds.size())));
+			executor.execute(() -> batch.forEach(this::expire));
+		}
+	}
+
+	private void expire(Long attemptId) {
+		try {
+			expiryTransaction.executeWithoutResult(status -> {
+				AssessmentAttempt attempt = attemptRepository.findWithUserAndAssessmentById(attemptId).orElse(null);
+				if (attempt == null || attempt.getStatus() != AttemptStatus.IN_PROGRESS
+						|| attempt.getDeadline() == null) {
+					return;
+				}
+
+				LocalDateTime now = LocalDateTime.now();
+				if (attempt.getDeadline().isAfter(submitCutoff(now))) {
+					// Not due yet (deadline changed since it was scheduled)
+					track(attemptId, attempt.getDeadline());
+					return;
+				}
+				if (attemptRepository.close(attemptId, AttemptStatus.EXPIRED, now) == 0) {
+					return;
+				}
+
+				// Whatever was autosaved counts as the submission
+				if (!userAssessmentRepository.existsByUserIdAndAssessmentId(attempt.getUser().getId(),
+						attempt.getAssessment().getId())) {
+					assessmentService.recordResult(attempt.getUser(), attempt.getAssessment(),
+							attempt.getAnswers() != null ? attempt.getAnswers() : "{}");
+				}
+				expiredAttempts.increment();
+			});
+		} catch (RuntimeException e) {
+			log.error("Failed to expire assessment attempt {}", attemptId, e);
+		}
+	}
+
+	// Expiry waits out the grace period so it never preempts an accepted late submission
+	private void track(Long attemptId, LocalDateTime deadline) {
+		deadlines.schedule(attemptId, deadline.plusNanos(submitGraceMs * 1_000_000L).atZone(ZoneId.systemDefault())
+				.toInstant());
+	}
+
+	private LocalDateTime submitCutoff(LocalDateTime now) {
+		return now.minusNanos(submitGraceMs * 1_000_000L);
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	private Assessment findAssessment(Long assessmentId) {
+		return assessmentRepository.findById(assessmentId)
+				.orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + assessmentId));
+	}
+
+	/**
+	 * Answers are written to the attempt's JSON column as sent, so they must be
+	 * a JSON object of bounded size. Checked here because bean validation
+	 * annotations on the request are not enforced without a provider.
+	 */
+	private void checkAnswers(String answers) {
+		if (answers == null) {
+			throw new BadRequestException("Answers are required");
+		}
+		if (answers.length() > MAX_ANSWERS_LENGTH) {
+			throw new BadRequestException("Answers must be at most " + MAX_ANSWERS_LENGTH + " characters");
+		}
+		JsonNode parsed;
+		try {
+			parsed = objectMapper.readTree(answers);
+		} catch (JsonProcessingException e) {
+			parsed = null;
+		}
+		if (parsed == null || !parsed.isObject()) {
+			throw new BadRequestException("Answers must be a JSON object");
+		}
+	}
+
+	private AssessmentAttempt findAttempt(Long userId, Long assessmentId) {
+		return attemptRepository.findByUserIdAndAssessmentId(userId, assessmentId)
+				.orElseThrow(() -> new ResourceNotFoundException("Assessment attempt not found"));
+	}
+
+	private AssessmentAttemptResponse convertToAttemptResponse(AssessmentAttempt attempt, Long assessmentId) {
+		AssessmentAttemptResponse response = new AssessmentAttemptResponse();
+		response.setId(attempt.getId());
+		response.setAssessmentId(assessmentId);
+		response.setStatus(attempt.getStatus());
+		response.setStartedAt(attempt.getStartedAt());
+		response.setDeadline(attempt.getDeadline());
+		response.setAnswers(attempt.getAnswers());
+		response.setSavedAt(attempt.getSavedAt());
+
+		if (attempt.getStatus() == AttemptStatus.IN_PROGRESS && attempt.getDeadline() != null) {
+			long remaining = Duration.between(LocalDateTime.now(), attempt.getDeadline()).getSeconds();
+			response.setRemainingSeconds(Math.max(0, remaining));
+		}
+		return response;
+	}
+}
@@ -0,0 +1,273 @@
+package com.growcorehub.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.growcorehub.dto.response.AssessmentResultResponse;
+import com.growcorehub.entity.Assessment;
+import com.growcorehub.entity.Certification;
+import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.enums.ScoringStatus;
+import com.growcorehub.repository.CertificationRepository;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.service.NotificationBroker.StreamEvent;
+import com.growcorehub.service.scoring.ScoringEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scores submitted assessments off the request path. Submissions are stored as
+ * PENDING and their ids queued here; a fixed pool of workers takes them in
+ * batches, reads the batch in one query, scores it with no transaction open,
+ * then writes scores and certifications in one short transaction (batched
+ * statements). Users with an open notification stream get the result pushed.
+ * <p>
+ * The queue is only an accelerator: ids that do not fit, or that were queued
+ * when the node stopped, are still PENDING in the database and are picked up by
+ * the sweep.
+ */
+@Service
+@Slf4j
+public class AssessmentScoringService {
+
+	private static final BigDecimal CERTIFICATION_THRESHOLD = new BigDecimal("70");
+
+	private final UserAssessmentRepository userAssessmentRepository;
+	private final CertificationRepository certificationRepository;
+	private final NotificationStreamHub notificationStreamHub;
+	private final ScoringEngine scoringEngine;
+	private final AssessmentAnswerService assessmentAnswerService;
+	private final ScoreDistributionService scoreDistributionService;
+	private final ApplicantRankingService applicantRankingService;
+	private final LeaderboardService leaderboardService;
+	private final EligibilityService eligibilityService;
+	private final TransactionTemplate transactionTemplate;
+
+	private final BlockingQueue<Long> queue;
+	// Ids queued or being scored, so the sweep does not queue them twice
+	private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+	private final int workerCount;
+	private final int batchSize;
+	private ExecutorService workers;
+	private volatile boolean running;
+
+	private final Counter deferred;
+	private final Counter scored;
+	private final Timer batchTimer;
+	private final Timer latency;
+
+	public AssessmentScoringService(UserAssessmentRepository userAssessmentRepository,
+			CertificationRepository certificationRepository, NotificationStreamHub notificationStreamHub,
+			ScoringEngine scoringEngine, AssessmentAnswerService assessmentAnswerService,
+			ScoreDistributionService scoreDistributionService, ApplicantRankingService applicantRankingService,
+			LeaderboardService leaderboardService, EligibilityService eligibilityService,
+			PlatformTransactionManager transactionManager,
+			@Value("${growcorehub.assessments.scoring.queue-capacity:10000}") int queueCapacity,
+			@Value("${growcorehub.assessments.scoring.workers:2}") int workerCount,
+			@Value("${growcorehub.assessments.scoring.batch-size:50}") int batchSize, MeterRegistry meterRegistry) {
+		this.userAssessmentRepository = userAssessmentRepository;
+		this.certificationRepository = certificationRepository;
+		this.notificationStreamHub = notificationStreamHub;
+		this.scoringEngine = scoringEngine;
+		this.assessmentAnswerService = assessmentAnswerService;
+		this.scoreDistributionService = scoreDistributionService;
+		this.applicantRankingService = applicantRankingService;
+		this.leaderboardService = leaderboardService;
+		this.eligibilityService = eligibilityService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.workerCount = workerCount;
+		this.batchSize = batchSize;
+
+		Gauge.builder("growcorehub.assessments.scoring.queue", queue, BlockingQueue::size)
+				.description("Submissions waiting to be scored on this node").register(meterRegistry);
+		this.deferred = Counter.builder("growcorehub.assessments.scoring.deferred")
+				.description("Submissions left for the sweep because the queue was full").register(meterRegistry);
+		this.scored = Counter.builder("growcorehub.assessments.scoring.scored")
+				.description("Submissions scored").register(meterRegistry);
+		this.batchTimer = Timer.builder("growcorehub.assessments.scoring.batch")
+				.description("Time to read, score and write one batch").register(meterRegistry);
+		this.latency = Timer.builder("growcorehub.assessments.scoring.latency")
+				.description("Time from submission to score").publishPercentileHistogram().register(meterRegistry);
+	}
+
+	@PostConstruct
+	void startWorkers() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		running = true;
+		workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+			Thread thread = new Thread(runnable, "assessment-scoring-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		for (int i = 0; i < workerCount; i++) {
+			workers.execute(this::work);
+		}
+	}
+
+	@PreDestroy
+	void stopWorkers() {
+		running = false;
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Queues a stored PENDING submission once the current transaction commits
+	 */
+	public void scoreAfterCommit(Long userAssessmentId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(userAssessmentId);
+				}
+			});
+		} else {
+			enqueue(userAssessmentId);
+		}
+	}
+
+	/**
+	 * Queues PENDING rows this node does not know about: overflow, restarts, and
+	 * submissions accepted by nodes that went away
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.assessments.scoring.sweep-interval-ms:60000}", initialDelayString = "${growcorehub.assessments.scoring.sweep-interval-ms:60000}")
+	public void sweepPending() {
+		int capacity = queue.remainingCapacity();
+		if (capacity == 0) {
+			return;
+		}
+		List<Long> pending = userAssessmentRepository.findIdsByStatus(ScoringStatus.PENDING,
+				PageRequest.of(0, Math.min(capacity, batchSize * 20)));
+		pending.forEach(this::enqueue);
+	}
+
+	public AssessmentResultResponse convertToResultResponse(UserAssessment userAssessment) {
+		AssessmentResultResponse response = new AssessmentResultResponse();
+		response.setAssessmentId(userAssessment.getAssessment().getId());
+		response.setSubmittedAt(userAssessment.getCompletedAt());
+
+		if (userAssessment.getStatus() == ScoringStatus.PENDING) {
+			response.setStatus(ScoringStatus.PENDING);
+		} else {
+			response.setStatus(ScoringStatus.SCORED);
+			response.setScore(userAssessment.getScore());
+			response.setCertified(userAssessment.getScore().compareTo(CERTIFICATION_THRESHOLD) >= 0);
+			response.setScoredAt(userAssessment.getScoredAt());
+		}
+		return response;
+	}
+
+	private void enqueue(Long userAssessmentId) {
+		if (!queued.add(userAssessmentId)) {
+			return;
+		}
+		if (!queue.offer(userAssessmentId)) {
+			queued.remove(userAssessmentId);
+			deferred.increment();
+		}
+	}
+
+	private void work() {
+		List<Long> batch = new ArrayList<>(batchSize);
+		while (running) {
+			try {
+				batch.add(queue.take());
+				queue.drainTo(batch, batchSize - 1);
+				batchTimer.record(() -> scoreBatch(batch));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (RuntimeException e) {
+				// Rows stay PENDING and are retried by the sweep
+				log.error("Failed to score {} assessment submissions", batch.size(), e);
+			} finally {
+				batch.forEach(queued::remove);
+				batch.clear();
+			}
+		}
+	}
+
+	private void scoreBatch(List<Long> ids) {
+		List<UserAssessment> pending = transactionTemplate
+				.execute(status -> userAssessmentRepository.findPendingWithAssessment(ids));
+		if (pending == null || pending.isEmpty()) {
+			return;
+		}
+
+		// CPU-bound part, outside any transaction; questions are compiled once per assessment
+		Map<Long, BigDecimal> scores = new HashMap<>(pending.size() * 2);
+		Map<Long, String> skillNames = new HashMap<>(pending.size() * 2);
+		for (UserAssessment userAssessment : pending) {
+			Assessment assessment = userAssessment.getAssessment();
+			JsonNode answers = assessmentAnswerService.read(userAssessment);
+			scores.put(userAssessment.getId(), scoringEngine.score(assessment, answers));
+			skillNames.put(userAssessment.getId(), assessment.getName());
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<Certification> certifications = new ArrayList<>();
+			List<StreamEvent> events = new ArrayList<>();
+			List<UserAssessment> locked = userAssessmentRepository.lockPending(scores.keySet());
+
+			for (UserAssessment userAssessment : locked) {
+				BigDecimal score = scores.get(userAssessment.getId());
+				userAssessment.setScore(score);
+				userAssessment.setStatus(ScoringStatus.SCORED);
+				userAssessment.setScoredAt(now);
+
+				// Create certification if score meets criteria
+				if (score.compareTo(CERTIFICATION_THRESHOLD) >= 0) {
+					Certification certification = new Certification();
+					certification.setUser(userAssessment.getUser());
+					certification.setSkillName(skillNames.get(userAssessment.getId()));
+					certification.setScore(score);
+					certification.setAssessment(userAssessment.getAssessment());
+					certifications.add(certification);
+				}
+
+				scoreDistributionService.recordAfterCommit(userAssessment.getAssessment().getId(), score, now);
+				if (userAssessment.getCompletedAt() != null) {
+					latency.record(Duration.between(userAssessment.getCompletedAt(), now));
+				}
+				events.add(new StreamEvent(userAssessment.getUser().getId(),
+						NotificationStreamHub.EVENT_ASSESSMENT_SCORED, convertToResultResponse(userAssessment)));
+			}
+
+			certificationRepository.saveAll(certifications);
+			leaderboardService.recordAfterCommit(certifications);
+			applicantRankingService.rescoreForResults(locked);
+			eligibilityService.invalidateAfterCommit(
+					locked.stream().map(userAssessment -> userAssessment.getUser().getId()).distinct().toList());
+			notificationStreamHub.publishAllAfterCommit(events);
+			scored.increment(events.size());
+		});
+	}
+}
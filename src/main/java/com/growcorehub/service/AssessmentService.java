@@ -2,16 +2,15 @@ package com.growcorehub.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.growcorehub.dto.request.AssessmentSubmissionRequest;
 import com.growcorehub.dto.response.AssessmentResponse;
+import com.growcorehub.dto.response.AssessmentResultResponse;
 import com.growcorehub.entity.Assessment;
-import com.growcorehub.entity.Certification;
 import com.growcorehub.entity.User;
 import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.enums.ScoringStatus;
 import com.growcorehub.exception.BadRequestException;
 import com.growcorehub.exception.ResourceNotFoundException;
 import com.growcorehub.repository.AssessmentRepository;
-import com.growcorehub.repository.CertificationRepository;
 import com.growcorehub.repository.UserAssessmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +18,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -31,8 +33,9 @@ public class AssessmentService {
 
     private final AssessmentRepository assessmentRepository;
     private final UserAssessmentRepository userAssessmentRepository;
-    private final CertificationRepository certificationRepository;
     private final UserService userService;
+    private final AssessmentScoringService assessmentScoringService;
+    private final AssessmentAnswerService assessmentAnswerService;
     private final ObjectMapper objectMapper;
 
     public List<AssessmentResponse> getAssessmentsByProjectId(Long projectId, Long userId) {
@@ -43,6 +46,41 @@ public class AssessmentService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Assessments of several projects keyed by project id, with the user's
+     * completion when a user is given. Two queries however many projects.
+     */
+    public Map<Long, List<AssessmentResponse>> getAssessmentsByProjectIds(Collection<Long> projectIds, Long userId) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Assessment> assessments = assessmentRepository.findByProjectIdInOrderByIdAsc(projectIds);
+
+        Map<Long, UserAssessment> completions = new HashMap<>();
+        if (userId != null && !assessments.isEmpty()) {
+            List<Long> assessmentIds = assessments.stream().map(Assessment::getId).toList();
+            for (UserAssessment userAssessment : userAssessmentRepository.findByUserIdAndAssessmentIdIn(userId,
+                    assessmentIds)) {
+                completions.put(userAssessment.getAssessment().getId(), userAssessment);
+            }
+        }
+
+        Map<Long, List<AssessmentResponse>> byProject = new HashMap<>();
+        for (Assessment assessment : assessments) {
+            AssessmentResponse response = convertToAssessmentResponse(assessment, (Long) null);
+            if (userId != null) {
+                UserAssessment userAssessment = completions.get(assessment.getId());
+                if (userAssessment != null) {
+                    setCompletion(response, userAssessment);
+                } else {
+                    response.setIsCompleted(false);
+                }
+            }
+            byProject.computeIfAbsent(assessment.getProject().getId(), id -> new ArrayList<>()).add(response);
+        }
+        return byProject;
+    }
+
     public AssessmentResponse getAssessmentById(Long id, String userEmail) {
         Assessment assessment = assessmentRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + id));
@@ -51,73 +89,34 @@ public class AssessmentService {
         return convertToAssessmentResponse(assessment, user.getId());
     }
 
-    public AssessmentResponse submitAssessment(AssessmentSubmissionRequest request, String userEmail) {
-        User user = userService.findByEmail(userEmail);
-        Assessment assessment = assessmentRepository.findById(request.getAssessmentId())
-            .orElseThrow(() -> new ResourceNotFoundException("Assessment not found"));
-
+    /**
+     * Stores the submission as PENDING and hands it to the scoring workers.
+     * Callers close the attempt first, so this runs once per attempt.
+     */
+    public AssessmentResponse recordResult(User user, Assessment assessment, String answers) {
         // Check if user has already completed this assessment
         if (userAssessmentRepository.existsByUserIdAndAssessmentId(user.getId(), assessment.getId())) {
             throw new BadRequestException("Assessment already completed");
         }
 
-        // Calculate score (simplified scoring logic)
-        BigDecimal score = calculateScore(assessment, request.getAnswers());
-
-        // Save user assessment
         UserAssessment userAssessment = new UserAssessment();
         userAssessment.setUser(user);
         userAssessment.setAssessment(assessment);
-        userAssessment.setScore(score);
-        userAssessment.setAnswers(request.getAnswers());
-        userAssessmentRepository.save(userAssessment);
+        userAssessment.setScore(BigDecimal.ZERO);
+        userAssessment.setStatus(ScoringStatus.PENDING);
+        assessmentAnswerService.store(userAssessment, answers);
+        UserAssessment saved = userAssessmentRepository.save(userAssessment);
 
-        // Create certification if score meets criteria
-        if (score.compareTo(new BigDecimal("70")) >= 0) {
-            createCertification(user, assessment, score);
-        }
-
-        return convertToAssessmentResponse(assessment, user.getId());
+        assessmentScoringService.scoreAfterCommit(saved.getId());
+        return convertToAssessmentResponse(assessment, saved);
     }
 
-    private BigDecimal calculateScore(Assessment assessment, String answersJson) {
-        try {
-            // Parse questions and answers
-            List<Map<String, Object>> questions = objectMapper.readValue(
-                assessment.getQuestions(), new TypeReference<List<Map<String, Object>>>() {}
-            );
-            Map<String, Object> answers = objectMapper.readValue(
-                answersJson, new TypeReference<Map<String, Object>>() {}
-            );
-
-            int correctAnswers = 0;
-            for (int i = 0; i < questions.size(); i++) {
-                Map<String, Object> question = questions.get(i);
-                String correctAnswer = (String) question.get("correctAnswer");
-                String userAnswer = (String) answers.get("question_" + i);
-
-                if (correctAnswer != null && correctAnswer.equals(userAnswer)) {
-                    correctAnswers++;
-                }
-            }
-
-            return new BigDecimal((correctAnswers * 100.0) / questions.size());
-        } catch (Exception e) {
-            log.error("Error calculating score for assessment {}: {}", assessment.getId(), e.getMessage());
-            return BigDecimal.ZERO;
-        }
-    }
-
-    private void createCertification(User user, Assessment assessment, BigDecimal score) {
-        // Extract skill name from assessment name or project
-        String skillName = assessment.getName();
-
-        Certification certification = new Certification();
-        certification.setUser(user);
-        certification.setSkillName(skillName);
-        certification.setScore(score);
-        certification.setAssessment(assessment);
-        certificationRepository.save(certification);
+    @Transactional(readOnly = true)
+    public AssessmentResultResponse getResult(Long assessmentId, String userEmail) {
+        User user = userService.findByEmail(userEmail);
+        UserAssessment userAssessment = userAssessmentRepository.findByUserIdAndAssessmentId(user.getId(), assessmentId)
+            .orElseThrow(() -> new ResourceNotFoundException("Assessment result not found"));
+        return assessmentScoringService.convertToResultResponse(userAssessment);
     }
 
     private AssessmentResponse convertToAssessmentResponse(Assessment assessment, Long userId) {
@@ -153,9 +152,7 @@ public class AssessmentService {
                 .orElse(null);
             
             if (userAssessment != null) {
-                response.setIsCompleted(true);
-                response.setUserScore(userAssessment.getScore());
-                response.setCompletedAt(userAssessment.getCompletedAt());
+                setCompletion(response, userAssessment);
             } else {
                 response.setIsCompleted(false);
             }
@@ -163,4 +160,21 @@ public class AssessmentService {
 
         return response;
     }
+
+    private AssessmentResponse convertToAssessmentResponse(Assessment assessment, UserAssessment userAssessment) {
+        AssessmentResponse response = convertToAssessmentResponse(assessment, (Long) null);
+        setCompletion(response, userAssessment);
+        return response;
+    }
+
+    private void setCompletion(AssessmentResponse response, UserAssessment userAssessment) {
+        response.setIsCompleted(true);
+        response.setCompletedAt(userAssessment.getCompletedAt());
+        if (userAssessment.getStatus() == ScoringStatus.PENDING) {
+            response.setScoringStatus(ScoringStatus.PENDING);
+        } else {
+            response.setScoringStatus(ScoringStatus.SCORED);
+            response.setUserScore(userAssessment.getScore());
+        }
+    }
 }
\ No newline at end of file
@@ -4,15 +4,21 @@ import com.growcorehub.dto.request.LoginRequest;
 import com.growcorehub.dto.request.RegisterRequest;
 import com.growcorehub.dto.response.AuthResponse;
 import com.growcorehub.dto.response.UserResponse;
+import com.growcorehub.entity.RefreshToken;
 import com.growcorehub.entity.User;
 import com.growcorehub.entity.UserProfile;
 import com.growcorehub.enums.NotificationType;
 import com.growcorehub.enums.VerificationStatus;
 import com.growcorehub.exception.BadRequestException;
+import com.growcorehub.exception.RefreshTokenReuseException;
+import com.growcorehub.repository.RefreshTokenRepository;
 import com.growcorehub.repository.UserProfileRepository;
 import com.growcorehub.repository.UserRepository;
 import com.growcorehub.util.JwtUtil;
 import com.growcorehub.util.ValidationUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
@@ -26,6 +32,11 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -34,6 +45,8 @@ public class AuthService {
 
     private final UserRepository userRepository;
     private final UserProfileRepository userProfileRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TokenRevocationService tokenRevocationService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
@@ -42,14 +55,15 @@ public class AuthService {
     private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Authenticate user and return JWT token
+     * Authenticate user and return an access token plus a refresh token
      */
+    @Timed(value = "growcorehub.auth.login", description = "User login", histogram = true)
     public AuthResponse login(LoginRequest request) {
         try {
             // Validate input first
             validateLoginRequest(request);
 
-            log.info("Login attempt for email: {}", request.getEmail());
+            log.debug("Login attempt for email: {}", request.getEmail());
 
             // Authenticate user
             Authentication authentication = authenticationManager.authenticate(
@@ -59,17 +73,19 @@ public class AuthService {
                 )
             );
 
-            // Generate token only after successful authentication
-            String jwt = jwtUtil.generateJwtToken(authentication);
-            
             // Get user response WITHOUT calling UserService (avoid circular dependency)
-            User user = userRepository.findByEmail(request.getEmail().toLowerCase().trim())
+            User user = userRepository.findByEmail(authentication.getName())
                 .orElseThrow(() -> new BadRequestException("User not found"));
-            
+
+            // Generate tokens only after successful authentication, in a new session
+            String sessionId = UUID.randomUUID().toString();
+            String refreshToken = issueRefreshToken(user, sessionId);
+            String jwt = jwtUtil.generateAccessToken(user, sessionId);
+
             UserResponse userResponse = convertToUserResponse(user);
 
-            log.info("User logged in successfully: {}", request.getEmail());
-            return new AuthResponse(jwt, userResponse);
+            log.debug("User logged in successfully: {}", request.getEmail());
+            return new AuthResponse(jwt, refreshToken, userResponse);
 
         } catch (BadCredentialsException e) {
             log.warn("Invalid login attempt for: {}", request.getEmail());
@@ -127,40 +143,76 @@ public class AuthService {
     }
 
     /**
-     * Refresh JWT token
+     * Exchange a refresh token for a new access/refresh token pair. Each refresh
+     * token is single use; presenting a rotated one revokes the whole session.
+     * The revocation commits with the rejection.
      */
+    @Transactional(noRollbackFor = RefreshTokenReuseException.class)
     public AuthResponse refreshToken(String refreshToken) {
         try {
-            if (!jwtUtil.validateJwtToken(refreshToken)) {
-                throw new BadRequestException("Invalid refresh token");
+            Claims claims = jwtUtil.parseToken(refreshToken, JwtUtil.TYPE_REFRESH);
+
+            RefreshToken stored = refreshTokenRepository.findByTokenId(claims.getId())
+                .orElseThrow(() -> new BadRequestException("Invalid refresh token"));
+
+            if (stored.getRevoked()) {
+                throw new BadRequestException("Refresh token has been revoked");
             }
 
-            String email = jwtUtil.getEmailFromJwtToken(refreshToken);
-            User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BadRequestException("User not found"));
+            if (stored.getRotated()) {
+                // Token reuse - assume it was stolen and end the session
+                log.warn("Refresh token reuse detected for session {}", stored.getSessionId());
+                tokenRevocationService.revokeSessionInTransaction(stored.getSessionId());
+                throw new RefreshTokenReuseException();
+            }
 
+            if (stored.getExpiresAt().isBefore(LocalDateTime.now())) {
+                throw new BadRequestException("Refresh token has expired");
+            }
+
+            User user = stored.getUser();
             if (!user.getIsActive()) {
                 throw new BadRequestException("Account is deactivated");
             }
 
-            // Generate new token using proper authentication flow
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                email, null, java.util.Collections.singletonList(
-                    new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_USER")
-                )
-            );
-            String newToken = jwtUtil.generateJwtToken(authentication);
-            
+            // Only one request can claim the token; a concurrent one with the same token is reuse
+            if (refreshTokenRepository.markRotated(stored.getTokenId()) == 0) {
+                log.warn("Concurrent refresh token reuse detected for session {}", stored.getSessionId());
+                tokenRevocationService.revokeSessionInTransaction(stored.getSessionId());
+                throw new RefreshTokenReuseException();
+            }
+
+            String newRefreshToken = issueRefreshToken(user, stored.getSessionId());
+            String newToken = jwtUtil.generateAccessToken(user, stored.getSessionId());
+
             UserResponse userResponse = convertToUserResponse(user);
 
-            return new AuthResponse(newToken, userResponse);
+            return new AuthResponse(newToken, newRefreshToken, userResponse);
 
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Rejected refresh token: {}", e.getMessage());
+            throw new BadRequestException("Invalid refresh token");
+        } catch (BadRequestException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error refreshing token: {}", e.getMessage());
             throw new BadRequestException("Failed to refresh token");
         }
     }
 
+    /**
+     * End the session the refresh token belongs to
+     */
+    public void logout(String refreshToken) {
+        try {
+            Claims claims = jwtUtil.parseToken(refreshToken, JwtUtil.TYPE_REFRESH);
+            tokenRevocationService.revokeSession(claims.get(JwtUtil.CLAIM_SESSION, String.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            // Expired or invalid tokens cannot be used anyway
+            log.debug("Logout with unusable refresh token: {}", e.getMessage());
+        }
+    }
+
     /**
      * Initiate password reset process
      */
@@ -169,13 +221,8 @@ public class AuthService {
             User user = userRepository.findByEmail(email.toLowerCase().trim()).orElse(null);
 
             if (user != null) {
-                // Generate reset token using proper authentication flow
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    email, null, java.util.Collections.singletonList(
-                        new org.springframework.security.core.authority.SimpleGrantedAuthority("ROLE_USER")
-                    )
-                );
-                String resetToken = jwtUtil.generateJwtToken(authentication);
+                // Reset tokens are a separate token type and cannot be used to log in
+                String resetToken = jwtUtil.generatePasswordResetToken(user);
 
                 // Send reset email
                 emailService.sendPasswordResetEmail(email, resetToken);
@@ -193,25 +240,35 @@ public class AuthService {
     }
 
     /**
-     * Reset password with token
+     * Reset password with token. A token only works while the password it was
+     * issued against is current, so it can be used once.
      */
     public void resetPassword(String token, String newPassword) {
         try {
-            if (!jwtUtil.validateJwtToken(token)) {
-                throw new BadRequestException("Invalid or expired reset token");
-            }
-
-            String email = jwtUtil.getEmailFromJwtToken(token);
+            Claims claims = jwtUtil.parseToken(token, JwtUtil.TYPE_RESET);
+            String email = claims.getSubject();
             User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
+            String fingerprint = claims.get(JwtUtil.CLAIM_PASSWORD, String.class);
+            if (fingerprint == null || !MessageDigest.isEqual(fingerprint.getBytes(StandardCharsets.UTF_8),
+                    jwtUtil.passwordFingerprint(user.getPassword()).getBytes(StandardCharsets.UTF_8))) {
+                throw new BadRequestException("Reset token has already been used");
+            }
+
             if (!validationUtil.isValidPassword(newPassword)) {
                 throw new BadRequestException(
                         "Password must be at least 8 characters long and contain uppercase, lowercase, and numeric characters");
             }
 
-            user.setPassword(passwordEncoder.encode(newPassword));
-            userRepository.save(user);
+            // Guarded on the password read above, so two concurrent uses of one token cannot both succeed
+            if (userRepository.replacePassword(user.getId(), user.getPassword(),
+                    passwordEncoder.encode(newPassword)) == 0) {
+                throw new BadRequestException("Reset token has already been used");
+            }
+
+            // Sign out every existing session
+            tokenRevocationService.revokeAllForUser(user.getId());
 
             // Create notification using event publisher
             eventPublisher.publishEvent(new UserService.NotificationEvent(user, "Password Reset", 
@@ -219,6 +276,11 @@ public class AuthService {
 
             log.info("Password reset successfully for email: {}", email);
 
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Rejected password reset token: {}", e.getMessage());
+            throw new BadRequestException("Invalid or expired reset token");
+        } catch (BadRequestException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error resetting password: {}", e.getMessage());
             throw new BadRequestException("Failed to reset password");
@@ -256,6 +318,17 @@ public class AuthService {
 
     // Private helper methods
 
+    private String issueRefreshToken(User user, String sessionId) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenId(UUID.randomUUID().toString());
+        refreshToken.setSessionId(sessionId);
+        refreshToken.setUser(user);
+        refreshToken.setExpiresAt(LocalDateTime.now().plusNanos(jwtUtil.getRefreshExpirationTime() * 1_000_000L));
+        refreshTokenRepository.save(refreshToken);
+
+        return jwtUtil.generateRefreshToken(user.getEmail(), refreshToken.getTokenId(), sessionId);
+    }
+
     private void validateLoginRequest(LoginRequest request) {
         if (!validationUtil.isValidEmail(request.getEmail())) {
             throw new BadRequestException("Invalid email format");
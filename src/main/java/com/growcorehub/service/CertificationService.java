@@ -0,0 +1,139 @@
+package com.growcorehub.service;
+
+import com.growcorehub.dto.response.CertificationResponse;
+import com.growcorehub.entity.Certification;
+import com.growcorehub.entity.User;
+import com.growcorehub.repository.CertificationRepository;
+import com.growcorehub.util.LruCache;
+import com.growcorehub.util.VerificationCodeSigner;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Verification codes for certifications. A code is the certification id
+ * signed with a server-side key, so it never has to be stored and a forged
+ * code is rejected without touching the database. Verified results are kept
+ * in an LRU cache; ids whose certification no longer exists are cached too.
+ * <p>
+ * The key comes from {@code growcorehub.certifications.signing-key} (base64);
+ * when unset it is derived from the JWT secret. Changing the key invalidates
+ * every issued code, so bump {@code key-id} with it.
+ */
+@Service
+@Slf4j
+public class CertificationService {
+
+	private static final String KEY_DERIVATION_LABEL = "growcorehub-certification-codes";
+
+	private final CertificationRepository certificationRepository;
+	private final UserService userService;
+	private final TransactionTemplate lookupTransaction;
+	private final VerificationCodeSigner signer;
+	private final LruCache<Long, Optional<CertificationResponse>> verified;
+
+	private final Counter valid;
+	private final Counter rejected;
+	private final Counter notFound;
+	private final Counter cacheHits;
+
+	public CertificationService(CertificationRepository certificationRepository, UserService userService,
+			PlatformTransactionManager transactionManager,
+			@Value("${growcorehub.certifications.signing-key:}") String signingKey,
+			@Value("${growcorehub.certifications.key-id:1}") int keyId, @Value("${jwt.secret}") String jwtSecret,
+			@Value("${growcorehub.certifications.verification-cache.max-entries:10000}") int cacheEntries,
+			@Value("${growcorehub.certifications.verification-cache.ttl-ms:600000}") long cacheTtlMs,
+			MeterRegistry meterRegistry) {
+		this.certificationRepository = certificationRepository;
+		this.userService = userService;
+		this.lookupTransaction = new TransactionTemplate(transactionManager);
+		this.lookupTransaction.setReadOnly(true);
+		this.signer = new VerificationCodeSigner(keyId,
+				signingKey.isBlank() ? deriveKey(jwtSecret) : Base64.getDecoder().decode(signingKey));
+		this.verified = new LruCache<>(cacheEntries, cacheTtlMs);
+
+		this.valid = verifications(meterRegistry, "valid");
+		this.rejected = verifications(meterRegistry, "rejected");
+		this.notFound = verifications(meterRegistry, "not_found");
+		this.cacheHits = Counter.builder("growcorehub.certifications.verification.cache").tag("result", "hit")
+				.register(meterRegistry);
+		Gauge.builder("growcorehub.certifications.verification.cache.size", verified, LruCache::size)
+				.register(meterRegistry);
+	}
+
+	public String verificationCode(Certification certification) {
+		return signer.sign(certification.getId());
+	}
+
+	/**
+	 * The certification a code was issued for, or empty when the code is
+	 * invalid or the certification no longer exists
+	 */
+	public Optional<CertificationResponse> verify(String code) {
+		OptionalLong id = signer.verify(code);
+		if (id.isEmpty()) {
+			rejected.increment();
+			return Optional.empty();
+		}
+
+		Optional<CertificationResponse> cached = verified.get(id.getAsLong());
+		if (cached != null) {
+			cacheHits.increment();
+		} else {
+			cached = lookupTransaction.execute(status -> certificationRepository.findWithUserById(id.getAsLong())
+					.map(certification -> convertToResponse(certification, code)));
+			verified.put(id.getAsLong(), cached);
+		}
+		(cached.isPresent() ? valid : notFound).increment();
+		return cached;
+	}
+
+	@Transactional(readOnly = true)
+	public List<CertificationResponse> getUserCertifications(String userEmail) {
+		User user = userService.findByEmail(userEmail);
+		return certificationRepository.findByUserIdOrderByEarnedAtDesc(user.getId()).stream()
+				.map(certification -> convertToResponse(certification, verificationCode(certification))).toList();
+	}
+
+	private CertificationResponse convertToResponse(Certification certification, String code) {
+		CertificationResponse response = new CertificationResponse();
+		response.setId(certification.getId());
+		response.setHolderName(certification.getUser().getFirstName() + " " + certification.getUser().getLastName());
+		response.setSkillName(certification.getSkillName());
+		response.setScore(certification.getScore());
+		response.setEarnedAt(certification.getEarnedAt());
+		response.setVerificationCode(code);
+		return response;
+	}
+
+	private static Counter verifications(MeterRegistry meterRegistry, String result) {
+		return Counter.builder("growcorehub.certifications.verifications")
+				.description("Certification verification requests").tag("result", result).register(meterRegistry);
+	}
+
+	// Separate key per purpose, so a certification code is never a valid token signature
+	private static byte[] deriveKey(String secret) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+			return mac.doFinal(KEY_DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cannot derive certification signing key", e);
+		}
+	}
+}
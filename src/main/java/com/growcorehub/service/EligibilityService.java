@@ -0,0 +1,339 @@
+package com.growcorehub.service;
+
+import com.growcorehub.entity.User;
+import com.growcorehub.enums.ApplicationStatus;
+import com.growcorehub.enums.ProjectStatus;
+import com.growcorehub.repository.AssessmentRepository;
+import com.growcorehub.repository.ProjectApplicationRepository;
+import com.growcorehub.repository.ProjectRepository;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.service.ApplicationReviewService.ApplicationsReviewedEvent;
+import com.growcorehub.util.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Which active projects a user can apply to, precomputed so project listings
+ * need no per-project queries. Active projects (ids, minimum scores and
+ * assessments) are indexed once per node and refreshed on an interval, or on
+ * the next read after a project or assessment write commits; each
+ * user gets bitmaps over that index, built from two queries on first use and
+ * cached until the user applies, is scored, updates their profile or has
+ * applications reviewed.
+ * <p>
+ * Invalidation is local, so other nodes catch up within the cache TTL. The
+ * cache only drives what listings show: applying still checks the database.
+ */
+@Service
+public class EligibilityService {
+
+	private final ProjectRepository projectRepository;
+	private final AssessmentRepository assessmentRepository;
+	private final ProjectApplicationRepository applicationRepository;
+	private final UserAssessmentRepository userAssessmentRepository;
+	private final LruCache<Long, Eligibility> cache;
+	private final long activeRefreshMs;
+
+	// A load that overlaps any invalidation may predate it, so it is not cached
+	private final AtomicLong invalidations = new AtomicLong();
+	// One node-wide refresh at a time; other callers wait for its result
+	private final ReentrantLock activeLock = new ReentrantLock();
+	private volatile ActiveProjects activeProjects;
+	private volatile long activeLoadedAt;
+	// Bumped when the index goes stale; a load that overlaps a bump is not trusted as fresh
+	private final AtomicLong activeGeneration = new AtomicLong();
+	private volatile long activeLoadedGeneration;
+
+	private final Counter hits;
+	private final Counter misses;
+
+	public EligibilityService(ProjectRepository projectRepository, AssessmentRepository assessmentRepository,
+			ProjectApplicationRepository applicationRepository, UserAssessmentRepository userAssessmentRepository,
+			@Value("${growcorehub.projects.eligibility.max-entries:50000}") int maxEntries,
+			@Value("${growcorehub.projects.eligibility.ttl-ms:300000}") long ttlMs,
+			@Value("${growcorehub.projects.eligibility.active-refresh-ms:60000}") long activeRefreshMs,
+			MeterRegistry meterRegistry) {
+		this.projectRepository = projectRepository;
+		this.assessmentRepository = assessmentRepository;
+		this.applicationRepository = applicationRepository;
+		this.userAssessmentRepository = userAssessmentRepository;
+		this.cache = new LruCache<>(maxEntries, ttlMs);
+		this.activeRefreshMs = activeRefreshMs;
+
+		this.hits = Counter.builder("growcorehub.projects.eligibility.cache").tag("result", "hit")
+				.register(meterRegistry);
+		this.misses = Counter.builder("growcorehub.projects.eligibility.cache").tag("result", "miss")
+				.register(meterRegistry);
+		Gauge.builder("growcorehub.projects.eligibility.cache.size", cache, LruCache::size).register(meterRegistry);
+	}
+
+	/**
+	 * The user's eligibility; reads the user's profile, so call it where the
+	 * user is still attached
+	 */
+	public Eligibility forUser(User user) {
+		ActiveProjects projects = activeProjects();
+		Eligibility cached = cache.get(user.getId());
+		// Bitmaps built over an older index no longer line up with it
+		if (cached != null && cached.projects == projects) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+		long seen = invalidations.get();
+		Eligibility eligibility = load(user, projects);
+		if (invalidations.get() == seen) {
+			cache.put(user.getId(), eligibility);
+		}
+		return eligibility;
+	}
+
+	/**
+	 * Drops the users' eligibility once the current transaction commits
+	 */
+	public void invalidateAfterCommit(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(userIds);
+				}
+			});
+		} else {
+			invalidate(userIds);
+		}
+	}
+
+	/**
+	 * Makes the next read reload the active-project index once the current
+	 * transaction commits
+	 */
+	public void refreshActiveProjectsAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					activeGeneration.incrementAndGet();
+				}
+			});
+		} else {
+			activeGeneration.incrementAndGet();
+		}
+	}
+
+	// Published after each chunk commits
+	@EventListener
+	public void onApplicationsReviewed(ApplicationsReviewedEvent event) {
+		invalidate(event.userIds());
+	}
+
+	private void invalidate(Collection<Long> userIds) {
+		invalidations.incrementAndGet();
+		userIds.forEach(cache::remove);
+	}
+
+	private ActiveProjects activeProjects() {
+		ActiveProjects current = activeProjects;
+		if (current != null && isFresh()) {
+			return current;
+		}
+		// Not synchronized: a virtual thread blocking on JDBC inside a monitor pins its carrier
+		activeLock.lock();
+		try {
+			current = activeProjects;
+			if (current != null && isFresh()) {
+				return current;
+			}
+			long generation = activeGeneration.get();
+			ActiveProjects fresh = loadActiveProjects();
+			// Keeping an unchanged index keeps every cached user valid
+			if (!fresh.equals(current)) {
+				activeProjects = fresh;
+			}
+			activeLoadedAt = System.currentTimeMillis();
+			activeLoadedGeneration = generation;
+			return activeProjects;
+		} finally {
+			activeLock.unlock();
+		}
+	}
+
+	private boolean isFresh() {
+		return activeLoadedGeneration == activeGeneration.get()
+				&& System.currentTimeMillis() - activeLoadedAt < activeRefreshMs;
+	}
+
+	private ActiveProjects loadActiveProjects() {
+		List<Object[]> projects = projectRepository.findIdsAndMinimumScoresByStatus(ProjectStatus.ACTIVE);
+		long[] ids = new long[projects.size()];
+		BigDecimal[] minimumScores = new BigDecimal[projects.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = (Long) projects.get(i)[0];
+			minimumScores[i] = (BigDecimal) projects.get(i)[1];
+		}
+
+		Map<Long, List<Long>> assessmentsByProject = new HashMap<>();
+		for (Object[] row : assessmentRepository.findIdsByProjectStatus(ProjectStatus.ACTIVE)) {
+			assessmentsByProject.computeIfAbsent((Long) row[0], ignored -> new ArrayList<>()).add((Long) row[1]);
+		}
+		long[][] assessmentIds = new long[ids.length][];
+		for (int i = 0; i < ids.length; i++) {
+			assessmentIds[i] = assessmentsByProject.getOrDefault(ids[i], List.of()).stream()
+					.mapToLong(Long::longValue).toArray();
+		}
+		return new ActiveProjects(ids, minimumScores, assessmentIds);
+	}
+
+	private Eligibility load(User user, ActiveProjects projects) {
+		Map<Long, ApplicationSummary> applications = new HashMap<>();
+		for (Object[] row : applicationRepository.findSummariesByUserId(user.getId())) {
+			applications.put((Long) row[0],
+					new ApplicationSummary((ApplicationStatus) row[1], (LocalDateTime) row[2], (BigDecimal) row[3]));
+		}
+		Map<Long, BigDecimal> scores = new HashMap<>();
+		for (Object[] row : userAssessmentRepository.findScoresByUserId(user.getId())) {
+			scores.put((Long) row[0], (BigDecimal) row[1]);
+		}
+		boolean profileCompleted = user.getProfile() != null
+				&& Boolean.TRUE.equals(user.getProfile().getProfileCompleted());
+
+		BitSet eligible = new BitSet(projects.ids.length);
+		BitSet qualified = new BitSet(projects.ids.length);
+		for (int i = 0; i < projects.ids.length; i++) {
+			if (profileCompleted && !applications.containsKey(projects.ids[i])) {
+				eligible.set(i);
+			}
+			if (meetsMinimumScore(projects.minimumScores[i], projects.assessmentIds[i], scores)) {
+				qualified.set(i);
+			}
+		}
+		return new Eligibility(projects, eligible, qualified, Map.copyOf(applications));
+	}
+
+	// Same score as applicant rankings: the mean over the project's assessments, missing ones counting zero
+	private static boolean meetsMinimumScore(BigDecimal minimumScore, long[] assessmentIds,
+			Map<Long, BigDecimal> scores) {
+		if (minimumScore == null) {
+			return true;
+		}
+		BigDecimal sum = BigDecimal.ZERO;
+		for (long assessmentId : assessmentIds) {
+			sum = sum.add(scores.getOrDefault(assessmentId, BigDecimal.ZERO));
+		}
+		BigDecimal mean = assessmentIds.length == 0 ? BigDecimal.ZERO
+				: sum.divide(BigDecimal.valueOf(assessmentIds.length), 2, RoundingMode.HALF_UP);
+		return mean.compareTo(minimumScore) >= 0;
+	}
+
+	/**
+	 * One user's view of the active projects. Immutable.
+	 */
+	public static final class Eligibility {
+
+		private final ActiveProjects projects;
+		private final BitSet eligible;
+		private final BitSet qualified;
+		private final Map<Long, ApplicationSummary> applications;
+
+		private Eligibility(ActiveProjects projects, BitSet eligible, BitSet qualified,
+				Map<Long, ApplicationSummary> applications) {
+			this.projects = projects;
+			this.eligible = eligible;
+			this.qualified = qualified;
+			this.applications = applications;
+		}
+
+		/**
+		 * Whether the project is active, the user has not applied yet and their
+		 * profile is complete, as {@link ProjectService#applyToProject} requires
+		 */
+		public boolean canApply(Long projectId) {
+			int index = projects.indexOf(projectId);
+			return index >= 0 && eligible.get(index);
+		}
+
+		/**
+		 * Whether the user's assessment score for an active project reaches its
+		 * minimum score
+		 */
+		public boolean meetsMinimumScore(Long projectId) {
+			int index = projects.indexOf(projectId);
+			return index >= 0 && qualified.get(index);
+		}
+
+		/**
+		 * The user's application to any project, or null
+		 */
+		public ApplicationSummary application(Long projectId) {
+			return applications.get(projectId);
+		}
+	}
+
+	public record ApplicationSummary(ApplicationStatus status, LocalDateTime appliedAt, BigDecimal assessmentScore) {
+	}
+
+	private static final class ActiveProjects {
+
+		private final long[] ids;
+		private final BigDecimal[] minimumScores;
+		private final long[][] assessmentIds;
+
+		private ActiveProjects(long[] ids, BigDecimal[] minimumScores, long[][] assessmentIds) {
+			this.ids = ids;
+			this.minimumScores = minimumScores;
+			this.assessmentIds = assessmentIds;
+		}
+
+		// Ids are sorted
+		private int indexOf(Long projectId) {
+			return projectId == null ? -1 : Math.max(-1, Arrays.binarySearch(ids, projectId));
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			if (!(other instanceof ActiveProjects that)) {
+				return false;
+			}
+			if (!Arrays.equals(ids, that.ids) || !Arrays.deepEquals(assessmentIds, that.assessmentIds)) {
+				return false;
+			}
+			for (int i = 0; i < minimumScores.length; i++) {
+				BigDecimal mine = minimumScores[i];
+				BigDecimal theirs = that.minimumScores[i];
+				if (mine == null ? theirs != null : theirs == null || mine.compareTo(theirs) != 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(Arrays.hashCode(ids), Arrays.deepHashCode(assessmentIds));
+		}
+	}
+}
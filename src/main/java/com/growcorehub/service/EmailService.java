@@ -10,6 +10,8 @@ import org.springframework.stereotype.Service;
 
 import jakarta.mail.internet.MimeMessage;
 
+import java.util.Collection;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +25,9 @@ public class EmailService {
 	@Value("${email.enabled:false}")
 	private boolean emailEnabled;
 
+	@Value("${jwt.reset-expiration:1800000}")
+	private long resetExpirationMs;
+
 	public void sendSimpleMessage(String to, String subject, String text) {
 		if (!emailEnabled) {
 			log.info("Email service is disabled. Would have sent email to: {} with subject: {}", to, subject);
@@ -43,6 +48,34 @@ public class EmailService {
 		}
 	}
 
+	/**
+	 * One message to many recipients, who are blind-copied so they do not see
+	 * each other
+	 */
+	public void sendBulkMessage(Collection<String> recipients, String subject, String text) {
+		if (recipients.isEmpty()) {
+			return;
+		}
+		if (!emailEnabled) {
+			log.info("Email service is disabled. Would have sent email to {} recipients with subject: {}",
+					recipients.size(), subject);
+			return;
+		}
+
+		try {
+			SimpleMailMessage message = new SimpleMailMessage();
+			message.setFrom(fromEmail);
+			message.setTo(fromEmail);
+			message.setBcc(recipients.toArray(String[]::new));
+			message.setSubject(subject);
+			message.setText(text);
+			mailSender.send(message);
+			log.info("Email sent successfully to {} recipients", recipients.size());
+		} catch (Exception e) {
+			log.error("Failed to send email to {} recipients, error: {}", recipients.size(), e.getMessage());
+		}
+	}
+
 	public void sendWelcomeEmail(String email, String firstName) {
 		String subject = "Welcome to Grow Core Hub!";
 		String text = String
@@ -60,6 +93,14 @@ public class EmailService {
 		sendSimpleMessage(email, subject, text);
 	}
 
+	public void sendApplicationsReviewed(Collection<String> emails, String projectTitle, String outcome) {
+		String subject = "Application Update";
+		String text = String.format("The status of your application for the project '%s' is now: %s.\n\n"
+				+ "Sign in to Grow Core Hub for details.\n\n" + "Best regards,\n" + "Grow Core Hub Team", projectTitle,
+				outcome);
+		sendBulkMessage(emails, subject, text);
+	}
+
 	public void sendPasswordResetEmail(String to, String token) {
 		if (!emailEnabled) {
 			log.info("Email service is disabled. Would have sent password reset email to: {}", to);
@@ -73,7 +114,7 @@ public class EmailService {
 			String body = "<p>Hello,</p>" + "<p>You requested to reset your password.</p>"
 					+ "<p>Click the link below to reset it:</p>" + "<p><a href=\"" + resetUrl + "\">Reset Password</a></p>"
 					+ "<br>" + "<p>If you did not request a password reset, please ignore this email.</p>"
-					+ "<p>This link will expire in 24 hours.</p>";
+					+ "<p>This link will expire in " + (resetExpirationMs / 60000) + " minutes.</p>";
 
 			MimeMessage message = mailSender.createMimeMessage();
 			MimeMessageHelper helper = new MimeMessageHelper(message, true);
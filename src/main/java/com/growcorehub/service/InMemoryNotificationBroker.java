@@ -0,0 +1,33 @@
+package com.growcorehub.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Single-node broker: delivers events to local subscribers on the publishing
+ * thread. Also serves as the stand-in for tests.
+ */
+@Slf4j
+public class InMemoryNotificationBroker implements NotificationBroker {
+
+	private final List<Consumer<StreamEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void publish(StreamEvent event) {
+		for (Consumer<StreamEvent> subscriber : subscribers) {
+			try {
+				subscriber.accept(event);
+			} catch (RuntimeException e) {
+				log.warn("Notification subscriber failed: {}", e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<StreamEvent> subscriber) {
+		subscribers.add(subscriber);
+	}
+}
@@ -0,0 +1,253 @@
+package com.growcorehub.service;
+
+import com.growcorehub.dto.response.LeaderboardEntryResponse;
+import com.growcorehub.entity.Certification;
+import com.growcorehub.entity.User;
+import com.growcorehub.exception.BadRequestException;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.exception.ServiceUnavailableException;
+import com.growcorehub.repository.CertificationRepository;
+import com.growcorehub.repository.UserRepository;
+import com.growcorehub.util.Leaderboard;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-skill leaderboards of certified users, held in memory as one
+ * {@link Leaderboard} per skill name (case-insensitive), each keeping a user's
+ * best score. Boards are loaded after startup by streaming certifications in
+ * id-ordered chunks, then kept current from certifications issued on this
+ * node and a periodic catch-up on recently earned ones (for other nodes).
+ * <p>
+ * Memory is roughly 150 bytes per (skill, user) entry. Queries are rejected
+ * with 503 until the initial load completes.
+ */
+@Service
+@Slf4j
+public class LeaderboardService {
+
+	private static final int LOAD_CHUNK_SIZE = 10000;
+	private static final int MAX_PAGE_SIZE = 100;
+	// Pages walk the list from the top, so keep them shallow
+	private static final int MAX_DEPTH = 10000;
+	// Catch-up window beyond the last run: commit delay, replica lag, clock skew
+	private static final Duration SYNC_OVERLAP = Duration.ofMinutes(2);
+
+	private final CertificationRepository certificationRepository;
+	private final UserRepository userRepository;
+	private final TransactionTemplate readTransaction;
+	private final Executor executor;
+
+	private final Map<String, Leaderboard> boards = new ConcurrentHashMap<>();
+	private final AtomicBoolean loading = new AtomicBoolean();
+	private volatile boolean loaded;
+	private volatile LocalDateTime syncedUpTo;
+
+	public LeaderboardService(CertificationRepository certificationRepository, UserRepository userRepository,
+			PlatformTransactionManager transactionManager,
+			@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+			MeterRegistry meterRegistry) {
+		this.certificationRepository = certificationRepository;
+		this.userRepository = userRepository;
+		this.readTransaction = new TransactionTemplate(transactionManager);
+		this.readTransaction.setReadOnly(true);
+		this.executor = executor;
+
+		Gauge.builder("growcorehub.certifications.leaderboard.entries", boards,
+				map -> map.values().stream().mapToInt(Leaderboard::size).sum())
+				.description("(skill, user) entries across all leaderboards").register(meterRegistry);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		if (!loading.compareAndSet(false, true)) {
+			return;
+		}
+		executor.execute(() -> {
+			LocalDateTime started = LocalDateTime.now();
+			long startNanos = System.nanoTime();
+			try {
+				Map<String, Leaderboard.Builder> builders = new HashMap<>();
+				long rows = stream(
+						afterId -> certificationRepository.findLeaderboardRows(afterId,
+								PageRequest.of(0, LOAD_CHUNK_SIZE)),
+						row -> builders.computeIfAbsent(key((String) row[2]), ignored -> new Leaderboard.Builder())
+								.offer((Long) row[1], (BigDecimal) row[3], earnedAtMillis(row)));
+				// Certifications issued meanwhile are picked up by the first sync
+				builders.forEach((skill, builder) -> boards.put(skill, builder.build()));
+				syncedUpTo = started;
+				loaded = true;
+				log.info("Loaded {} certifications into {} skill leaderboards in {} ms", rows, boards.size(),
+						Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+			} catch (RuntimeException e) {
+				// Retried by the next sync
+				log.error("Could not load skill leaderboards: {}", e.getMessage());
+			} finally {
+				loading.set(false);
+			}
+		});
+	}
+
+	/**
+	 * Applies certifications earned since the last run, including those issued
+	 * on other nodes. Re-applying one is harmless.
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.certifications.leaderboard.sync-interval-ms:60000}", initialDelayString = "${growcorehub.certifications.leaderboard.sync-interval-ms:60000}")
+	public void sync() {
+		if (!loaded) {
+			load();
+			return;
+		}
+		LocalDateTime started = LocalDateTime.now();
+		LocalDateTime since = syncedUpTo.minus(SYNC_OVERLAP);
+		try {
+			stream(afterId -> certificationRepository.findLeaderboardRowsEarnedSince(since, afterId,
+					PageRequest.of(0, LOAD_CHUNK_SIZE)), this::apply);
+			syncedUpTo = started;
+		} catch (RuntimeException e) {
+			log.warn("Could not sync skill leaderboards: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * Adds certifications to their boards once the current transaction commits
+	 */
+	public void recordAfterCommit(List<Certification> certifications) {
+		if (certifications.isEmpty()) {
+			return;
+		}
+		List<Object[]> rows = certifications.stream()
+				.filter(certification -> certification.getSkillName() != null && certification.getScore() != null)
+				.map(certification -> new Object[] { certification.getId(),
+				certification.getUser().getId(), certification.getSkillName(), certification.getScore(),
+				certification.getEarnedAt() }).toList();
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					rows.forEach(LeaderboardService.this::apply);
+				}
+			});
+		} else {
+			rows.forEach(this::apply);
+		}
+	}
+
+	public Page<LeaderboardEntryResponse> getTop(String skill, int page, int size) {
+		PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+		if (pageable.getOffset() + pageable.getPageSize() > MAX_DEPTH) {
+			throw new BadRequestException("Leaderboards are available up to rank " + MAX_DEPTH);
+		}
+		Leaderboard board = board(skill);
+		if (board == null) {
+			return Page.empty(pageable);
+		}
+
+		List<Leaderboard.Entry> entries = board.top((int) pageable.getOffset(), pageable.getPageSize());
+		Map<Long, User> users = userRepository.findAllById(entries.stream().map(Leaderboard.Entry::userId).toList())
+				.stream().collect(Collectors.toMap(User::getId, Function.identity()));
+
+		List<LeaderboardEntryResponse> content = new ArrayList<>(entries.size());
+		for (Leaderboard.Entry entry : entries) {
+			content.add(toResponse(entry, pageable.getOffset() + content.size() + 1, users.get(entry.userId())));
+		}
+		return new PageImpl<>(content, pageable, board.size());
+	}
+
+	public LeaderboardEntryResponse getRank(String skill, User user) {
+		Leaderboard board = board(skill);
+		OptionalLong rank = board != null ? board.rankOf(user.getId()) : OptionalLong.empty();
+		Leaderboard.Entry entry = board != null ? board.get(user.getId()) : null;
+		if (rank.isEmpty() || entry == null) {
+			throw new ResourceNotFoundException("No certification in " + skill);
+		}
+		return toResponse(entry, rank.getAsLong(), user);
+	}
+
+	private Leaderboard board(String skill) {
+		if (!loaded) {
+			throw new ServiceUnavailableException("Leaderboards are loading, try again shortly");
+		}
+		return boards.get(key(skill));
+	}
+
+	// Rows: (id, user id, skill, score, earned at); rows without a skill or score are skipped
+	private long stream(Function<Long, List<Object[]>> chunkLoader, Consumer<Object[]> sink) {
+		long afterId = 0;
+		long rows = 0;
+		List<Object[]> chunk;
+		do {
+			long from = afterId;
+			chunk = readTransaction.execute(status -> chunkLoader.apply(from));
+			for (Object[] row : chunk) {
+				if (row[2] != null && row[3] != null) {
+					sink.accept(row);
+				}
+			}
+			rows += chunk.size();
+			if (!chunk.isEmpty()) {
+				afterId = (Long) chunk.get(chunk.size() - 1)[0];
+			}
+		} while (chunk.size() == LOAD_CHUNK_SIZE);
+		return rows;
+	}
+
+	private void apply(Object[] row) {
+		boards.computeIfAbsent(key((String) row[2]), ignored -> new Leaderboard()).offer((Long) row[1],
+				(BigDecimal) row[3], earnedAtMillis(row));
+	}
+
+	private static long earnedAtMillis(Object[] row) {
+		LocalDateTime earnedAt = (LocalDateTime) row[4];
+		return earnedAt != null ? earnedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+	}
+
+	private static LeaderboardEntryResponse toResponse(Leaderboard.Entry entry, long rank, User user) {
+		LeaderboardEntryResponse response = new LeaderboardEntryResponse();
+		response.setRank(rank);
+		response.setUserId(entry.userId());
+		response.setScore(entry.scoreValue());
+		response.setEarnedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.earnedAt()), ZoneOffset.UTC));
+		if (user != null) {
+			response.setName(user.getFirstName() + " " + user.getLastName());
+		}
+		return response;
+	}
+
+	private static String key(String skill) {
+		return skill.trim().toLowerCase(Locale.ROOT);
+	}
+}
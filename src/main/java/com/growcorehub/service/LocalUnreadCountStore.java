@@ -0,0 +1,90 @@
+package com.growcorehub.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process counts: a hit is a map lookup and a volatile read. Counts are
+ * AtomicLongs rather than LongAdders because reads far outnumber writes and
+ * reconciliation needs to overwrite them. Above {@code maxEntries} arbitrary
+ * entries are dropped and reload on their next read.
+ */
+public class LocalUnreadCountStore implements UnreadCountStore {
+
+	private final Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+	private final int maxEntries;
+	private final Counter hits;
+	private final Counter misses;
+
+	public LocalUnreadCountStore(int maxEntries, MeterRegistry meterRegistry) {
+		this.maxEntries = maxEntries;
+		this.hits = Counter.builder("growcorehub.notifications.unread.cache").tag("result", "hit")
+				.register(meterRegistry);
+		this.misses = Counter.builder("growcorehub.notifications.unread.cache").tag("result", "miss")
+				.register(meterRegistry);
+		Gauge.builder("growcorehub.notifications.unread.cache.size", counts, Map::size).register(meterRegistry);
+	}
+
+	@Override
+	public long get(Long userId, LongSupplier loader) {
+		AtomicLong count = counts.get(userId);
+		if (count != null) {
+			hits.increment();
+			return count.get();
+		}
+
+		misses.increment();
+		long loaded = loader.getAsLong();
+		AtomicLong existing = counts.putIfAbsent(userId, new AtomicLong(loaded));
+		trim();
+		return existing != null ? existing.get() : loaded;
+	}
+
+	@Override
+	public void add(Long userId, long delta) {
+		AtomicLong count = counts.get(userId);
+		if (count != null) {
+			count.updateAndGet(value -> Math.max(0, value + delta));
+		}
+	}
+
+	@Override
+	public void set(Long userId, long count) {
+		AtomicLong existing = counts.get(userId);
+		if (existing != null) {
+			existing.set(count);
+		} else {
+			counts.put(userId, new AtomicLong(count));
+			trim();
+		}
+	}
+
+	@Override
+	public void evict(Long userId) {
+		counts.remove(userId);
+	}
+
+	@Override
+	public Set<Long> cachedUserIds() {
+		return Set.copyOf(counts.keySet());
+	}
+
+	private void trim() {
+		if (counts.size() <= maxEntries) {
+			return;
+		}
+		Iterator<Long> iterator = counts.keySet().iterator();
+		while (counts.size() > maxEntries && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package com.growcorehub.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Fans notification stream events out to every application node. The default
+ * {@link InMemoryNotificationBroker} only reaches the local node; a multi-node
+ * deployment provides its own bean backed by a shared pub/sub channel.
+ */
+public interface NotificationBroker {
+
+	void publish(StreamEvent event);
+
+	void subscribe(Consumer<StreamEvent> subscriber);
+
+	/**
+	 * Event for all open streams of one user. A null name marks a heartbeat.
+	 */
+	record StreamEvent(Long userId, String name, Object payload) {
+	}
+}
@@ -1,5 +1,7 @@
 package com.growcorehub.service;
 
+import com.growcorehub.dto.response.NotificationResponse;
+import com.growcorehub.enums.NotificationType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
@@ -10,10 +12,26 @@ import org.springframework.stereotype.Component;
 public class NotificationEventListener {
 
 	private final NotificationService notificationService;
+	private final NotificationStreamHub notificationStreamHub;
+	private final EmailService emailService;
 
 	@EventListener
 	@Async
 	public void handleNotificationEvent(UserService.NotificationEvent event) {
-		notificationService.createNotification(event.getUser(), event.getTitle(), event.getMessage(), event.getType());
+		// createNotification commits before returning, so open streams never see a
+		// notification that is not yet readable
+		NotificationResponse notification = notificationService.createNotification(event.getUser(), event.getTitle(),
+				event.getMessage(), event.getType());
+		notificationStreamHub.publish(event.getUser().getId(), NotificationStreamHub.EVENT_NOTIFICATION, notification);
 	}
-}
\ No newline at end of file
+
+	@EventListener
+	@Async
+	public void handleApplicationsReviewed(ApplicationReviewService.ApplicationsReviewedEvent event) {
+		// One batched insert and one email per reviewed chunk
+		String outcome = event.status().name().toLowerCase().replace('_', ' ');
+		notificationService.notifyUsers(event.userIds(), "Application " + outcome,
+				"Your application for '" + event.projectTitle() + "' is now " + outcome + ".", NotificationType.SYSTEM);
+		emailService.sendApplicationsReviewed(event.emails(), event.projectTitle(), outcome);
+	}
+}
@@ -0,0 +1,200 @@
+package com.growcorehub.service;
+
+import com.growcorehub.config.NotificationRetentionProperties;
+import com.growcorehub.config.NotificationRetentionProperties.Policy;
+import com.growcorehub.enums.NotificationType;
+import com.growcorehub.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Background purger for the notifications table. Expired rows (by age, per
+ * type) and rows beyond a user's per-type cap are archived and deleted in small
+ * chunks, one short transaction each with a pause in between, so no run holds
+ * long locks or floods replication. Concurrent purgers on other nodes skip each
+ * other's locked rows.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+	private static final String REASON_AGE = "age";
+	private static final String REASON_COUNT = "count";
+
+	private final NotificationRepository notificationRepository;
+	private final NotificationRetentionProperties properties;
+	private final TransactionTemplate chunkTransaction;
+	private final MeterRegistry meterRegistry;
+	private final Timer chunkTimer;
+	private final AtomicLong tableRows = new AtomicLong();
+	private final AtomicLong archiveRows = new AtomicLong();
+
+	// Per type: notifications created before this were already checked against the cap
+	private final Map<NotificationType, LocalDateTime> capCheckedSince = new EnumMap<>(NotificationType.class);
+
+	public NotificationRetentionService(NotificationRepository notificationRepository,
+			NotificationRetentionProperties properties, PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry) {
+		this.notificationRepository = notificationRepository;
+		this.properties = properties;
+		this.chunkTransaction = new TransactionTemplate(transactionManager);
+		this.meterRegistry = meterRegistry;
+		this.chunkTimer = Timer.builder("growcorehub.notifications.retention.chunk")
+				.description("Duration of one archive-and-delete chunk").register(meterRegistry);
+		Gauge.builder("growcorehub.notifications.table.rows", tableRows, AtomicLong::get)
+				.description("Approximate rows in notifications").register(meterRegistry);
+		Gauge.builder("growcorehub.notifications.archive.rows", archiveRows, AtomicLong::get)
+				.description("Approximate rows in notifications_archive").register(meterRegistry);
+	}
+
+	@Scheduled(fixedDelayString = "${growcorehub.notifications.retention.interval-ms:900000}", initialDelayString = "${growcorehub.notifications.retention.interval-ms:900000}")
+	public void purge() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		try {
+			RunBudget budget = new RunBudget(properties.getMaxChunksPerRun());
+			LocalDateTime now = LocalDateTime.now();
+
+			backfillCreatedAt(now, budget);
+			for (NotificationType type : NotificationType.values()) {
+				Policy policy = properties.policyFor(type);
+				purgeExpired(type, policy, now, budget);
+				purgeOverCap(type, policy, now, budget);
+			}
+			refreshTableStatistics();
+
+			if (budget.removed > 0) {
+				log.info("Notification retention removed {} rows in {} chunks", budget.removed, budget.used);
+			}
+		} catch (Exception e) {
+			log.error("Notification retention run failed: {}", e.getMessage());
+		}
+	}
+
+	private void backfillCreatedAt(LocalDateTime now, RunBudget budget) {
+		while (budget.tryAcquire()) {
+			Integer updated = chunkTransaction
+					.execute(status -> notificationRepository.backfillCreatedAt(now, properties.getChunkSize()));
+			if (updated == null || updated < properties.getChunkSize() || !pause()) {
+				return;
+			}
+		}
+	}
+
+	private void purgeExpired(NotificationType type, Policy policy, LocalDateTime now, RunBudget budget) {
+		LocalDateTime readBefore = now.minus(policy.getReadMaxAge());
+		LocalDateTime unreadBefore = now.minus(policy.getUnreadMaxAge());
+		purgeChunks(type, REASON_AGE, budget, () -> notificationRepository.lockExpired(type, readBefore, unreadBefore,
+				properties.getChunkSize()));
+	}
+
+	private void purgeOverCap(NotificationType type, Policy policy, LocalDateTime now, RunBudget budget) {
+		int keep = policy.getMaxPerUser();
+		if (keep <= 0) {
+			return;
+		}
+
+		// Only users who received notifications since the last complete check can
+		// have grown past the cap; the first run checks everyone
+		LocalDateTime since = capCheckedSince.getOrDefault(type, LocalDateTime.of(1970, 1, 1, 0, 0));
+		List<Long> userIds = notificationRepository.findUsersOverCap(type, keep, since,
+				properties.getCapCheckUsersPerRun());
+
+		for (Long userId : userIds) {
+			if (!purgeChunks(type, REASON_COUNT, budget,
+					() -> notificationRepository.lockOverCap(userId, type, keep, properties.getChunkSize()))) {
+				return;
+			}
+		}
+		if (userIds.size() < properties.getCapCheckUsersPerRun()) {
+			capCheckedSince.put(type, now);
+		}
+	}
+
+	/**
+	 * Archives and deletes chunks until the selector comes back short. Returns
+	 * false once the run budget is spent.
+	 */
+	private boolean purgeChunks(NotificationType type, String reason, RunBudget budget, Supplier<List<Long>> selector) {
+		Counter purged = Counter.builder("growcorehub.notifications.retention.purged")
+				.description("Notifications removed by the retention job").tags("type", type.name(), "reason", reason)
+				.register(meterRegistry);
+
+		while (budget.tryAcquire()) {
+			Integer removed = chunkTimer.record(() -> chunkTransaction.execute(status -> {
+				List<Long> ids = selector.get();
+				if (ids.isEmpty()) {
+					return 0;
+				}
+				if (properties.isArchive()) {
+					notificationRepository.archive(ids, LocalDateTime.now());
+				}
+				return notificationRepository.deleteByIds(ids);
+			}));
+
+			int count = removed != null ? removed : 0;
+			purged.increment(count);
+			budget.removed += count;
+			if (count < properties.getChunkSize()) {
+				return true;
+			}
+			if (!pause()) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(properties.getChunkPause().toMillis());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void refreshTableStatistics() {
+		try {
+			tableRows.set(notificationRepository.estimateRowCount("notifications"));
+			archiveRows.set(notificationRepository.estimateRowCount("notifications_archive"));
+		} catch (Exception e) {
+			log.debug("Notification table statistics unavailable: {}", e.getMessage());
+		}
+	}
+
+	private static final class RunBudget {
+
+		private final int limit;
+		private int used;
+		private long removed;
+
+		private RunBudget(int limit) {
+			this.limit = limit;
+		}
+
+		private boolean tryAcquire() {
+			if (used >= limit) {
+				return false;
+			}
+			used++;
+			return true;
+		}
+	}
+}
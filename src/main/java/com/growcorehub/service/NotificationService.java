@@ -1,55 +1,236 @@
 package com.growcorehub.service;
 
+import com.growcorehub.dto.response.NotificationResponse;
 import com.growcorehub.entity.Notification;
 import com.growcorehub.entity.User;
+import com.growcorehub.enums.NotificationAudience;
 import com.growcorehub.enums.NotificationType;
 import com.growcorehub.repository.NotificationRepository;
 import com.growcorehub.repository.UserRepository;
+import com.growcorehub.exception.BadRequestException;
 import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.exception.UnauthorizedException;
+import com.growcorehub.service.NotificationBroker.StreamEvent;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Slf4j
 public class NotificationService {
 
+	private static final int RECONCILE_BATCH_SIZE = 500;
+	// Bounds the IN list of a bulk mark-read
+	private static final int MAX_MARK_READ_IDS = 1000;
+	private static final int MAX_TITLE_LENGTH = 255;
+
 	private final NotificationRepository notificationRepository;
 	private final UserRepository userRepository; // Use UserRepository directly instead of UserService
+	private final NotificationStreamHub notificationStreamHub;
+	private final UnreadCountStore unreadCountStore;
 
 	public Page<Notification> getUserNotifications(String userEmail, Pageable pageable) {
 		User user = findUserByEmail(userEmail);
 		return notificationRepository.findByUserIdOrderByCreatedAtDesc(user.getId(), pageable);
 	}
 
+	@Transactional(readOnly = true)
+	@Timed(value = "growcorehub.notifications.list", description = "Notification page query", histogram = true)
+	public Page<NotificationResponse> getNotificationResponses(Long userId, Pageable pageable) {
+		return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable)
+				.map(this::convertToNotificationResponse);
+	}
+
 	public long getUnreadNotificationCount(String userEmail) {
-		User user = findUserByEmail(userEmail);
-		return notificationRepository.countByUserIdAndIsReadFalse(user.getId());
+		return getUnreadNotificationCount(findUserByEmail(userEmail).getId());
+	}
+
+	/**
+	 * Served from the unread count store; only a miss runs the COUNT query
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	@Timed(value = "growcorehub.notifications.unread.count", description = "Unread count lookup", histogram = true)
+	public long getUnreadNotificationCount(Long userId) {
+		return unreadCountStore.get(userId, () -> notificationRepository.countByUserIdAndIsReadFalse(userId));
 	}
 
 	public void markAsRead(Long notificationId, String userEmail) {
-		User user = findUserByEmail(userEmail);
-		Notification notification = notificationRepository.findById(notificationId)
-				.orElseThrow(() -> new RuntimeException("Notification not found"));
+		markAsRead(notificationId, findUserByEmail(userEmail).getId());
+	}
+
+	/**
+	 * Single conditional UPDATE; ownership is only looked up when nothing changed
+	 */
+	public void markAsRead(Long notificationId, Long userId) {
+		if (notificationRepository.markReadByIds(userId, List.of(notificationId)) > 0) {
+			afterCommit(() -> unreadCountStore.add(userId, -1));
+			// Lets the user's other open tabs update their unread badge
+			notificationStreamHub.publishAfterCommit(userId, NotificationStreamHub.EVENT_READ, List.of(notificationId));
+			return;
+		}
 
-		if (!notification.getUser().getId().equals(user.getId())) {
-			throw new RuntimeException("Unauthorized access to notification");
+		Long ownerId = notificationRepository.findUserIdById(notificationId)
+				.orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+		if (!ownerId.equals(userId)) {
+			throw new UnauthorizedException("Unauthorized access to notification");
+		}
+		// Already read
+	}
+
+	/**
+	 * Marks the given notifications read; ids belonging to other users or
+	 * already read are ignored and left out of the read event
+	 */
+	public int markAsRead(Collection<Long> notificationIds, Long userId) {
+		// Bean validation annotations on the request are not enforced without a provider
+		if (notificationIds == null || notificationIds.isEmpty()
+				|| notificationIds.stream().anyMatch(Objects::isNull)) {
+			throw new BadRequestException("At least one notification id is required");
+		}
+		if (notificationIds.size() > MAX_MARK_READ_IDS) {
+			throw new BadRequestException("At most " + MAX_MARK_READ_IDS + " notifications can be marked at once");
 		}
+		// Locked first so a concurrent mark of the same rows cannot claim them too
+		List<Long> unreadIds = notificationRepository.lockUnread(userId, notificationIds);
+		if (unreadIds.isEmpty()) {
+			return 0;
+		}
+		int updated = notificationRepository.markReadByIds(userId, unreadIds);
+		afterCommit(() -> unreadCountStore.add(userId, -updated));
+		notificationStreamHub.publishAfterCommit(userId, NotificationStreamHub.EVENT_READ, unreadIds);
+		return updated;
+	}
 
-		notification.setIsRead(true);
-		notificationRepository.save(notification);
+	public int markAllAsRead(Long userId) {
+		int updated = notificationRepository.markAllRead(userId);
+		afterCommit(() -> unreadCountStore.set(userId, 0));
+		if (updated > 0) {
+			notificationStreamHub.publishAfterCommit(userId, NotificationStreamHub.EVENT_UNREAD_COUNT, 0L);
+		}
+		return updated;
 	}
 
-	public void createNotification(User user, String title, String message, NotificationType type) {
+	/**
+	 * Sends one notification to every user in the audience with a single
+	 * INSERT ... SELECT instead of one event per user. Open streams are notified
+	 * once the insert commits.
+	 */
+	@Timed(value = "growcorehub.notifications.broadcast", description = "Notification broadcast")
+	public int broadcast(NotificationAudience audience, String title, String message, NotificationType type) {
+		if (audience == null) {
+			throw new BadRequestException("Audience is required");
+		}
+		if (title == null || title.isBlank() || title.length() > MAX_TITLE_LENGTH) {
+			throw new BadRequestException("Title is required and at most " + MAX_TITLE_LENGTH + " characters");
+		}
+		if (message == null || message.isBlank()) {
+			throw new BadRequestException("Message is required");
+		}
+		List<long[]> inserted = notificationRepository.insertForAudience(audience, title, message, type);
+
+		publishInserted(inserted, title, message, type);
+
+		log.info("Broadcast notification to {} users ({})", inserted.size(), audience);
+		return inserted.size();
+	}
+
+	/**
+	 * Sends one notification to each of the given users in a single batch
+	 */
+	public int notifyUsers(List<Long> userIds, String title, String message, NotificationType type) {
+		List<long[]> inserted = notificationRepository.insertForUsers(userIds, title, message, type);
+		publishInserted(inserted, title, message, type);
+		return inserted.size();
+	}
+
+	@Timed(value = "growcorehub.notifications.create", description = "Notification creation", histogram = true)
+	public NotificationResponse createNotification(User user, String title, String message, NotificationType type) {
 		Notification notification = new Notification();
 		notification.setUser(user);
 		notification.setTitle(title);
 		notification.setMessage(message);
 		notification.setType(type);
-		notificationRepository.save(notification);
+		Notification saved = notificationRepository.save(notification);
+
+		afterCommit(() -> unreadCountStore.add(user.getId(), 1));
+		return convertToNotificationResponse(saved);
+	}
+
+	/**
+	 * Corrects drift in the cached unread counts (another node's writes, purged
+	 * rows, races with lazy loading). Reads the primary, not a replica.
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.notifications.unread-cache.reconcile-interval-ms:60000}", initialDelayString = "${growcorehub.notifications.unread-cache.reconcile-interval-ms:60000}")
+	public void reconcileUnreadCounts() {
+		List<Long> userIds = List.copyOf(unreadCountStore.cachedUserIds());
+		for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+			List<Long> batch = userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size()));
+			Map<Long, Long> counts = new HashMap<>(batch.size() * 2);
+			for (Object[] row : notificationRepository.countUnreadByUserIds(batch)) {
+				counts.put((Long) row[0], (Long) row[1]);
+			}
+			batch.forEach(userId -> unreadCountStore.set(userId, counts.getOrDefault(userId, 0L)));
+		}
+	}
+
+	public NotificationResponse convertToNotificationResponse(Notification notification) {
+		NotificationResponse response = new NotificationResponse();
+		response.setId(notification.getId());
+		response.setTitle(notification.getTitle());
+		response.setMessage(notification.getMessage());
+		response.setType(notification.getType());
+		response.setIsRead(notification.getIsRead());
+		response.setCreatedAt(notification.getCreatedAt());
+		return response;
+	}
+
+	// Open streams and cached unread counts learn about set-based inserts once they commit
+	private void publishInserted(List<long[]> inserted, String title, String message, NotificationType type) {
+		LocalDateTime createdAt = LocalDateTime.now();
+		List<StreamEvent> events = new ArrayList<>(inserted.size());
+		for (long[] row : inserted) {
+			NotificationResponse response = new NotificationResponse();
+			response.setId(row[0]);
+			response.setTitle(title);
+			response.setMessage(message);
+			response.setType(type);
+			response.setIsRead(false);
+			response.setCreatedAt(createdAt);
+			events.add(new StreamEvent(row[1], NotificationStreamHub.EVENT_NOTIFICATION, response));
+		}
+		notificationStreamHub.publishAllAfterCommit(events);
+		afterCommit(() -> inserted.forEach(row -> unreadCountStore.add(row[1], 1)));
+	}
+
+	private void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
 	}
 
 	// Helper method to find user by email without depending on UserService
@@ -0,0 +1,289 @@
+package com.growcorehub.service;
+
+import com.growcorehub.service.NotificationBroker.StreamEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event fan-out for notifications. Events arrive through the
+ * {@link NotificationBroker} and are queued per connection; each connection
+ * drains its own bounded buffer on the hub's writer threads, so a slow client
+ * only ever delays itself. When a buffer overflows the oldest events are
+ * dropped and the client is told to resync over the REST endpoints.
+ * <p>
+ * Writes block on slow clients, so they get their own fixed pool and bounded
+ * queue rather than the shared task executor; a connection whose drain cannot
+ * be queued is closed.
+ */
+@Service
+@Slf4j
+public class NotificationStreamHub {
+
+	public static final String EVENT_NOTIFICATION = "notification";
+	public static final String EVENT_READ = "read";
+	public static final String EVENT_UNREAD_COUNT = "unread-count";
+	public static final String EVENT_RESYNC = "resync";
+	public static final String EVENT_ASSESSMENT_SCORED = "assessment-scored";
+
+	private final NotificationBroker broker;
+	private final MeterRegistry meterRegistry;
+	private ThreadPoolExecutor writers;
+	private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+	private final AtomicInteger connectionCount = new AtomicInteger();
+	private final Counter droppedEvents;
+
+	// Each blocked write holds a thread until the client reads or is evicted
+	@Value("${growcorehub.notifications.stream.writer-threads:16}")
+	private int writerThreads;
+
+	@Value("${growcorehub.notifications.stream.writer-queue-capacity:10000}")
+	private int writerQueueCapacity;
+
+	@Value("${growcorehub.notifications.stream.buffer-size:32}")
+	private int bufferSize;
+
+	@Value("${growcorehub.notifications.stream.max-connections-per-user:5}")
+	private int maxConnectionsPerUser;
+
+	// Streams are closed after this long; EventSource clients reconnect on their own
+	@Value("${growcorehub.notifications.stream.max-lifetime-ms:1800000}")
+	private long maxLifetimeMs;
+
+	// A connection with pending events and no successful write for this long is evicted
+	@Value("${growcorehub.notifications.stream.idle-timeout-ms:60000}")
+	private long idleTimeoutMs;
+
+	public NotificationStreamHub(NotificationBroker broker, MeterRegistry meterRegistry) {
+		this.broker = broker;
+		this.meterRegistry = meterRegistry;
+		Gauge.builder("growcorehub.notifications.stream.connections", connectionCount, AtomicInteger::get)
+				.description("Open notification streams on this node").register(meterRegistry);
+		this.droppedEvents = Counter.builder("growcorehub.notifications.stream.dropped")
+				.description("Stream events dropped from full connection buffers").register(meterRegistry);
+	}
+
+	@PostConstruct
+	void start() {
+		AtomicInteger threadNumber = new AtomicInteger();
+		writers = new ThreadPoolExecutor(writerThreads, writerThreads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(writerQueueCapacity), runnable -> {
+					Thread thread = new Thread(runnable, "notification-stream-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		Gauge.builder("growcorehub.notifications.stream.writer.queue", writers.getQueue(), BlockingQueue::size)
+				.description("Stream writes waiting for a writer thread").register(meterRegistry);
+		broker.subscribe(this::deliver);
+	}
+
+	@PreDestroy
+	void stop() {
+		writers.shutdownNow();
+	}
+
+	/**
+	 * Open a stream for a user, starting with the current unread count
+	 */
+	public SseEmitter open(Long userId, long unreadCount) {
+		Connection connection = new Connection(userId, new SseEmitter(maxLifetimeMs));
+		connection.emitter.onCompletion(connection::close);
+		connection.emitter.onTimeout(connection::close);
+		connection.emitter.onError(e -> connection.close());
+
+		List<Connection> userConnections = connections.compute(userId, (id, list) -> {
+			List<Connection> result = list != null ? list : new CopyOnWriteArrayList<>();
+			result.add(connection);
+			return result;
+		});
+		connectionCount.incrementAndGet();
+
+		// Oldest streams (typically abandoned tabs) make room for new ones
+		for (Connection existing : userConnections) {
+			if (userConnections.size() <= maxConnectionsPerUser) {
+				break;
+			}
+			if (existing != connection) {
+				existing.close();
+			}
+		}
+
+		connection.enqueue(new StreamEvent(userId, EVENT_UNREAD_COUNT, unreadCount));
+		return connection.emitter;
+	}
+
+	public void publish(Long userId, String name, Object payload) {
+		broker.publish(new StreamEvent(userId, name, payload));
+	}
+
+	/**
+	 * Publish once the surrounding transaction commits, or immediately without one
+	 */
+	public void publishAfterCommit(Long userId, String name, Object payload) {
+		publishAllAfterCommit(List.of(new StreamEvent(userId, name, payload)));
+	}
+
+	public void publishAllAfterCommit(List<StreamEvent> events) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					events.forEach(broker::publish);
+				}
+			});
+		} else {
+			events.forEach(broker::publish);
+		}
+	}
+
+	public int getConnectionCount() {
+		return connectionCount.get();
+	}
+
+	/**
+	 * Heartbeat keeps proxies from timing out quiet streams and detects dead
+	 * clients; connections stuck behind a blocked write are evicted
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.notifications.stream.heartbeat-interval-ms:25000}")
+	public void heartbeat() {
+		long now = System.nanoTime();
+		long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+
+		for (List<Connection> userConnections : connections.values()) {
+			for (Connection connection : userConnections) {
+				if (!connection.buffer.isEmpty() && now - connection.lastWriteNanos > idleTimeoutNanos) {
+					log.debug("Evicting stalled notification stream for user {}", connection.userId);
+					connection.close();
+				} else {
+					connection.enqueue(new StreamEvent(connection.userId, null, null));
+				}
+			}
+		}
+	}
+
+	private void deliver(StreamEvent event) {
+		List<Connection> userConnections = connections.get(event.userId());
+		if (userConnections != null) {
+			userConnections.forEach(connection -> connection.enqueue(event));
+		}
+	}
+
+	private static SseEmitter.SseEventBuilder toSse(StreamEvent event) {
+		if (event.name() == null) {
+			return SseEmitter.event().comment("heartbeat");
+		}
+		return SseEmitter.event().name(event.name()).data(event.payload(), MediaType.APPLICATION_JSON);
+	}
+
+	private final class Connection {
+
+		private final Long userId;
+		private final SseEmitter emitter;
+		private final ArrayBlockingQueue<StreamEvent> buffer = new ArrayBlockingQueue<>(bufferSize);
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+		private volatile boolean overflowed;
+		private volatile long lastWriteNanos = System.nanoTime();
+
+		private Connection(Long userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		private void enqueue(StreamEvent event) {
+			if (closed.get()) {
+				return;
+			}
+			while (!buffer.offer(event)) {
+				if (buffer.poll() != null) {
+					overflowed = true;
+					droppedEvents.increment();
+				}
+			}
+			scheduleDrain();
+		}
+
+		private void scheduleDrain() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					writers.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					draining.set(false);
+					close();
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				StreamEvent event;
+				while (!closed.get() && (event = buffer.poll()) != null) {
+					if (overflowed) {
+						overflowed = false;
+						emitter.send(SseEmitter.event().name(EVENT_RESYNC).data(""));
+					}
+					emitter.send(toSse(event));
+					lastWriteNanos = System.nanoTime();
+				}
+			} catch (IOException | IllegalStateException e) {
+				// Client went away
+				close();
+			} finally {
+				draining.set(false);
+			}
+			if (!closed.get() && !buffer.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		private void close() {
+			if (!closed.compareAndSet(false, true)) {
+				return;
+			}
+			connections.computeIfPresent(userId, (id, list) -> {
+				list.remove(this);
+				return list.isEmpty() ? null : list;
+			});
+			connectionCount.decrementAndGet();
+			buffer.clear();
+
+			// Completing may wait on a write blocked by this client, so do it off the caller
+			try {
+				writers.execute(this::complete);
+			} catch (RejectedExecutionException e) {
+				complete();
+			}
+		}
+
+		private void complete() {
+			try {
+				emitter.complete();
+			} catch (RuntimeException e) {
+				log.debug("Notification stream already closed: {}", e.getMessage());
+			}
+		}
+	}
+}
@@ -13,6 +13,7 @@ import com.growcorehub.exception.ResourceNotFoundException;
 import com.growcorehub.exception.BadRequestException;
 import com.growcorehub.repository.ProjectApplicationRepository;
 import com.growcorehub.repository.ProjectRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,11 +36,14 @@ public class ProjectService {
 	private final ProjectApplicationRepository applicationRepository;
 	private final UserService userService;
 	private final AssessmentService assessmentService;
+	private final ApplicantRankingService applicantRankingService;
+	private final EligibilityService eligibilityService;
 	private final ObjectMapper objectMapper;
 
 	/**
 	 * Get all active projects with optional category filter
 	 */
+	@Timed(value = "growcorehub.projects.list", description = "Active project listing", histogram = true)
 	public Page<ProjectResponse> getAllActiveProjects(String category, Pageable pageable) {
 		Page<Project> projects;
 
@@ -47,12 +53,13 @@ public class ProjectService {
 			projects = projectRepository.findByStatus(ProjectStatus.ACTIVE, pageable);
 		}
 
-		return projects.map(this::convertToProjectResponse);
+		return convertToProjectResponses(projects, null);
 	}
 
 	/**
 	 * Get all active projects with user-specific information
 	 */
+	@Timed(value = "growcorehub.projects.list", description = "Active project listing", histogram = true)
 	public Page<ProjectResponse> getAllActiveProjects(String category, String userEmail, Pageable pageable) {
 		Page<Project> projects;
 
@@ -63,9 +70,7 @@ public class ProjectService {
 		}
 
 		User user = getUserIfExists(userEmail);
-		final User finalUser = user;
-
-		return projects.map(project -> convertToProjectResponse(project, finalUser));
+		return convertToProjectResponses(projects, user);
 	}
 
 	/**
@@ -88,10 +93,12 @@ public class ProjectService {
 	 */
 	public List<ProjectResponse> getUserApplications(String userEmail) {
 		User user = userService.findByEmail(userEmail);
-		List<ProjectApplication> applications = applicationRepository.findByUserId(user.getId());
+		List<ProjectApplication> applications = applicationRepository.findWithProjectByUserId(user.getId());
+		Map<Long, List<AssessmentResponse>> assessments = assessmentsOf(
+				applications.stream().map(app -> app.getProject().getId()).toList(), user);
 
 		return applications.stream().map(app -> {
-			ProjectResponse response = convertToProjectResponse(app.getProject(), user);
+			ProjectResponse response = convertToProjectResponse(app.getProject(), user, assessments);
 			response.setApplicationStatus(app.getApplicationStatus());
 			response.setAppliedAt(app.getAppliedAt());
 			response.setAssessmentScore(app.getAssessmentScore());
@@ -104,10 +111,12 @@ public class ProjectService {
 	 */
 	public List<ProjectResponse> getUserApplicationsByStatus(String userEmail, ApplicationStatus status) {
 		User user = userService.findByEmail(userEmail);
-		List<ProjectApplication> applications = applicationRepository.findByUserIdAndApplicationStatus(user.getId(),
-				status);
+		List<ProjectApplication> applications = applicationRepository
+				.findWithProjectByUserIdAndApplicationStatus(user.getId(), status);
+		Map<Long, List<AssessmentResponse>> assessments = assessmentsOf(
+				applications.stream().map(app -> app.getProject().getId()).toList(), user);
 
-		return applications.stream().map(app -> convertToProjectResponse(app.getProject(), user))
+		return applications.stream().map(app -> convertToProjectResponse(app.getProject(), user, assessments))
 				.collect(Collectors.toList());
 	}
 
@@ -115,23 +124,13 @@ public class ProjectService {
 	 * Check if user can apply to project
 	 */
 	public boolean canUserApplyToProject(String userEmail, Long projectId) {
-		try {
-			User user = userService.findByEmail(userEmail);
-
-			// Check if project exists and is active
-			Project project = projectRepository.findById(projectId)
-					.orElseThrow(() -> new ResourceNotFoundException("Project not found"));
-
-			if (project.getStatus() != ProjectStatus.ACTIVE) {
-				return false;
-			}
-
-			// Check if user already applied
-			return !applicationRepository.existsByUserIdAndProjectId(user.getId(), projectId);
-		} catch (Exception e) {
-			log.error("Error checking if user can apply to project: {}", e.getMessage());
+		Optional<User> user = userService.findOptionalByEmail(userEmail);
+		if (user.isEmpty()) {
 			return false;
 		}
+
+		// Project must be active, the user must not have applied yet and their profile must be complete
+		return eligibilityService.forUser(user.get()).canApply(projectId);
 	}
 
 	/**
@@ -165,6 +164,8 @@ public class ProjectService {
 		application.setApplicationStatus(ApplicationStatus.APPLIED);
 
 		ProjectApplication savedApplication = applicationRepository.save(application);
+		applicantRankingService.rescore(List.of(savedApplication.getId()));
+		eligibilityService.invalidateAfterCommit(List.of(user.getId()));
 		log.info("User {} applied to project {}", userEmail, projectId);
 
 		return savedApplication;
@@ -191,22 +192,30 @@ public class ProjectService {
 	// Private helper methods
 
 	private User getUserIfExists(String userEmail) {
-		if (userEmail == null)
-			return null;
-
-		try {
-			return userService.findByEmail(userEmail);
-		} catch (ResourceNotFoundException e) {
+		Optional<User> user = userService.findOptionalByEmail(userEmail);
+		if (userEmail != null && user.isEmpty()) {
 			log.warn("User not found with email: {}", userEmail);
-			return null;
 		}
+		return user.orElse(null);
 	}
 
-	private ProjectResponse convertToProjectResponse(Project project) {
-		return convertToProjectResponse(project, null);
+	// Assessments for the whole page up front, so converting a project queries nothing per project
+	private Page<ProjectResponse> convertToProjectResponses(Page<Project> projects, User user) {
+		Map<Long, List<AssessmentResponse>> assessments = assessmentsOf(projects.map(Project::getId).getContent(),
+				user);
+		return projects.map(project -> convertToProjectResponse(project, user, assessments));
 	}
 
 	private ProjectResponse convertToProjectResponse(Project project, User user) {
+		return convertToProjectResponse(project, user, assessmentsOf(List.of(project.getId()), user));
+	}
+
+	private Map<Long, List<AssessmentResponse>> assessmentsOf(List<Long> projectIds, User user) {
+		return assessmentService.getAssessmentsByProjectIds(projectIds, user != null ? user.getId() : null);
+	}
+
+	private ProjectResponse convertToProjectResponse(Project project, User user,
+			Map<Long, List<AssessmentResponse>> assessments) {
 		ProjectResponse response = new ProjectResponse();
 		response.setId(project.getId());
 		response.setTitle(project.getTitle());
@@ -227,10 +236,7 @@ public class ProjectService {
 			setUserSpecificInfo(project, user, response);
 		}
 
-		// Get assessments
-		List<AssessmentResponse> assessments = assessmentService.getAssessmentsByProjectId(project.getId(),
-				user != null ? user.getId() : null);
-		response.setAssessments(assessments);
+		response.setAssessments(assessments.getOrDefault(project.getId(), List.of()));
 
 		return response;
 	}
@@ -251,18 +257,20 @@ public class ProjectService {
 	}
 
 	private void setUserSpecificInfo(Project project, User user, ProjectResponse response) {
-		// Check if user has applied
-		ProjectApplication application = applicationRepository.findByUserIdAndProjectId(user.getId(), project.getId())
-				.orElse(null);
+		// Cached per user, so listing pages do not query per project
+		EligibilityService.Eligibility eligibility = eligibilityService.forUser(user);
+		EligibilityService.ApplicationSummary application = eligibility.application(project.getId());
 
 		if (application != null) {
 			response.setHasApplied(true);
-			response.setApplicationStatus(application.getApplicationStatus());
-			response.setAppliedAt(application.getAppliedAt());
-			response.setAssessmentScore(application.getAssessmentScore());
+			response.setApplicationStatus(application.status());
+			response.setAppliedAt(application.appliedAt());
+			response.setAssessmentScore(application.assessmentScore());
 		} else {
 			response.setHasApplied(false);
 		}
+		response.setCanApply(eligibility.canApply(project.getId()));
+		response.setMeetsMinimumScore(eligibility.meetsMinimumScore(project.getId()));
 	}
 
 	// Inner class for project statistics
@@ -0,0 +1,323 @@
+package com.growcorehub.service;
+
+import com.growcorehub.dto.response.ScoreDistributionResponse;
+import com.growcorehub.entity.Assessment;
+import com.growcorehub.entity.AssessmentScoreDistribution;
+import com.growcorehub.entity.User;
+import com.growcorehub.entity.UserAssessment;
+import com.growcorehub.enums.ScoringStatus;
+import com.growcorehub.exception.ResourceNotFoundException;
+import com.growcorehub.repository.AssessmentRepository;
+import com.growcorehub.repository.AssessmentScoreDistributionRepository;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.util.ScoreHistogram;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-assessment score distributions without scanning submissions. Each node
+ * records scored submissions into an in-memory {@link ScoreHistogram} and
+ * periodically merges it into the assessment's checkpoint row; reads combine
+ * the checkpoint with this node's unmerged scores. Scores recorded on other
+ * nodes show up once they checkpoint.
+ * <p>
+ * An assessment's first checkpoint is seeded from a grouped count of its
+ * submissions scored before a watermark, which covers scores from before this
+ * existed. The watermark is stored on the row and lags the seed, so every
+ * node's pending scores split cleanly: those scored before it were counted
+ * and are dropped, later ones are merged.
+ */
+@Service
+@Slf4j
+public class ScoreDistributionService {
+
+	private static final double[] PERCENTILES = { 0.10, 0.25, 0.50, 0.75, 0.90 };
+
+	private final AssessmentScoreDistributionRepository distributionRepository;
+	private final AssessmentRepository assessmentRepository;
+	private final UserAssessmentRepository userAssessmentRepository;
+	private final UserService userService;
+	private final TransactionTemplate checkpointTransaction;
+
+	// Scores recorded on this node since its last checkpoint
+	private final Map<Long, Delta> pending = new ConcurrentHashMap<>();
+	private final Map<Long, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+	// Checkpoint plus pending scores; never modified once cached, dropped when either changes
+	private final Map<Long, ScoreHistogram> snapshots = new ConcurrentHashMap<>();
+
+	// Also how long a checkpoint read from the database is reused
+	@Value("${growcorehub.assessments.distribution.checkpoint-interval-ms:60000}")
+	private long checkpointIntervalMs;
+
+	@Value("${growcorehub.assessments.distribution.seed-lag-ms:60000}")
+	private long seedLagMs;
+
+	public ScoreDistributionService(AssessmentScoreDistributionRepository distributionRepository,
+			AssessmentRepository assessmentRepository, UserAssessmentRepository userAssessmentRepository,
+			UserService userService, PlatformTransactionManager transactionManager) {
+		this.distributionRepository = distributionRepository;
+		this.assessmentRepository = assessmentRepository;
+		this.userAssessmentRepository = userAssessmentRepository;
+		this.userService = userService;
+		this.checkpointTransaction = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Records a score once the current transaction commits
+	 */
+	public void recordAfterCommit(Long assessmentId, BigDecimal score, LocalDateTime scoredAt) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					record(assessmentId, score, scoredAt);
+				}
+			});
+		} else {
+			record(assessmentId, score, scoredAt);
+		}
+	}
+
+	/**
+	 * Percentile rank (0-100) of {@code score} among the assessment's scores;
+	 * null when none are recorded
+	 */
+	public BigDecimal percentileOf(Long assessmentId, BigDecimal score) {
+		return distribution(assessmentId).percentileRank(score);
+	}
+
+	@Transactional(readOnly = true)
+	public ScoreDistributionResponse getDistribution(Long assessmentId, String userEmail) {
+		Assessment assessment = assessmentRepository.findById(assessmentId)
+				.orElseThrow(() -> new ResourceNotFoundException("Assessment not found with id: " + assessmentId));
+		ScoreHistogram histogram = distribution(assessmentId);
+
+		ScoreDistributionResponse response = new ScoreDistributionResponse();
+		response.setAssessmentId(assessmentId);
+		response.setCount(histogram.getTotal());
+		response.setMean(histogram.mean());
+
+		Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+		for (double percentile : PERCENTILES) {
+			percentiles.put("p" + Math.round(percentile * 100), histogram.quantile(percentile));
+		}
+		response.setPercentiles(percentiles);
+
+		BigDecimal minimumScore = assessment.getProject().getMinimumScore();
+		if (minimumScore != null) {
+			response.setMinimumScore(minimumScore);
+			response.setPassRate(histogram.shareAtOrAbove(minimumScore));
+		}
+
+		User user = userService.findByEmail(userEmail);
+		UserAssessment userAssessment = userAssessmentRepository.findByUserIdAndAssessmentId(user.getId(), assessmentId)
+				.orElse(null);
+		if (userAssessment != null && userAssessment.getStatus() != ScoringStatus.PENDING) {
+			response.setUserScore(userAssessment.getScore());
+			response.setUserPercentile(histogram.percentileRank(userAssessment.getScore()));
+		}
+		return response;
+	}
+
+	/**
+	 * Merges each assessment's pending scores into its checkpoint row, one short
+	 * transaction per assessment
+	 */
+	@Scheduled(fixedDelayString = "${growcorehub.assessments.distribution.checkpoint-interval-ms:60000}", initialDelayString = "${growcorehub.assessments.distribution.checkpoint-interval-ms:60000}")
+	public void checkpoint() {
+		for (Long assessmentId : List.copyOf(pending.keySet())) {
+			Delta delta = pending.remove(assessmentId);
+			if (delta == null) {
+				continue;
+			}
+			try {
+				ScoreHistogram merged = checkpointTransaction.execute(status -> merge(assessmentId, delta));
+				checkpoints.put(assessmentId, new Checkpoint(merged, System.currentTimeMillis()));
+				snapshots.remove(assessmentId);
+			} catch (RuntimeException e) {
+				log.warn("Could not checkpoint score distribution of assessment {}: {}", assessmentId,
+						e.getMessage());
+				pending.compute(assessmentId, (id, scores) -> {
+					snapshots.remove(id);
+					if (scores == null) {
+						return delta;
+					}
+					scores.merge(delta);
+					return scores;
+				});
+			}
+		}
+	}
+
+	@PreDestroy
+	void checkpointOnShutdown() {
+		checkpoint();
+	}
+
+	private void record(Long assessmentId, BigDecimal score, LocalDateTime scoredAt) {
+		// Snapshots are dropped under the same per-key lock that builds them
+		pending.compute(assessmentId, (id, scores) -> {
+			Delta result = scores != null ? scores : new Delta();
+			result.record(score, scoredAt);
+			snapshots.remove(id);
+			return result;
+		});
+	}
+
+	private ScoreHistogram distribution(Long assessmentId) {
+		Checkpoint checkpoint = checkpoint(assessmentId);
+		ScoreHistogram snapshot = snapshots.get(assessmentId);
+		if (snapshot != null) {
+			return snapshot;
+		}
+
+		ScoreHistogram merged = checkpoint.histogram.copy();
+		pending.compute(assessmentId, (id, scores) -> {
+			if (scores != null) {
+				merged.merge(scores.histogram);
+			}
+			snapshots.put(id, merged);
+			return scores;
+		});
+		return merged;
+	}
+
+	private Checkpoint checkpoint(Long assessmentId) {
+		Checkpoint checkpoint = checkpoints.get(assessmentId);
+		if (checkpoint != null && System.currentTimeMillis() - checkpoint.loadedAt < checkpointIntervalMs) {
+			return checkpoint;
+		}
+
+		ScoreHistogram histogram = distributionRepository.findById(assessmentId)
+				.map(row -> ScoreHistogram.fromBytes(row.getHistogram()))
+				.orElseGet(() -> seedExcludingPending(assessmentId));
+		checkpoint = new Checkpoint(histogram, System.currentTimeMillis());
+		checkpoints.put(assessmentId, checkpoint);
+		// Picks up what other nodes merged since the last load
+		snapshots.remove(assessmentId);
+		return checkpoint;
+	}
+
+	/**
+	 * A node that loses the race to insert the first row fails here, keeps its
+	 * delta and merges it past the winner's watermark next time
+	 */
+	private ScoreHistogram merge(Long assessmentId, Delta delta) {
+		AssessmentScoreDistribution row = distributionRepository.findForUpdate(assessmentId).orElse(null);
+		ScoreHistogram histogram;
+		if (row == null) {
+			LocalDateTime watermark = seedWatermark();
+			histogram = countSubmissions(assessmentId, watermark);
+			row = new AssessmentScoreDistribution();
+			row.setAssessmentId(assessmentId);
+			row.setSeededBefore(watermark);
+		} else {
+			histogram = ScoreHistogram.fromBytes(row.getHistogram());
+		}
+		histogram.merge(delta.scoredSince(row.getSeededBefore()));
+
+		row.setHistogram(histogram.toBytes());
+		row.setTotalCount(histogram.getTotal());
+		row.setUpdatedAt(LocalDateTime.now());
+		distributionRepository.save(row);
+		return histogram;
+	}
+
+	/**
+	 * Counts the submissions minus this node's pending scores the count covers,
+	 * since reads add every pending score back on top. Pending scores are
+	 * recorded after their commit, so the count taken afterwards includes all
+	 * of them scored before the watermark.
+	 */
+	private ScoreHistogram seedExcludingPending(Long assessmentId) {
+		LocalDateTime watermark = seedWatermark();
+		ScoreHistogram alreadyCounted = new ScoreHistogram();
+		pending.computeIfPresent(assessmentId, (id, scores) -> {
+			alreadyCounted.merge(scores.scoredBefore(watermark));
+			return scores;
+		});
+		ScoreHistogram seed = countSubmissions(assessmentId, watermark);
+		seed.subtract(alreadyCounted);
+		return seed;
+	}
+
+	// Far enough back that submissions scored before it have committed
+	private LocalDateTime seedWatermark() {
+		return LocalDateTime.now().minusNanos(seedLagMs * 1_000_000L);
+	}
+
+	private ScoreHistogram countSubmissions(Long assessmentId, LocalDateTime before) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		for (Object[] row : userAssessmentRepository.countScoresByAssessmentId(assessmentId, before)) {
+			histogram.record((BigDecimal) row[0], (Long) row[1]);
+		}
+		return histogram;
+	}
+
+	private record Checkpoint(ScoreHistogram histogram, long loadedAt) {
+	}
+
+	/**
+	 * Scores recorded since the last checkpoint, each with when it was scored so
+	 * merges can leave out what a seed counted. Guarded by the pending map's
+	 * per-key lock while in it.
+	 */
+	private static final class Delta {
+
+		private final ScoreHistogram histogram = new ScoreHistogram();
+		private final List<TimedScore> scores = new ArrayList<>();
+
+		private void record(BigDecimal score, LocalDateTime scoredAt) {
+			histogram.record(score);
+			scores.add(new TimedScore(score, scoredAt));
+		}
+
+		private void merge(Delta other) {
+			histogram.merge(other.histogram);
+			scores.addAll(other.scores);
+		}
+
+		// Everything when there is no watermark
+		private ScoreHistogram scoredSince(LocalDateTime watermark) {
+			if (watermark == null) {
+				return histogram;
+			}
+			ScoreHistogram since = new ScoreHistogram();
+			for (TimedScore score : scores) {
+				if (!score.scoredAt.isBefore(watermark)) {
+					since.record(score.score);
+				}
+			}
+			return since;
+		}
+
+		private ScoreHistogram scoredBefore(LocalDateTime watermark) {
+			ScoreHistogram before = new ScoreHistogram();
+			for (TimedScore score : scores) {
+				if (score.scoredAt.isBefore(watermark)) {
+					before.record(score.score);
+				}
+			}
+			return before;
+		}
+	}
+
+	private record TimedScore(BigDecimal score, LocalDateTime scoredAt) {
+	}
+}
@@ -0,0 +1,127 @@
+package com.growcorehub.service;
+
+import com.growcorehub.repository.RefreshTokenRepository;
+import com.growcorehub.util.BloomFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Tracks revoked refresh sessions. Access tokens carry their session id, so the
+ * per-request check is a Bloom filter lookup that only reaches the database on
+ * a (rare) positive.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenRevocationService {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+
+	@Value("${jwt.revocation.expected-entries:100000}")
+	private int expectedEntries;
+
+	@Value("${jwt.revocation.false-positive-rate:0.01}")
+	private double falsePositiveRate;
+
+	private volatile BloomFilter revokedSessions = new BloomFilter(1, 0.01);
+
+	// Filter being built by a rebuild; revocations made meanwhile go to both
+	private volatile BloomFilter pendingFilter;
+
+	/**
+	 * Returns true if the session has been revoked
+	 */
+	public boolean isRevoked(String sessionId) {
+		if (sessionId == null || !revokedSessions.mightContain(sessionId)) {
+			return false;
+		}
+		return refreshTokenRepository.existsBySessionIdAndRevokedTrue(sessionId);
+	}
+
+	/**
+	 * Revoke a single session in its own transaction so it survives a failing
+	 * caller
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void revokeSession(String sessionId) {
+		refreshTokenRepository.revokeSession(sessionId);
+		remember(sessionId);
+		log.info("Refresh session revoked: {}", sessionId);
+	}
+
+	/**
+	 * Revoke a session as part of the caller's transaction, for callers that
+	 * hold its token rows locked and commit even though they reject the request
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void revokeSessionInTransaction(String sessionId) {
+		refreshTokenRepository.revokeSession(sessionId);
+		remember(sessionId);
+		log.info("Refresh session revoked: {}", sessionId);
+	}
+
+	/**
+	 * Revoke every active session of a user
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void revokeAllForUser(Long userId) {
+		List<String> sessionIds = refreshTokenRepository.findActiveSessionIdsByUserId(userId);
+		refreshTokenRepository.revokeAllByUserId(userId);
+		sessionIds.forEach(this::remember);
+		log.info("Revoked {} refresh sessions for user {}", sessionIds.size(), userId);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadRevokedSessions() {
+		rebuild();
+	}
+
+	/**
+	 * Rebuild the filter from the database so other nodes' revocations are picked
+	 * up and expired entries stop occupying bits
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}", initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+	@Transactional(readOnly = true)
+	public void rebuild() {
+		BloomFilter next = new BloomFilter(expectedEntries, falsePositiveRate);
+		pendingFilter = next;
+		try {
+			List<String> sessionIds = refreshTokenRepository.findRevokedSessionIds(LocalDateTime.now());
+			sessionIds.forEach(next::put);
+			revokedSessions = next;
+			log.debug("Revocation filter rebuilt with {} sessions", sessionIds.size());
+		} catch (Exception e) {
+			log.error("Failed to rebuild token revocation filter: {}", e.getMessage());
+		} finally {
+			pendingFilter = null;
+		}
+	}
+
+	/**
+	 * Remove refresh tokens that can no longer be presented
+	 */
+	@Scheduled(cron = "${jwt.revocation.cleanup-cron:0 30 3 * * *}")
+	@Transactional
+	public void purgeExpiredTokens() {
+		int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+		log.info("Purged {} expired refresh tokens", deleted);
+	}
+
+	private void remember(String sessionId) {
+		revokedSessions.put(sessionId);
+		BloomFilter pending = pendingFilter;
+		if (pending != null) {
+			pending.put(sessionId);
+		}
+	}
+}
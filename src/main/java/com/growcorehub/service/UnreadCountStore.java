@@ -0,0 +1,32 @@
+package com.growcorehub.service;
+
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user unread notification counts kept outside the database. The default
+ * {@link LocalUnreadCountStore} is exact on a single node and bounded by the
+ * reconciliation interval elsewhere; multi-node deployments can provide a
+ * shared implementation (atomic counters in a shared cache).
+ */
+public interface UnreadCountStore {
+
+	/**
+	 * Cached count, loaded with {@code loader} on a miss
+	 */
+	long get(Long userId, LongSupplier loader);
+
+	/**
+	 * Adjusts a cached count; users without one are left to load lazily
+	 */
+	void add(Long userId, long delta);
+
+	void set(Long userId, long count);
+
+	void evict(Long userId);
+
+	/**
+	 * Users with a cached count, for reconciliation
+	 */
+	Set<Long> cachedUserIds();
+}
@@ -4,6 +4,7 @@ import com.growcorehub.dto.request.ProfileUpdateRequest;
 import com.growcorehub.dto.response.UserResponse;
 import com.growcorehub.entity.User;
 import com.growcorehub.entity.UserProfile;
+import com.growcorehub.enums.UserRole;
 import com.growcorehub.enums.VerificationStatus;
 import com.growcorehub.exception.BadRequestException;
 import com.growcorehub.exception.ResourceNotFoundException;
@@ -21,6 +22,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -32,6 +35,8 @@ public class UserService implements UserDetailsService {
 	private final UserProfileRepository userProfileRepository;
 	private final ValidationUtil validationUtil;
 	private final ApplicationEventPublisher eventPublisher; // Use event publisher for notifications
+	private final AccountStateRegistry accountStateRegistry;
+	private final EligibilityService eligibilityService;
 
 	@Override
 	@Transactional(readOnly = true)
@@ -56,7 +61,8 @@ public class UserService implements UserDetailsService {
 				true, // accountNonExpired
 				true, // credentialsNonExpired
 				user.getIsActive(), // accountNonLocked
-				Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER")));
+				Collections.singletonList(new SimpleGrantedAuthority(
+						"ROLE_" + (user.getRole() != null ? user.getRole() : UserRole.USER).name())));
 	}
 
 	/**
@@ -89,6 +95,8 @@ public class UserService implements UserDetailsService {
 		// Save changes
 		userRepository.save(user);
 		userProfileRepository.save(profile);
+		// Profile completion decides which projects the user can apply to
+		eligibilityService.invalidateAfterCommit(List.of(user.getId()));
 
 		log.info("User profile updated for email: {}", email);
 
@@ -104,6 +112,14 @@ public class UserService implements UserDetailsService {
 				.orElseThrow(() -> new ResourceNotFoundException("User not found with email: " + email));
 	}
 
+	/**
+	 * Look up a user by email where absence is an expected outcome
+	 */
+	@Transactional(readOnly = true)
+	public Optional<User> findOptionalByEmail(String email) {
+		return email == null ? Optional.empty() : userRepository.findByEmail(email);
+	}
+
 	/**
 	 * Find user by ID
 	 */
@@ -165,6 +181,7 @@ public class UserService implements UserDetailsService {
 	public void deactivateUser(String email) {
 		User user = findByEmail(email);
 		user.setIsActive(false);
+		bumpTokenVersion(user);
 		userRepository.save(user);
 		log.info("User account deactivated: {}", email);
 	}
@@ -175,6 +192,7 @@ public class UserService implements UserDetailsService {
 	public void activateUser(String email) {
 		User user = findByEmail(email);
 		user.setIsActive(true);
+		bumpTokenVersion(user);
 		userRepository.save(user);
 		log.info("User account activated: {}", email);
 	}
@@ -203,6 +221,12 @@ public class UserService implements UserDetailsService {
 
 	// Private helper methods
 
+	private void bumpTokenVersion(User user) {
+		int version = (user.getTokenVersion() != null ? user.getTokenVersion() : 0) + 1;
+		user.setTokenVersion(version);
+		accountStateRegistry.update(user.getId(), version);
+	}
+
 	private void validateProfileUpdateRequest(ProfileUpdateRequest request) {
 		if (request.getPhone() != null && !validationUtil.isValidPhone(request.getPhone())) {
 			throw new BadRequestException("Invalid phone number format");
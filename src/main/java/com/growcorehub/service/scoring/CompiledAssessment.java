@@ -0,0 +1,54 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.growcorehub.service.scoring.ScoringStrategy.CompiledQuestion;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An assessment's questions compiled for scoring. Points are summed as
+ * integers; the only BigDecimal is the final percentage.
+ */
+public final class CompiledAssessment {
+
+	private static final String ANSWER_PREFIX = "question_";
+
+	private final String source;
+	private final String[] answerKeys;
+	private final CompiledQuestion[] questions;
+	private final long maxPoints;
+
+	CompiledAssessment(String source, CompiledQuestion[] questions, long maxPoints) {
+		this.source = source;
+		this.questions = questions;
+		this.maxPoints = maxPoints;
+		this.answerKeys = new String[questions.length];
+		for (int i = 0; i < questions.length; i++) {
+			answerKeys[i] = ANSWER_PREFIX + i;
+		}
+	}
+
+	/**
+	 * Percentage of points earned, to two decimals; zero when nothing can be
+	 * earned (no questions)
+	 */
+	public BigDecimal score(JsonNode answers) {
+		if (maxPoints == 0) {
+			return BigDecimal.ZERO;
+		}
+		long earned = 0;
+		for (int i = 0; i < questions.length; i++) {
+			earned += questions[i].score(answers.path(answerKeys[i]));
+		}
+		return BigDecimal.valueOf(earned * 100).divide(BigDecimal.valueOf(maxPoints), 2, RoundingMode.HALF_UP);
+	}
+
+	public int questionCount() {
+		return questions.length;
+	}
+
+	boolean compiledFrom(String questionsJson) {
+		return source == null ? questionsJson == null : source.equals(questionsJson);
+	}
+}
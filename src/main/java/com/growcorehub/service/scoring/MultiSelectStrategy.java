@@ -0,0 +1,62 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Questions with several correct options in {@code correctAnswers}. With
+ * {@code partialCredit} (the default) each correct pick earns its share and
+ * each wrong pick cancels one, never below zero; without it only the exact
+ * set scores.
+ */
+@Component
+public class MultiSelectStrategy implements ScoringStrategy {
+
+	@Override
+	public Set<String> types() {
+		return Set.of("multi-select");
+	}
+
+	@Override
+	public CompiledQuestion compile(JsonNode question, int maxPoints) {
+		Set<String> correct = new HashSet<>();
+		question.path("correctAnswers").forEach(option -> {
+			if (option.isTextual()) {
+				correct.add(option.textValue());
+			}
+		});
+		if (correct.isEmpty()) {
+			return answer -> 0;
+		}
+		boolean partialCredit = question.path("partialCredit").asBoolean(true);
+		int correctCount = correct.size();
+
+		return answer -> {
+			if (!answer.isArray()) {
+				return 0;
+			}
+			Set<String> picked = new HashSet<>();
+			int hits = 0;
+			int misses = 0;
+			for (JsonNode option : answer) {
+				String value = option.isTextual() ? option.textValue() : option.toString();
+				// Repeating an option does not count it twice
+				if (!picked.add(value)) {
+					continue;
+				}
+				if (option.isTextual() && correct.contains(value)) {
+					hits++;
+				} else {
+					misses++;
+				}
+			}
+			if (!partialCredit) {
+				return hits == correctCount && misses == 0 ? maxPoints : 0;
+			}
+			return Math.max(0, hits - misses) * maxPoints / correctCount;
+		};
+	}
+}
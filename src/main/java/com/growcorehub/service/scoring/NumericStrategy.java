@@ -0,0 +1,44 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Full points when the answer is within {@code tolerance} (default 0) of the
+ * numeric {@code correctAnswer}. Answers may be numbers or numeric strings.
+ */
+@Component
+public class NumericStrategy implements ScoringStrategy {
+
+	@Override
+	public Set<String> types() {
+		return Set.of("numeric");
+	}
+
+	@Override
+	public CompiledQuestion compile(JsonNode question, int maxPoints) {
+		double correct = toNumber(question.path("correctAnswer"));
+		if (Double.isNaN(correct)) {
+			return answer -> 0;
+		}
+		double tolerance = Math.abs(question.path("tolerance").asDouble(0));
+
+		return answer -> Math.abs(toNumber(answer) - correct) <= tolerance ? maxPoints : 0;
+	}
+
+	private static double toNumber(JsonNode node) {
+		if (node.isNumber()) {
+			return node.doubleValue();
+		}
+		if (node.isTextual()) {
+			try {
+				return Double.parseDouble(node.textValue().trim());
+			} catch (NumberFormatException e) {
+				return Double.NaN;
+			}
+		}
+		return Double.NaN;
+	}
+}
@@ -0,0 +1,128 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growcorehub.entity.Assessment;
+import com.growcorehub.service.scoring.ScoringStrategy.CompiledQuestion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Scores answers against an assessment's question JSON. Each question is
+ * handled by the {@link ScoringStrategy} registered for its {@code type}
+ * (single-choice when absent) and is worth {@code weight} (default 1) times
+ * {@link #POINTS_PER_WEIGHT} points, so partial credit stays in integers.
+ * Compiled assessments are cached per id and rebuilt when the questions change.
+ */
+@Component
+@Slf4j
+public class ScoringEngine {
+
+	public static final int POINTS_PER_WEIGHT = 1000;
+
+	private static final int MAX_WEIGHT = 1000;
+	private static final int MAX_CACHED = 1000;
+	private static final CompiledAssessment EMPTY = new CompiledAssessment(null, new CompiledQuestion[0], 0);
+
+	private final Map<String, ScoringStrategy> strategies = new HashMap<>();
+	private final ObjectMapper objectMapper;
+	private final Map<Long, CompiledAssessment> compiled = new ConcurrentHashMap<>();
+
+	public ScoringEngine(List<ScoringStrategy> strategies, ObjectMapper objectMapper) {
+		for (ScoringStrategy strategy : strategies) {
+			strategy.types().forEach(type -> {
+				ScoringStrategy existing = this.strategies.putIfAbsent(type, strategy);
+				if (existing != null) {
+					throw new IllegalStateException("Question type '" + type + "' is handled by both "
+							+ existing.getClass().getSimpleName() + " and " + strategy.getClass().getSimpleName());
+				}
+			});
+		}
+		this.objectMapper = objectMapper;
+	}
+
+	public BigDecimal score(Assessment assessment, String answersJson) {
+		CompiledAssessment compiledAssessment = compile(assessment);
+		if (compiledAssessment.questionCount() == 0) {
+			return BigDecimal.ZERO;
+		}
+		try {
+			return compiledAssessment.score(objectMapper.readTree(answersJson));
+		} catch (Exception e) {
+			log.error("Error calculating score for assessment {}: {}", assessment.getId(), e.getMessage());
+			return BigDecimal.ZERO;
+		}
+	}
+
+	/**
+	 * Scores answers already parsed, such as those decoded from binary storage
+	 */
+	public BigDecimal score(Assessment assessment, JsonNode answers) {
+		return compile(assessment).score(answers);
+	}
+
+	public CompiledAssessment compile(Assessment assessment) {
+		String questions = assessment.getQuestions();
+		CompiledAssessment cached = assessment.getId() != null ? compiled.get(assessment.getId()) : null;
+		if (cached != null && cached.compiledFrom(questions)) {
+			return cached;
+		}
+
+		CompiledAssessment fresh = compile(assessment.getId(), questions);
+		if (assessment.getId() != null) {
+			if (compiled.size() >= MAX_CACHED) {
+				compiled.clear();
+			}
+			compiled.put(assessment.getId(), fresh);
+		}
+		return fresh;
+	}
+
+	private CompiledAssessment compile(Long assessmentId, String questionsJson) {
+		if (questionsJson == null) {
+			return EMPTY;
+		}
+		try {
+			JsonNode questions = objectMapper.readTree(questionsJson);
+			if (!questions.isArray()) {
+				log.error("Questions for assessment {} are not a JSON array", assessmentId);
+				return EMPTY;
+			}
+
+			CompiledQuestion[] compiledQuestions = new CompiledQuestion[questions.size()];
+			long maxPoints = 0;
+			for (int i = 0; i < compiledQuestions.length; i++) {
+				JsonNode question = questions.get(i);
+				int points = weight(question) * POINTS_PER_WEIGHT;
+				compiledQuestions[i] = strategyFor(assessmentId, question).compile(question, points);
+				maxPoints += points;
+			}
+			return new CompiledAssessment(questionsJson, compiledQuestions, maxPoints);
+		} catch (Exception e) {
+			log.error("Error parsing questions for assessment {}: {}", assessmentId, e.getMessage());
+			return EMPTY;
+		}
+	}
+
+	private ScoringStrategy strategyFor(Long assessmentId, JsonNode question) {
+		String type = question.path("type").asText(SingleChoiceStrategy.TYPE);
+		ScoringStrategy strategy = strategies.get(type);
+		if (strategy == null) {
+			log.warn("Unknown question type '{}' in assessment {}, scoring as {}", type, assessmentId,
+					SingleChoiceStrategy.TYPE);
+			strategy = strategies.get(SingleChoiceStrategy.TYPE);
+		}
+		return strategy;
+	}
+
+	private static int weight(JsonNode question) {
+		int weight = question.path("weight").asInt(1);
+		return Math.max(1, Math.min(MAX_WEIGHT, weight));
+	}
+}
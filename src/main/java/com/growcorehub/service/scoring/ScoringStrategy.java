@@ -0,0 +1,33 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Set;
+
+/**
+ * Scoring for one or more question types. Implementations are beans, selected
+ * by the question's {@code type} field; each question is compiled once and the
+ * result reused for every submission until the assessment changes.
+ */
+public interface ScoringStrategy {
+
+	/**
+	 * Values of the question {@code type} field this strategy handles
+	 */
+	Set<String> types();
+
+	/**
+	 * Compiles a question worth {@code maxPoints}
+	 */
+	CompiledQuestion compile(JsonNode question, int maxPoints);
+
+	@FunctionalInterface
+	interface CompiledQuestion {
+
+		/**
+		 * Points earned, between 0 and the question's maximum. {@code answer} is a
+		 * missing node when the question was not answered.
+		 */
+		int score(JsonNode answer);
+	}
+}
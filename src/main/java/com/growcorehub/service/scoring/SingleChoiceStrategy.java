@@ -0,0 +1,31 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Full points when the answer equals {@code correctAnswer}. Also used for
+ * questions without a type.
+ */
+@Component
+public class SingleChoiceStrategy implements ScoringStrategy {
+
+	public static final String TYPE = "single-choice";
+
+	@Override
+	public Set<String> types() {
+		return Set.of(TYPE, "multiple-choice", "text");
+	}
+
+	@Override
+	public CompiledQuestion compile(JsonNode question, int maxPoints) {
+		JsonNode correct = question.path("correctAnswer");
+		if (!correct.isTextual()) {
+			return answer -> 0;
+		}
+		String correctAnswer = correct.textValue();
+		return answer -> answer.isTextual() && correctAnswer.equals(answer.textValue()) ? maxPoints : 0;
+	}
+}
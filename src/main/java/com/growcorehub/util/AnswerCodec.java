@@ -0,0 +1,296 @@
+package com.growcorehub.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary form of submitted answers, the JSON object keyed by
+ * {@code question_<index>}. Layout: a version byte, the row's distinct strings
+ * (varint length + UTF-8, each stored once), then one entry per answer: a
+ * varint of {@code index << 3 | tag} followed by the value.
+ * <ul>
+ * <li>text: varint string id</li>
+ * <li>choices: a bitset over string ids, for arrays of distinct strings whose
+ * ids ascend (the common multi-select answer)</li>
+ * <li>text list: varint count + string ids, for other arrays of strings</li>
+ * <li>integer: zigzag varint; decimal: zigzag scale + unscaled bytes</li>
+ * <li>anything else, and keys not of the form {@code question_<index>}: the
+ * value's JSON text as a string</li>
+ * </ul>
+ * Decoding gives back the same object, field order included.
+ */
+public final class AnswerCodec {
+
+	private static final byte FORMAT_VERSION = 1;
+	private static final String QUESTION_PREFIX = "question_";
+	private static final int MAX_INDEX_DIGITS = 9;
+
+	private static final int TAG_BITS = 3;
+	private static final int TAG_TEXT = 0;
+	private static final int TAG_CHOICES = 1;
+	private static final int TAG_TEXT_LIST = 2;
+	private static final int TAG_INTEGER = 3;
+	private static final int TAG_DECIMAL = 4;
+	private static final int TAG_JSON = 5;
+	// The header carries the key's string id instead of a question index
+	private static final int TAG_KEYED_JSON = 6;
+
+	private static final ObjectMapper JSON = new ObjectMapper();
+	private static final JsonNodeFactory NODES = JsonNodeFactory.withExactBigDecimals(true);
+
+	private AnswerCodec() {
+	}
+
+	/**
+	 * Encoded answers; null when {@code answers} is not a JSON object
+	 */
+	public static byte[] encode(JsonNode answers) {
+		if (answers == null || !answers.isObject()) {
+			return null;
+		}
+		Map<String, Integer> strings = new LinkedHashMap<>();
+		ByteArrayOutputStream entries = new ByteArrayOutputStream(64);
+
+		Iterator<Map.Entry<String, JsonNode>> fields = answers.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			int index = questionIndex(field.getKey());
+			JsonNode value = field.getValue();
+			if (index < 0) {
+				writeVarLong(entries, (long) id(strings, field.getKey()) << TAG_BITS | TAG_KEYED_JSON);
+				writeVarLong(entries, id(strings, value.toString()));
+			} else {
+				writeValue(entries, strings, (long) index << TAG_BITS, value);
+			}
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream(entries.size() + 16 * strings.size() + 4);
+		out.write(FORMAT_VERSION);
+		writeVarLong(out, strings.size());
+		for (String string : strings.keySet()) {
+			byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(out, utf8.length);
+			out.writeBytes(utf8);
+		}
+		writeVarLong(out, answers.size());
+		out.writeBytes(entries.toByteArray());
+		return out.toByteArray();
+	}
+
+	public static ObjectNode decode(byte[] bytes) {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(bytes);
+			if (buffer.get() != FORMAT_VERSION) {
+				throw new IllegalArgumentException("Unknown answer format");
+			}
+			String[] strings = new String[length(buffer)];
+			for (int i = 0; i < strings.length; i++) {
+				byte[] utf8 = new byte[length(buffer)];
+				buffer.get(utf8);
+				strings[i] = new String(utf8, StandardCharsets.UTF_8);
+			}
+
+			ObjectNode answers = NODES.objectNode();
+			int count = length(buffer);
+			for (int i = 0; i < count; i++) {
+				long header = readVarLong(buffer);
+				int tag = (int) (header & ((1 << TAG_BITS) - 1));
+				long key = header >>> TAG_BITS;
+				if (tag == TAG_KEYED_JSON) {
+					answers.set(string(strings, key), parse(string(strings, readVarLong(buffer))));
+				} else {
+					answers.set(QUESTION_PREFIX + key, readValue(buffer, strings, tag));
+				}
+			}
+			if (buffer.hasRemaining()) {
+				throw new IllegalArgumentException("Trailing bytes after answers");
+			}
+			return answers;
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+			throw new IllegalArgumentException("Malformed answers", e);
+		}
+	}
+
+	private static void writeValue(ByteArrayOutputStream out, Map<String, Integer> strings, long header,
+			JsonNode value) {
+		if (value.isTextual()) {
+			writeVarLong(out, header | TAG_TEXT);
+			writeVarLong(out, id(strings, value.textValue()));
+		} else if (value.isArray() && allTextual(value)) {
+			int[] ids = new int[value.size()];
+			boolean ascending = ids.length > 0;
+			for (int i = 0; i < ids.length; i++) {
+				ids[i] = id(strings, value.get(i).textValue());
+				ascending &= i == 0 || ids[i] > ids[i - 1];
+			}
+			if (ascending) {
+				writeVarLong(out, header | TAG_CHOICES);
+				byte[] bits = new byte[ids[ids.length - 1] / 8 + 1];
+				for (int id : ids) {
+					bits[id >>> 3] |= (byte) (1 << (id & 7));
+				}
+				writeVarLong(out, bits.length);
+				out.writeBytes(bits);
+			} else {
+				writeVarLong(out, header | TAG_TEXT_LIST);
+				writeVarLong(out, ids.length);
+				for (int id : ids) {
+					writeVarLong(out, id);
+				}
+			}
+		} else if (value.isIntegralNumber() && value.canConvertToLong()) {
+			writeVarLong(out, header | TAG_INTEGER);
+			writeVarLong(out, zigzag(value.longValue()));
+		} else if (value.isNumber()) {
+			BigDecimal decimal = value.decimalValue();
+			byte[] unscaled = decimal.unscaledValue().toByteArray();
+			writeVarLong(out, header | TAG_DECIMAL);
+			writeVarLong(out, zigzag(decimal.scale()));
+			writeVarLong(out, unscaled.length);
+			out.writeBytes(unscaled);
+		} else {
+			writeVarLong(out, header | TAG_JSON);
+			writeVarLong(out, id(strings, value.toString()));
+		}
+	}
+
+	private static JsonNode readValue(ByteBuffer buffer, String[] strings, int tag) {
+		return switch (tag) {
+		case TAG_TEXT -> NODES.textNode(string(strings, readVarLong(buffer)));
+		case TAG_CHOICES -> readChoices(buffer, strings);
+		case TAG_TEXT_LIST -> {
+			ArrayNode list = NODES.arrayNode();
+			int count = length(buffer);
+			for (int i = 0; i < count; i++) {
+				list.add(string(strings, readVarLong(buffer)));
+			}
+			yield list;
+		}
+		case TAG_INTEGER -> NODES.numberNode(unzigzag(readVarLong(buffer)));
+		case TAG_DECIMAL -> {
+			int scale = (int) unzigzag(readVarLong(buffer));
+			byte[] unscaled = new byte[length(buffer)];
+			buffer.get(unscaled);
+			yield NODES.numberNode(new BigDecimal(new BigInteger(unscaled), scale));
+		}
+		case TAG_JSON -> parse(string(strings, readVarLong(buffer)));
+		default -> throw new IllegalArgumentException("Unknown answer tag: " + tag);
+		};
+	}
+
+	private static ArrayNode readChoices(ByteBuffer buffer, String[] strings) {
+		ArrayNode choices = NODES.arrayNode();
+		int length = length(buffer);
+		for (int i = 0; i < length; i++) {
+			int bits = buffer.get() & 0xFF;
+			while (bits != 0) {
+				choices.add(string(strings, i * 8L + Integer.numberOfTrailingZeros(bits)));
+				bits &= bits - 1;
+			}
+		}
+		return choices;
+	}
+
+	/**
+	 * Index of a {@code question_<index>} key written the way clients write it;
+	 * -1 for any other key, so it round-trips verbatim
+	 */
+	private static int questionIndex(String key) {
+		int digits = key.length() - QUESTION_PREFIX.length();
+		if (digits < 1 || digits > MAX_INDEX_DIGITS || !key.startsWith(QUESTION_PREFIX)) {
+			return -1;
+		}
+		if (digits > 1 && key.charAt(QUESTION_PREFIX.length()) == '0') {
+			return -1;
+		}
+		int index = 0;
+		for (int i = QUESTION_PREFIX.length(); i < key.length(); i++) {
+			char c = key.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			index = index * 10 + (c - '0');
+		}
+		return index;
+	}
+
+	private static boolean allTextual(JsonNode array) {
+		for (JsonNode element : array) {
+			if (!element.isTextual()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int id(Map<String, Integer> strings, String value) {
+		Integer id = strings.putIfAbsent(value, strings.size());
+		return id != null ? id : strings.size() - 1;
+	}
+
+	private static String string(String[] strings, long id) {
+		if (id < 0 || id >= strings.length) {
+			throw new IllegalArgumentException("Answer string id out of range: " + id);
+		}
+		return strings[(int) id];
+	}
+
+	private static JsonNode parse(String json) {
+		try {
+			return JSON.readTree(json);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("Malformed answer value", e);
+		}
+	}
+
+	// Every counted item takes at least a byte, so a count beyond what is left is corrupt
+	private static int length(ByteBuffer buffer) {
+		long length = readVarLong(buffer);
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Malformed answers");
+		}
+		return (int) length;
+	}
+
+	private static long zigzag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unzigzag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed answers");
+	}
+}
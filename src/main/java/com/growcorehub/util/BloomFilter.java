@@ -0,0 +1,74 @@
+package com.growcorehub.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free Bloom filter over string keys. False positives are possible, false
+ * negatives are not, so a positive answer must be confirmed elsewhere.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		int n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		m = Math.max(64, m);
+
+		this.bits = new AtomicLongArray((int) ((m + 63) >>> 6));
+		this.bitCount = (long) bits.length() << 6;
+		this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+	}
+
+	public void put(String key) {
+		long hash = hash64(key);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+
+			long current;
+			do {
+				current = bits.get(index);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(index, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long hash = hash64(key);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+
+		for (int i = 1; i <= hashCount; i++) {
+			long bit = ((h1 + (long) i * h2) & Long.MAX_VALUE) % bitCount;
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// FNV-1a over the UTF-8 bytes followed by a murmur3 finalizer
+	private static long hash64(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			hash ^= b & 0xff;
+			hash *= 0x100000001b3L;
+		}
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb3fe1a85ec53L;
+		hash ^= hash >>> 33;
+		return hash;
+	}
+}
@@ -0,0 +1,194 @@
+package com.growcorehub.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Tracks deadlines for many keys with one thread. Keys hash into a ring of
+ * buckets by deadline tick; each tick the worker visits one bucket and hands
+ * every key that is due to {@code onExpired} as a single batch. Scheduling and
+ * cancelling are O(1) and never block, so a burst of thousands of deadlines
+ * costs a few list appends, not threads or timers.
+ * <p>
+ * Deadlines fire up to one tick late, never early. {@code onExpired} runs on
+ * the worker thread and should hand off anything slow.
+ */
+@Slf4j
+public class HashedTimerWheel<K> implements AutoCloseable {
+
+	private final String name;
+	private final long tickNanos;
+	private final List<Entry<K>>[] buckets;
+	private final int mask;
+	private final Consumer<List<K>> onExpired;
+
+	private final Map<K, Entry<K>> entries = new ConcurrentHashMap<>();
+	private final Queue<Entry<K>> pending = new ConcurrentLinkedQueue<>();
+
+	private volatile Thread worker;
+	private volatile boolean running;
+
+	// Wall clock and monotonic clock at the same moment; deadlines are wall clock
+	private long startMillis;
+	private long startNanos;
+	private long tick;
+
+	@SuppressWarnings("unchecked")
+	public HashedTimerWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<K>> onExpired) {
+		if (tickDuration.toMillis() < 1 || wheelSize < 1) {
+			throw new IllegalArgumentException("Tick must be at least 1ms and the wheel non-empty");
+		}
+		int size = Integer.highestOneBit(wheelSize - 1) << 1;
+		this.name = name;
+		this.tickNanos = tickDuration.toNanos();
+		this.buckets = new List[Math.max(1, size)];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new ArrayList<>();
+		}
+		this.mask = buckets.length - 1;
+		this.onExpired = onExpired;
+	}
+
+	public synchronized void start() {
+		if (worker != null) {
+			return;
+		}
+		startMillis = System.currentTimeMillis();
+		startNanos = System.nanoTime();
+		running = true;
+		worker = new Thread(this::run, name);
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Schedules {@code key} to expire at {@code deadline}, replacing any earlier
+	 * deadline for the same key. Past deadlines expire on the next tick.
+	 */
+	public void schedule(K key, Instant deadline) {
+		Entry<K> entry = new Entry<>(key, deadline.toEpochMilli());
+		Entry<K> previous = entries.put(key, entry);
+		if (previous != null) {
+			previous.cancelled = true;
+		}
+		pending.add(entry);
+	}
+
+	/**
+	 * Returns true if the key was scheduled and had not yet expired
+	 */
+	public boolean cancel(K key) {
+		Entry<K> entry = entries.remove(key);
+		if (entry == null) {
+			return false;
+		}
+		entry.cancelled = true;
+		return true;
+	}
+
+	/**
+	 * Keys currently scheduled
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public void close() {
+		running = false;
+		Thread thread = worker;
+		if (thread != null) {
+			thread.interrupt();
+		}
+	}
+
+	private void run() {
+		while (running) {
+			long nextTick = startNanos + (tick + 1) * tickNanos;
+			long sleepNanos = nextTick - System.nanoTime();
+			if (sleepNanos > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleepNanos);
+				} catch (InterruptedException e) {
+					if (!running) {
+						return;
+					}
+					continue;
+				}
+			}
+
+			transferPending();
+			List<K> expired = expireBucket(buckets[(int) (tick & mask)]);
+			tick++;
+
+			if (!expired.isEmpty()) {
+				try {
+					onExpired.accept(expired);
+				} catch (RuntimeException e) {
+					log.error("Timer wheel {} failed to handle {} expired keys", name, expired.size(), e);
+				}
+			}
+		}
+	}
+
+	private void transferPending() {
+		Entry<K> entry;
+		while ((entry = pending.poll()) != null) {
+			if (entry.cancelled) {
+				continue;
+			}
+			// Tick t is processed once (t + 1) ticks have elapsed, so this never fires early
+			long deadlineTick = Math.max(tick,
+					ceilDiv((entry.deadlineMillis - startMillis) * 1_000_000L, tickNanos) - 1);
+			entry.remainingRounds = (deadlineTick - tick) / buckets.length;
+			buckets[(int) (deadlineTick & mask)].add(entry);
+		}
+	}
+
+	private List<K> expireBucket(List<Entry<K>> bucket) {
+		List<K> expired = new ArrayList<>();
+		Iterator<Entry<K>> iterator = bucket.iterator();
+		while (iterator.hasNext()) {
+			Entry<K> entry = iterator.next();
+			if (entry.cancelled) {
+				iterator.remove();
+			} else if (entry.remainingRounds <= 0) {
+				iterator.remove();
+				if (entries.remove(entry.key, entry)) {
+					expired.add(entry.key);
+				}
+			} else {
+				entry.remainingRounds--;
+			}
+		}
+		return expired;
+	}
+
+	private static long ceilDiv(long x, long y) {
+		return -Math.floorDiv(-x, y);
+	}
+
+	private static final class Entry<K> {
+		private final K key;
+		private final long deadlineMillis;
+		private volatile boolean cancelled;
+		// Only touched by the worker thread
+		private long remainingRounds;
+
+		private Entry(K key, long deadlineMillis) {
+			this.key = key;
+			this.deadlineMillis = deadlineMillis;
+		}
+	}
+}
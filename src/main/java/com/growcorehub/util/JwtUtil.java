@@ -1,59 +1,159 @@
 package com.growcorehub.util;
 
+import com.growcorehub.entity.User;
+import com.growcorehub.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @Component
 @Slf4j
 public class JwtUtil {
 
+	// Token type claim - access, refresh and reset tokens must never be
+	// interchangeable
+	public static final String CLAIM_TYPE = "typ";
+	public static final String CLAIM_SESSION = "sid";
+	public static final String CLAIM_USER_ID = "uid";
+	public static final String CLAIM_ROLES = "roles";
+	public static final String CLAIM_VERSION = "ver";
+	public static final String CLAIM_PASSWORD = "pwd";
+
+	public static final String TYPE_ACCESS = "access";
+	public static final String TYPE_REFRESH = "refresh";
+	public static final String TYPE_RESET = "reset";
+
 	@Value("${jwt.secret}")
 	private String jwtSecret;
 
 	@Value("${jwt.expiration}")
 	private long jwtExpirationMs;
 
+	@Value("${jwt.refresh-expiration:1209600000}")
+	private long refreshExpirationMs;
+
+	@Value("${jwt.reset-expiration:1800000}")
+	private long resetExpirationMs;
+
+	private volatile SecretKey signingKey;
+
+	// Building a parser also builds its JSON deserializer, so build it once
+	private volatile JwtParser jwtParser;
+
 	private SecretKey key() {
-		return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+		SecretKey key = signingKey;
+		if (key == null) {
+			key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+			signingKey = key;
+		}
+		return key;
 	}
 
-	public String generateJwtToken(Authentication authentication) {
-		UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-		return generateTokenFromEmail(userPrincipal.getUsername());
+	private JwtParser parser() {
+		JwtParser parser = jwtParser;
+		if (parser == null) {
+			parser = Jwts.parserBuilder().setSigningKey(key()).build();
+			jwtParser = parser;
+		}
+		return parser;
 	}
 
-	public String generateTokenFromEmail(String email) {
+	/**
+	 * Short-lived access token bound to a refresh session. Carries everything
+	 * needed to rebuild the principal without a database lookup.
+	 */
+	public String generateAccessToken(User user, String sessionId) {
+		UserRole role = user.getRole() != null ? user.getRole() : UserRole.USER;
+
 		Map<String, Object> claims = new HashMap<>();
-		return createToken(claims, email);
+		claims.put(CLAIM_TYPE, TYPE_ACCESS);
+		claims.put(CLAIM_SESSION, sessionId);
+		claims.put(CLAIM_USER_ID, user.getId());
+		claims.put(CLAIM_ROLES, List.of("ROLE_" + role.name()));
+		claims.put(CLAIM_VERSION, user.getTokenVersion() != null ? user.getTokenVersion() : 0);
+		return createToken(claims, user.getEmail(), UUID.randomUUID().toString(), jwtExpirationMs);
 	}
 
-	private String createToken(Map<String, Object> claims, String subject) {
+	/**
+	 * Long-lived refresh token; the token id is persisted so it can be rotated
+	 */
+	public String generateRefreshToken(String email, String tokenId, String sessionId) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put(CLAIM_TYPE, TYPE_REFRESH);
+		claims.put(CLAIM_SESSION, sessionId);
+		return createToken(claims, email, tokenId, refreshExpirationMs);
+	}
+
+	/**
+	 * Password reset token, only accepted by the reset flow. Bound to the
+	 * user's current password hash, so it stops working once the password
+	 * changes, including through the reset it was issued for.
+	 */
+	public String generatePasswordResetToken(User user) {
+		Map<String, Object> claims = new HashMap<>();
+		claims.put(CLAIM_TYPE, TYPE_RESET);
+		claims.put(CLAIM_PASSWORD, passwordFingerprint(user.getPassword()));
+		return createToken(claims, user.getEmail(), UUID.randomUUID().toString(), resetExpirationMs);
+	}
+
+	/**
+	 * Keyed digest of a password hash; the token payload is readable, so it
+	 * never carries the hash itself
+	 */
+	public String passwordFingerprint(String passwordHash) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(key());
+			byte[] digest = mac.doFinal(String.valueOf(passwordHash).getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256 unavailable", e);
+		}
+	}
+
+	private String createToken(Map<String, Object> claims, String subject, String tokenId, long expirationMs) {
 		Date now = new Date();
-		Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+		Date expiryDate = new Date(now.getTime() + expirationMs);
 
-		return Jwts.builder().setClaims(claims).setSubject(subject).setIssuedAt(now).setExpiration(expiryDate)
-				.signWith(key(), SignatureAlgorithm.HS256).compact();
+		return Jwts.builder().setClaims(claims).setSubject(subject).setId(tokenId).setIssuedAt(now)
+				.setExpiration(expiryDate).signWith(key(), SignatureAlgorithm.HS256).compact();
+	}
+
+	/**
+	 * Parses and verifies a token, rejecting it if it is not of the expected type
+	 */
+	public Claims parseToken(String token, String expectedType) {
+		Claims claims = parser().parseClaimsJws(token).getBody();
+
+		if (!expectedType.equals(claims.get(CLAIM_TYPE, String.class))) {
+			throw new UnsupportedJwtException("Expected " + expectedType + " token");
+		}
+		return claims;
 	}
 
 	public String getEmailFromJwtToken(String token) {
-		Claims claims = Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token).getBody();
+		Claims claims = parser().parseClaimsJws(token).getBody();
 
 		return claims.getSubject();
 	}
 
 	public Date getExpirationDateFromToken(String token) {
-		Claims claims = Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(token).getBody();
+		Claims claims = parser().parseClaimsJws(token).getBody();
 
 		return claims.getExpiration();
 	}
@@ -69,7 +169,7 @@ public class JwtUtil {
 
 	public boolean validateJwtToken(String authToken) {
 		try {
-			Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(authToken);
+			parser().parseClaimsJws(authToken);
 			return true;
 		} catch (MalformedJwtException e) {
 			log.error("Invalid JWT token: {}", e.getMessage());
@@ -88,4 +188,12 @@ public class JwtUtil {
 	public long getExpirationTime() {
 		return jwtExpirationMs;
 	}
-}
\ No newline at end of file
+
+	public long getRefreshExpirationTime() {
+		return refreshExpirationMs;
+	}
+
+	public long getResetExpirationTime() {
+		return resetExpirationMs;
+	}
+}
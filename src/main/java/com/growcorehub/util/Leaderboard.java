@@ -0,0 +1,190 @@
+package com.growcorehub.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Best score per user, ordered by score (highest first), then by who reached
+ * it first. Entries live in a concurrent skip list, so top-N reads walk it
+ * without locking. Ranks come from a Fenwick tree of counts per score
+ * (0-100 at 0.01 resolution): users with a higher score are counted in
+ * O(log 10001), and only users tied on the exact score are walked.
+ * <p>
+ * Thread-safe. Updates hold a write lock; rank queries a read lock, so they
+ * see the tree and the list in step.
+ */
+public class Leaderboard {
+
+	private static final int BUCKETS = 10001;
+
+	private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::score).reversed()
+			.thenComparingLong(Entry::earnedAt).thenComparingLong(Entry::userId);
+
+	private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(ORDER);
+	private final Map<Long, Entry> byUser = new ConcurrentHashMap<>();
+	// Fenwick tree over buckets indexed from the top score down, so a prefix sum counts higher scores
+	private final long[] tree = new long[BUCKETS + 1];
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * A user's score in hundredths of a point, with when it was earned (epoch
+	 * milliseconds)
+	 */
+	public record Entry(long userId, int score, long earnedAt) {
+
+		public BigDecimal scoreValue() {
+			return BigDecimal.valueOf(score, 2);
+		}
+	}
+
+	/**
+	 * Collects best scores for a cold start, then builds the board in one pass:
+	 * entries are inserted in sorted order, which walks far fewer skip list
+	 * nodes than random inserts, and the tree is built in linear time. Not
+	 * thread-safe.
+	 */
+	public static final class Builder {
+
+		private final Map<Long, Entry> best = new HashMap<>();
+
+		public void offer(long userId, BigDecimal score, long earnedAt) {
+			Entry candidate = new Entry(userId, toHundredths(score), earnedAt);
+			best.merge(userId, candidate, (current, offered) -> ORDER.compare(offered, current) < 0 ? offered : current);
+		}
+
+		public Leaderboard build() {
+			Entry[] sorted = best.values().toArray(new Entry[0]);
+			Arrays.sort(sorted, ORDER);
+
+			Leaderboard board = new Leaderboard();
+			for (Entry entry : sorted) {
+				board.entries.add(entry);
+				board.tree[BUCKETS - entry.score()]++;
+			}
+			board.byUser.putAll(best);
+			for (int i = 1; i <= BUCKETS; i++) {
+				int parent = i + (i & -i);
+				if (parent <= BUCKETS) {
+					board.tree[parent] += board.tree[i];
+				}
+			}
+			return board;
+		}
+	}
+
+	public static int toHundredths(BigDecimal score) {
+		int hundredths = score.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValue();
+		return Math.max(0, Math.min(BUCKETS - 1, hundredths));
+	}
+
+	/**
+	 * Keeps the score if it beats the user's current one (a tie keeps the
+	 * earlier). Returns whether the board changed.
+	 */
+	public boolean offer(long userId, BigDecimal score, long earnedAt) {
+		Entry candidate = new Entry(userId, toHundredths(score), earnedAt);
+		lock.writeLock().lock();
+		try {
+			Entry current = byUser.get(userId);
+			if (current != null) {
+				if (ORDER.compare(candidate, current) >= 0) {
+					return false;
+				}
+				entries.remove(current);
+				add(current.score(), -1);
+			}
+			entries.add(candidate);
+			byUser.put(userId, candidate);
+			add(candidate.score(), 1);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public boolean remove(long userId) {
+		lock.writeLock().lock();
+		try {
+			Entry current = byUser.remove(userId);
+			if (current == null) {
+				return false;
+			}
+			entries.remove(current);
+			add(current.score(), -1);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public Entry get(long userId) {
+		return byUser.get(userId);
+	}
+
+	/**
+	 * 1-based position of the user, or empty when not on the board
+	 */
+	public OptionalLong rankOf(long userId) {
+		lock.readLock().lock();
+		try {
+			Entry entry = byUser.get(userId);
+			if (entry == null) {
+				return OptionalLong.empty();
+			}
+			long higher = prefixSum(BUCKETS - 1 - entry.score());
+			// Ties on the exact score are ordered by the list
+			Entry firstTied = new Entry(Long.MIN_VALUE, entry.score(), Long.MIN_VALUE);
+			long tiedAhead = entries.subSet(firstTied, true, entry, false).size();
+			return OptionalLong.of(higher + tiedAhead + 1);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Up to {@code limit} entries starting at the 0-based {@code offset}
+	 */
+	public List<Entry> top(int offset, int limit) {
+		List<Entry> page = new ArrayList<>(Math.min(limit, 100));
+		Iterator<Entry> iterator = entries.iterator();
+		for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+			iterator.next();
+		}
+		while (page.size() < limit && iterator.hasNext()) {
+			page.add(iterator.next());
+		}
+		return page;
+	}
+
+	public int size() {
+		return byUser.size();
+	}
+
+	private void add(int score, long delta) {
+		for (int i = BUCKETS - score; i <= BUCKETS; i += i & -i) {
+			tree[i] += delta;
+		}
+	}
+
+	// Entries in the first `count` buckets from the top, i.e. with a score above BUCKETS - 1 - count
+	private long prefixSum(int count) {
+		long sum = 0;
+		for (int i = count; i > 0; i -= i & -i) {
+			sum += tree[i];
+		}
+		return sum;
+	}
+}
@@ -0,0 +1,51 @@
+package com.growcorehub.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Rate limits log statements per key so error storms do not turn into logging
+ * storms. Within each window the first {@code limit} events are logged and the
+ * rest are counted; the count is reported with the next logged event.
+ */
+public class LogSampler {
+
+	public static final int SUPPRESSED = -1;
+
+	private final int limit;
+	private final long windowMs;
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+	public LogSampler(int limit, long windowMs) {
+		this.limit = limit;
+		this.windowMs = windowMs;
+	}
+
+	/**
+	 * Returns {@link #SUPPRESSED} if the event should not be logged, otherwise
+	 * the number of events suppressed since the last logged one
+	 */
+	public int acquire(String key) {
+		Window window = windows.computeIfAbsent(key, k -> new Window());
+		long now = System.currentTimeMillis();
+		long start = window.start.get();
+
+		if (now - start >= windowMs && window.start.compareAndSet(start, now)) {
+			window.logged.set(0);
+		}
+
+		if (window.logged.incrementAndGet() <= limit) {
+			return window.suppressed.getAndSet(0);
+		}
+		window.suppressed.incrementAndGet();
+		return SUPPRESSED;
+	}
+
+	private static final class Window {
+		private final AtomicLong start = new AtomicLong();
+		private final AtomicInteger logged = new AtomicInteger();
+		private final AtomicInteger suppressed = new AtomicInteger();
+	}
+}
@@ -0,0 +1,71 @@
+package com.growcorehub.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded map that evicts the least recently used entry, with an optional
+ * time to live. Synchronized: meant for small values where a lookup is far
+ * cheaper than the load it saves.
+ */
+public class LruCache<K, V> {
+
+	private final long ttlMillis;
+	private final Map<K, Entry<V>> entries;
+
+	public LruCache(int maxEntries, long ttlMillis) {
+		this.ttlMillis = ttlMillis;
+		this.entries = new LinkedHashMap<>(Math.min(maxEntries, 1024), 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	/**
+	 * The cached value, or null when absent or expired
+	 */
+	public synchronized V get(K key) {
+		Entry<V> entry = entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (ttlMillis > 0 && System.currentTimeMillis() - entry.storedAt > ttlMillis) {
+			entries.remove(key);
+			return null;
+		}
+		return entry.value;
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, new Entry<>(value, System.currentTimeMillis()));
+	}
+
+	/**
+	 * Returns the cached value or loads it outside the lock; concurrent misses
+	 * may load the same key twice
+	 */
+	public V computeIfAbsent(K key, Function<K, V> loader) {
+		V value = get(key);
+		if (value == null) {
+			value = loader.apply(key);
+			if (value != null) {
+				put(key, value);
+			}
+		}
+		return value;
+	}
+
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	private record Entry<V>(V value, long storedAt) {
+	}
+}
@@ -0,0 +1,211 @@
+package com.growcorehub.util;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-bucket histogram of percentage scores (0-100) at 0.1 resolution: 1001
+ * counters, so merging two histograms is exact and percentile queries are
+ * bounded by the bucket count, never by the number of scores.
+ * <p>
+ * Not thread-safe. Mutations clear the cumulative counts, which are rebuilt
+ * once on the next query, so a histogram that is no longer modified answers
+ * rank queries in O(1).
+ */
+public class ScoreHistogram {
+
+	public static final int BUCKETS = 1001;
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private final long[] counts = new long[BUCKETS];
+	private long total;
+	private long[] cumulative;
+
+	public void record(BigDecimal score) {
+		add(bucketOf(score), 1);
+	}
+
+	public void record(BigDecimal score, long count) {
+		add(bucketOf(score), count);
+	}
+
+	public void merge(ScoreHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			if (other.counts[i] != 0) {
+				add(i, other.counts[i]);
+			}
+		}
+	}
+
+	/**
+	 * Removes another histogram's scores, never taking a bucket below zero
+	 */
+	public void subtract(ScoreHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			if (other.counts[i] != 0) {
+				add(i, -Math.min(counts[i], other.counts[i]));
+			}
+		}
+	}
+
+	public ScoreHistogram copy() {
+		ScoreHistogram copy = new ScoreHistogram();
+		copy.merge(this);
+		return copy;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	/**
+	 * Share of scores below {@code score}, counting ties as half, as a
+	 * percentage (0-100); null when empty
+	 */
+	public BigDecimal percentileRank(BigDecimal score) {
+		if (total == 0) {
+			return null;
+		}
+		int bucket = bucketOf(score);
+		long[] cumulativeCounts = cumulative();
+		long below = bucket == 0 ? 0 : cumulativeCounts[bucket - 1];
+		long halfTiesTimesTwo = 2 * below + counts[bucket];
+		return BigDecimal.valueOf(halfTiesTimesTwo * 100).divide(BigDecimal.valueOf(2 * total), 2,
+				RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Share of scores at or above {@code score} as a percentage; null when empty
+	 */
+	public BigDecimal shareAtOrAbove(BigDecimal score) {
+		if (total == 0) {
+			return null;
+		}
+		int bucket = bucketOf(score);
+		long below = bucket == 0 ? 0 : cumulative()[bucket - 1];
+		return BigDecimal.valueOf((total - below) * 100).divide(BigDecimal.valueOf(total), 2, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Lowest score with at least {@code quantile} of all scores at or below it;
+	 * null when empty
+	 */
+	public BigDecimal quantile(double quantile) {
+		if (total == 0) {
+			return null;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * total));
+		long[] cumulativeCounts = cumulative();
+
+		// Cumulative counts are sorted, so binary search for the first bucket reaching the rank
+		int low = 0;
+		int high = BUCKETS - 1;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (cumulativeCounts[mid] >= rank) {
+				high = mid;
+			} else {
+				low = mid + 1;
+			}
+		}
+		return scoreOf(low);
+	}
+
+	public BigDecimal mean() {
+		if (total == 0) {
+			return null;
+		}
+		long sum = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			sum += counts[i] * i;
+		}
+		return BigDecimal.valueOf(sum).divide(BigDecimal.valueOf(total * 10), 2, RoundingMode.HALF_UP);
+	}
+
+	/**
+	 * Compact form for storage: the non-empty buckets only
+	 */
+	public byte[] toBytes() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+		out.write(FORMAT_VERSION);
+		for (int i = 0; i < BUCKETS; i++) {
+			if (counts[i] != 0) {
+				writeVarLong(out, i);
+				writeVarLong(out, counts[i]);
+			}
+		}
+		return out.toByteArray();
+	}
+
+	public static ScoreHistogram fromBytes(byte[] bytes) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		if (bytes == null || bytes.length == 0) {
+			return histogram;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (buffer.get() != FORMAT_VERSION) {
+			throw new IllegalArgumentException("Unknown score histogram format");
+		}
+		while (buffer.hasRemaining()) {
+			int bucket = (int) readVarLong(buffer);
+			long count = readVarLong(buffer);
+			if (bucket < 0 || bucket >= BUCKETS) {
+				throw new IllegalArgumentException("Score histogram bucket out of range: " + bucket);
+			}
+			histogram.add(bucket, count);
+		}
+		return histogram;
+	}
+
+	private void add(int bucket, long count) {
+		counts[bucket] += count;
+		total += count;
+		cumulative = null;
+	}
+
+	private long[] cumulative() {
+		if (cumulative == null) {
+			long[] sums = new long[BUCKETS];
+			long running = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				running += counts[i];
+				sums[i] = running;
+			}
+			cumulative = sums;
+		}
+		return cumulative;
+	}
+
+	// Truncates, so a score just below a threshold never lands in the threshold's bucket
+	private static int bucketOf(BigDecimal score) {
+		int bucket = score.movePointRight(1).setScale(0, RoundingMode.FLOOR).intValue();
+		return Math.max(0, Math.min(BUCKETS - 1, bucket));
+	}
+
+	private static BigDecimal scoreOf(int bucket) {
+		return BigDecimal.valueOf(bucket, 1);
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Malformed score histogram");
+	}
+}
@@ -2,72 +2,163 @@ package com.growcorehub.util;
 
 import org.springframework.stereotype.Component;
 
-import java.util.regex.Pattern;
-
+/**
+ * Input validators and normalizers. Each check is a single pass over the input
+ * with no regex compilation or backtracking; the behaviour matches the patterns
+ * documented on each method.
+ */
 @Component
 public class ValidationUtil {
 
-	// Email validation pattern
-	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
-
-	// Phone validation pattern (supports international formats)
-	private static final Pattern PHONE_PATTERN = Pattern.compile("^[+]?[1-9]\\d{1,14}$");
-
-	// Indian Aadhaar number pattern (with spaces)
-	private static final Pattern AADHAAR_PATTERN = Pattern.compile("^[2-9]{1}[0-9]{3}\\s[0-9]{4}\\s[0-9]{4}$");
-
-	// Indian Aadhaar number pattern (without spaces)
-	private static final Pattern AADHAAR_PATTERN_NO_SPACE = Pattern.compile("^[2-9]{1}[0-9]{11}$");
-
-	// Password strength pattern (min 8 chars, at least 1 uppercase, 1 lowercase, 1
-	// number)
-	private static final Pattern PASSWORD_PATTERN = Pattern
-			.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)[a-zA-Z\\d@$!%*?&]{8,}$");
-
-	// Name validation pattern (only letters, spaces, and common name characters)
-	private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s'-]{2,50}$");
+	private static final int MAX_EMAIL_LENGTH = 255;
+	private static final int MAX_PASSWORD_LENGTH = 100;
+	private static final int MAX_SKILLS_LENGTH = 1000;
 
 	/**
 	 * Validates email format
+	 * <p>
+	 * {@code ^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\.[A-Za-z]{2,})$} on the trimmed value
 	 */
 	public boolean isValidEmail(String email) {
-		return email != null && email.length() <= 255 && EMAIL_PATTERN.matcher(email.trim()).matches();
+		if (email == null || email.length() > MAX_EMAIL_LENGTH)
+			return false;
+
+		String value = email.trim();
+		int length = value.length();
+		int at = -1;
+
+		// Local part
+		for (int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '@') {
+				at = i;
+				break;
+			}
+			if (!isAsciiLetterOrDigit(c) && c != '+' && c != '_' && c != '.' && c != '-')
+				return false;
+		}
+		if (at < 1)
+			return false;
+
+		// Domain: label characters, with a final dot followed by 2+ letters
+		int lastDot = -1;
+		for (int i = at + 1; i < length; i++) {
+			char c = value.charAt(i);
+			if (c == '.') {
+				lastDot = i;
+			} else if (!isAsciiLetterOrDigit(c) && c != '-') {
+				return false;
+			}
+		}
+		if (lastDot <= at + 1 || length - lastDot - 1 < 2)
+			return false;
+
+		for (int i = lastDot + 1; i < length; i++) {
+			if (!isAsciiLetter(value.charAt(i)))
+				return false;
+		}
+		return true;
 	}
 
 	/**
 	 * Validates phone number format
+	 * <p>
+	 * Ignoring whitespace, parentheses and dashes: {@code ^[+]?[1-9]\d{1,14}$}
 	 */
 	public boolean isValidPhone(String phone) {
 		if (phone == null)
 			return false;
 
-		String cleanPhone = phone.replaceAll("[\\s()-]", "");
-		return PHONE_PATTERN.matcher(cleanPhone).matches();
+		int digits = 0;
+		boolean plusAllowed = true;
+
+		for (int i = 0; i < phone.length(); i++) {
+			char c = phone.charAt(i);
+			if (isPhoneFormatting(c))
+				continue;
+
+			if (c == '+' && plusAllowed) {
+				plusAllowed = false;
+				continue;
+			}
+			plusAllowed = false;
+
+			if (!isAsciiDigit(c) || (digits == 0 && c == '0'))
+				return false;
+			if (++digits > 15)
+				return false;
+		}
+		return digits >= 2;
 	}
 
 	/**
 	 * Validates Indian Aadhaar number format
+	 * <p>
+	 * {@code ^[2-9][0-9]{3}\s[0-9]{4}\s[0-9]{4}$} or {@code ^[2-9][0-9]{11}$}
 	 */
 	public boolean isValidAadhaar(String aadhaar) {
 		if (aadhaar == null)
 			return false;
 
-		return AADHAAR_PATTERN.matcher(aadhaar).matches() || AADHAAR_PATTERN_NO_SPACE.matcher(aadhaar).matches();
+		int length = aadhaar.length();
+		if (length == 12) {
+			return isAadhaarDigits(aadhaar, 0, 12);
+		}
+		if (length == 14) {
+			return isRegexWhitespace(aadhaar.charAt(4)) && isRegexWhitespace(aadhaar.charAt(9))
+					&& isAadhaarDigits(aadhaar, 0, 4) && allDigits(aadhaar, 5, 9) && allDigits(aadhaar, 10, 14);
+		}
+		return false;
 	}
 
 	/**
 	 * Validates password strength
+	 * <p>
+	 * 8-100 characters from {@code [a-zA-Z\d@$!%*?&]} with at least one lowercase
+	 * letter, one uppercase letter and one digit
 	 */
 	public boolean isValidPassword(String password) {
-		return password != null && password.length() >= 8 && password.length() <= 100
-				&& PASSWORD_PATTERN.matcher(password).matches();
+		if (password == null || password.length() < 8 || password.length() > MAX_PASSWORD_LENGTH)
+			return false;
+
+		boolean lower = false;
+		boolean upper = false;
+		boolean digit = false;
+
+		for (int i = 0; i < password.length(); i++) {
+			char c = password.charAt(i);
+			if (c >= 'a' && c <= 'z') {
+				lower = true;
+			} else if (c >= 'A' && c <= 'Z') {
+				upper = true;
+			} else if (isAsciiDigit(c)) {
+				digit = true;
+			} else if (c != '@' && c != '$' && c != '!' && c != '%' && c != '*' && c != '?' && c != '&') {
+				return false;
+			}
+		}
+		return lower && upper && digit;
 	}
 
 	/**
 	 * Validates name format
+	 * <p>
+	 * {@code ^[a-zA-Z\s'-]{2,50}$} on the trimmed value
 	 */
 	public boolean isValidName(String name) {
-		return name != null && NAME_PATTERN.matcher(name.trim()).matches();
+		if (name == null)
+			return false;
+
+		String value = name.trim();
+		if (value.length() < 2 || value.length() > 50)
+			return false;
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (!isAsciiLetter(c) && !isRegexWhitespace(c) && c != '\'' && c != '-')
+				return false;
+		}
+		return true;
 	}
 
 	/**
@@ -76,7 +167,23 @@ public class ValidationUtil {
 	public String normalizePhone(String phone) {
 		if (phone == null)
 			return null;
-		return phone.replaceAll("[\\s()-]", "");
+
+		int length = phone.length();
+		int i = 0;
+		while (i < length && !isPhoneFormatting(phone.charAt(i))) {
+			i++;
+		}
+		if (i == length)
+			return phone;
+
+		StringBuilder sb = new StringBuilder(length);
+		sb.append(phone, 0, i);
+		for (; i < length; i++) {
+			char c = phone.charAt(i);
+			if (!isPhoneFormatting(c))
+				sb.append(c);
+		}
+		return sb.toString();
 	}
 
 	/**
@@ -86,23 +193,42 @@ public class ValidationUtil {
 		if (aadhaar == null)
 			return null;
 
-		String cleanAadhaar = aadhaar.replaceAll("\\s", "");
-		if (cleanAadhaar.length() == 12) {
-			return cleanAadhaar.substring(0, 4) + " " + cleanAadhaar.substring(4, 8) + " "
-					+ cleanAadhaar.substring(8, 12);
+		char[] digits = new char[12];
+		int count = 0;
+		for (int i = 0; i < aadhaar.length(); i++) {
+			char c = aadhaar.charAt(i);
+			if (isRegexWhitespace(c))
+				continue;
+			if (count == 12)
+				return aadhaar;
+			digits[count++] = c;
 		}
-		return aadhaar;
+		if (count != 12)
+			return aadhaar;
+
+		return new StringBuilder(14).append(digits, 0, 4).append(' ').append(digits, 4, 4).append(' ')
+				.append(digits, 8, 4).toString();
 	}
 
 	/**
 	 * Validates skill string format
+	 * <p>
+	 * Non-blank, at most 1000 characters from {@code [a-zA-Z0-9\s,.-]}
 	 */
 	public boolean isValidSkills(String skills) {
-		if (skills == null || skills.trim().isEmpty())
+		if (skills == null || skills.length() > MAX_SKILLS_LENGTH)
 			return false;
 
-		// Check if skills contain only valid characters and aren't too long
-		return skills.length() <= 1000 && skills.matches("^[a-zA-Z0-9\\s,.-]+$");
+		boolean hasContent = false;
+		for (int i = 0; i < skills.length(); i++) {
+			char c = skills.charAt(i);
+			if (isAsciiLetterOrDigit(c) || c == ',' || c == '.' || c == '-') {
+				hasContent = true;
+			} else if (!isRegexWhitespace(c)) {
+				return false;
+			}
+		}
+		return hasContent;
 	}
 
 	/**
@@ -120,20 +246,93 @@ public class ValidationUtil {
 	}
 
 	/**
-	 * Sanitizes input by trimming and removing potentially harmful characters
+	 * Sanitizes input by trimming, removing potentially harmful characters
+	 * ({@code <>"'&}) and collapsing whitespace runs to a single space
 	 */
 	public String sanitizeInput(String input) {
 		if (input == null)
 			return null;
 
-		return input.trim().replaceAll("[<>\"'&]", "") // Remove potential XSS characters
-				.replaceAll("\\s+", " "); // Normalize whitespace
+		String value = input.trim();
+		StringBuilder sb = null;
+		boolean inWhitespace = false;
+
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			boolean keep;
+			char out = c;
+
+			if (isHarmful(c)) {
+				keep = false;
+			} else if (isRegexWhitespace(c)) {
+				keep = !inWhitespace;
+				inWhitespace = true;
+				out = ' ';
+			} else {
+				keep = true;
+				inWhitespace = false;
+			}
+
+			// Only allocate once the output diverges from the input
+			if (sb == null && (!keep || out != c)) {
+				sb = new StringBuilder(value.length());
+				sb.append(value, 0, i);
+			}
+			if (sb != null && keep) {
+				sb.append(out);
+			}
+		}
+		return sb == null ? value : sb.toString();
 	}
 
 	/**
 	 * Validates if a string is not null, not empty, and within length limits
 	 */
 	public boolean isValidString(String str, int minLength, int maxLength) {
-		return str != null && str.trim().length() >= minLength && str.trim().length() <= maxLength;
+		if (str == null)
+			return false;
+
+		int length = str.trim().length();
+		return length >= minLength && length <= maxLength;
+	}
+
+	// Private helper methods
+
+	private static boolean isAadhaarDigits(String value, int from, int to) {
+		char first = value.charAt(from);
+		return first >= '2' && first <= '9' && allDigits(value, from + 1, to);
+	}
+
+	private static boolean allDigits(String value, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (!isAsciiDigit(value.charAt(i)))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isAsciiDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isAsciiLetter(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+	}
+
+	private static boolean isAsciiLetterOrDigit(char c) {
+		return isAsciiLetter(c) || isAsciiDigit(c);
+	}
+
+	// Same set as the regex \s: [ \t\n\x0B\f\r]
+	private static boolean isRegexWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isPhoneFormatting(char c) {
+		return isRegexWhitespace(c) || c == '(' || c == ')' || c == '-';
+	}
+
+	private static boolean isHarmful(char c) {
+		return c == '<' || c == '>' || c == '"' || c == '\'' || c == '&';
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,116 @@
+package com.growcorehub.util;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.OptionalLong;
+
+/**
+ * Compact signed codes for numeric ids: key id, varint id and a truncated
+ * HMAC-SHA256 tag, base64url without padding (about 20 characters). A code is
+ * checked entirely in memory, so forged codes never reach the database.
+ * <p>
+ * The key id lets a future key be introduced without codes signed by an older
+ * one verifying against it. Thread-safe.
+ */
+public class VerificationCodeSigner {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int TAG_LENGTH = 10;
+	private static final int MAX_VARINT_LENGTH = 10;
+	// Longest encoding of 1 + 10 + 10 bytes
+	private static final int MAX_CODE_LENGTH = 28;
+
+	private final byte keyId;
+	private final SecretKeySpec key;
+	private final ThreadLocal<Mac> macs;
+
+	public VerificationCodeSigner(int keyId, byte[] secret) {
+		if (keyId < 0 || keyId > 255) {
+			throw new IllegalArgumentException("Key id must be between 0 and 255");
+		}
+		this.keyId = (byte) keyId;
+		this.key = new SecretKeySpec(secret, ALGORITHM);
+		this.macs = ThreadLocal.withInitial(this::newMac);
+		newMac(); // fail fast on an unusable key
+	}
+
+	public String sign(long id) {
+		if (id < 0) {
+			throw new IllegalArgumentException("Id must not be negative");
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(1 + MAX_VARINT_LENGTH + TAG_LENGTH);
+		buffer.put(keyId);
+		long value = id;
+		while ((value & ~0x7FL) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+
+		int payloadLength = buffer.position();
+		buffer.put(tag(buffer.array(), payloadLength), 0, TAG_LENGTH);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(
+				Arrays.copyOf(buffer.array(), buffer.position()));
+	}
+
+	/**
+	 * The signed id, or empty when the code is malformed, signed with another
+	 * key, or forged
+	 */
+	public OptionalLong verify(String code) {
+		if (code == null || code.isEmpty() || code.length() > MAX_CODE_LENGTH) {
+			return OptionalLong.empty();
+		}
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode(code);
+		} catch (IllegalArgumentException e) {
+			return OptionalLong.empty();
+		}
+		if (bytes.length < 2 + TAG_LENGTH || bytes[0] != keyId) {
+			return OptionalLong.empty();
+		}
+
+		int payloadLength = bytes.length - TAG_LENGTH;
+		long id = 0;
+		int shift = 0;
+		for (int i = 1; i < payloadLength; i++) {
+			byte b = bytes[i];
+			boolean last = i == payloadLength - 1;
+			// The varint must end exactly where the tag starts
+			if (((b & 0x80) == 0) != last || shift > 56) {
+				return OptionalLong.empty();
+			}
+			id |= (long) (b & 0x7F) << shift;
+			shift += 7;
+		}
+		if (id < 0) {
+			return OptionalLong.empty();
+		}
+
+		byte[] expected = Arrays.copyOf(tag(bytes, payloadLength), TAG_LENGTH);
+		byte[] actual = Arrays.copyOfRange(bytes, payloadLength, bytes.length);
+		return MessageDigest.isEqual(expected, actual) ? OptionalLong.of(id) : OptionalLong.empty();
+	}
+
+	private byte[] tag(byte[] payload, int length) {
+		Mac mac = macs.get();
+		mac.update(payload, 0, length);
+		return mac.doFinal();
+	}
+
+	private Mac newMac() {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.growcorehub.config;
+
+import com.growcorehub.config.HibernateRequestStatistics.QueryBudgetExceededException;
+import com.growcorehub.controller.ProjectController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Budget enforcement against the project listing's declared budget: the
+ * batched page fits, the per-project lookup it replaced does not.
+ */
+class HibernateRequestStatisticsTest {
+
+	private static final String PROJECT_ASSESSMENTS = "select a1_0.id,a1_0.name from assessments a1_0 "
+			+ "where a1_0.project_id=?";
+
+	// A signed-in user's 20-project page with a cold eligibility cache
+	private static final List<String> BATCHED_PAGE = List.of(
+			"select u1_0.id,u1_0.email from users u1_0 where u1_0.email=?",
+			"select p1_0.id,p1_0.title from projects p1_0 where p1_0.status=? order by p1_0.created_at desc limit ?",
+			"select count(p1_0.id) from projects p1_0 where p1_0.status=?",
+			"select p1_0.id,p1_0.minimum_score from projects p1_0 where p1_0.status=? order by p1_0.id",
+			"select a1_0.project_id,a1_0.id from assessments a1_0 join projects p1_0 on p1_0.id=a1_0.project_id "
+					+ "where p1_0.status=? order by a1_0.project_id,a1_0.id",
+			"select pa1_0.project_id,pa1_0.application_status from project_applications pa1_0 where pa1_0.user_id=?",
+			"select ua1_0.assessment_id,ua1_0.score from user_assessments ua1_0 where ua1_0.user_id=?",
+			"select a1_0.id,a1_0.name from assessments a1_0 where a1_0.project_id in (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,"
+					+ "?,?,?,?,?) order by a1_0.id",
+			"select ua1_0.id,ua1_0.score from user_assessments ua1_0 where ua1_0.user_id=? "
+					+ "and ua1_0.assessment_id in (?,?,?,?)");
+
+	private final HibernateRequestStatistics enforcing = new HibernateRequestStatistics(true);
+
+	@AfterEach
+	void tearDown() {
+		HibernateRequestStatistics.end();
+	}
+
+	@Test
+	void batchedListingFitsItsBudget() {
+		HibernateRequestStatistics.begin();
+		HibernateRequestStatistics.applyBudget(listingBudget());
+		BATCHED_PAGE.forEach(enforcing::inspect);
+
+		HibernateRequestStatistics.Counts counts = HibernateRequestStatistics.end();
+		assertEquals(BATCHED_PAGE.size(), counts.getStatements());
+		assertEquals(1, counts.getMaxRepeats());
+		assertFalse(counts.isOverBudget());
+	}
+
+	@Test
+	void perProjectLookupsExceedTheListingBudget() {
+		QueryBudget budget = listingBudget();
+		HibernateRequestStatistics.begin();
+		HibernateRequestStatistics.applyBudget(budget);
+		BATCHED_PAGE.subList(0, 3).forEach(enforcing::inspect);
+		for (int i = 0; i < budget.repeats(); i++) {
+			enforcing.inspect(PROJECT_ASSESSMENTS);
+		}
+
+		QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+				() -> enforcing.inspect(PROJECT_ASSESSMENTS));
+		assertTrue(exception.getMessage().contains(PROJECT_ASSESSMENTS), exception.getMessage());
+	}
+
+	@Test
+	void tooManyDistinctStatementsExceedTheBudget() {
+		QueryBudget budget = listingBudget();
+		HibernateRequestStatistics.begin();
+		HibernateRequestStatistics.applyBudget(budget);
+		for (int i = 0; i < budget.statements(); i++) {
+			enforcing.inspect("select " + i);
+		}
+
+		assertThrows(QueryBudgetExceededException.class, () -> enforcing.inspect("select one too many"));
+	}
+
+	@Test
+	void onlyRecordsWhenNotEnforcing() {
+		HibernateRequestStatistics recording = new HibernateRequestStatistics(false);
+		HibernateRequestStatistics.begin();
+		HibernateRequestStatistics.applyBudget(listingBudget());
+		for (int i = 0; i < 20; i++) {
+			recording.inspect(PROJECT_ASSESSMENTS);
+		}
+
+		HibernateRequestStatistics.Counts counts = HibernateRequestStatistics.end();
+		assertEquals(20, counts.getMaxRepeats());
+		assertTrue(counts.isOverBudget());
+	}
+
+	private static QueryBudget listingBudget() {
+		return Arrays.stream(ProjectController.class.getDeclaredMethods())
+				.filter(method -> method.getName().equals("getAllProjects")).findFirst().orElseThrow()
+				.getAnnotation(QueryBudget.class);
+	}
+}
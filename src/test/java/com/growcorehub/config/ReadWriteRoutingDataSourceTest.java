@@ -0,0 +1,86 @@
+package com.growcorehub.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between two embedded databases, each of which reports its own name.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+	private final AtomicReference<Object> writer = new AtomicReference<>();
+
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate readWrite;
+	private TransactionTemplate readOnly;
+
+	@BeforeEach
+	void setUp() {
+		DriverManagerDataSource primary = database("primary");
+		DriverManagerDataSource replica = database("replica");
+
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replica, 60_000, writer::get);
+		routing.afterPropertiesSet();
+		LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+	}
+
+	@Test
+	void readOnlyTransactionsUseReplica() {
+		assertEquals("replica", readOnly.execute(status -> node()));
+	}
+
+	@Test
+	void writesAndNonTransactionalCallsUsePrimary() {
+		assertEquals("primary", readWrite.execute(status -> node()));
+		assertEquals("primary", node());
+	}
+
+	@Test
+	void readsFollowOwnWritesToPrimary() {
+		writer.set("writer@example.com");
+		readWrite.executeWithoutResult(status -> node());
+		assertEquals("primary", readOnly.execute(status -> node()));
+
+		writer.set("other@example.com");
+		assertEquals("replica", readOnly.execute(status -> node()));
+	}
+
+	@Test
+	void rolledBackWritesDoNotPin() {
+		writer.set("writer@example.com");
+		readWrite.executeWithoutResult(status -> {
+			node();
+			status.setRollbackOnly();
+		});
+		assertEquals("replica", readOnly.execute(status -> node()));
+	}
+
+	private String node() {
+		return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private static DriverManagerDataSource database(String name) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(16))");
+		jdbcTemplate.execute("DELETE FROM node");
+		jdbcTemplate.update("INSERT INTO node VALUES (?)", name);
+		return dataSource;
+	}
+}
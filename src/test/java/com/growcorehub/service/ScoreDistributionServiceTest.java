@@ -0,0 +1,140 @@
+package com.growcorehub.service;
+
+import com.growcorehub.entity.AssessmentScoreDistribution;
+import com.growcorehub.repository.AssessmentRepository;
+import com.growcorehub.repository.AssessmentScoreDistributionRepository;
+import com.growcorehub.repository.UserAssessmentRepository;
+import com.growcorehub.util.ScoreHistogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checkpointing across nodes, against in-memory stand-ins for the submissions
+ * and distribution tables.
+ */
+class ScoreDistributionServiceTest {
+
+	private static final long ASSESSMENT_ID = 7L;
+
+	private final List<Submission> submissions = new ArrayList<>();
+	private final Map<Long, AssessmentScoreDistribution> rows = new HashMap<>();
+	private final UserAssessmentRepository userAssessmentRepository = mock(UserAssessmentRepository.class);
+
+	@Test
+	void twoNodesSeedingTheSameAssessmentCountEachScoreOnce() {
+		when(userAssessmentRepository.countScoresByAssessmentId(anyLong(), any())).thenAnswer(
+				invocation -> countScoredBefore(invocation.getArgument(1)));
+		LocalDateTime now = LocalDateTime.now();
+		submit(null, "50.0", now.minusMinutes(10));
+		submit(null, "60.0", now.minusMinutes(10));
+
+		ScoreDistributionService nodeA = node(distributionRepository(null));
+		AtomicBoolean raced = new AtomicBoolean();
+		// B reads no row, then A inserts its seed before B gets to insert
+		ScoreDistributionService nodeB = node(distributionRepository(() -> {
+			if (raced.compareAndSet(false, true)) {
+				nodeA.checkpoint();
+				return true;
+			}
+			return false;
+		}));
+
+		// Still pending on B when the seeds run, scored before their watermark
+		submit(nodeB, "70.0", now.minusMinutes(5));
+		submit(nodeA, "80.0", now);
+		submit(nodeB, "90.0", now);
+
+		nodeB.checkpoint();
+		assertEquals(4, stored().getTotal(), "A's seed and its own delta");
+
+		nodeB.checkpoint();
+		ScoreHistogram stored = stored();
+		assertEquals(submissions.size(), stored.getTotal());
+		assertEquals(new BigDecimal("70.0"), stored.quantile(0.5));
+	}
+
+	private ScoreDistributionService node(AssessmentScoreDistributionRepository distributionRepository) {
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		ScoreDistributionService service = new ScoreDistributionService(distributionRepository,
+				mock(AssessmentRepository.class), userAssessmentRepository, mock(UserService.class),
+				transactionManager);
+		ReflectionTestUtils.setField(service, "checkpointIntervalMs", 60000L);
+		ReflectionTestUtils.setField(service, "seedLagMs", 60000L);
+		return service;
+	}
+
+	/**
+	 * Backed by the shared rows; {@code hideRow} returning true makes a lookup
+	 * miss, as a read taken before another node's insert commits would
+	 */
+	private AssessmentScoreDistributionRepository distributionRepository(HideRow hideRow) {
+		AssessmentScoreDistributionRepository repository = mock(AssessmentScoreDistributionRepository.class);
+		when(repository.findForUpdate(anyLong())).thenAnswer(invocation -> {
+			if (hideRow != null && hideRow.hide()) {
+				return Optional.empty();
+			}
+			return Optional.ofNullable(rows.get(invocation.<Long>getArgument(0)));
+		});
+		when(repository.save(any())).thenAnswer(invocation -> {
+			AssessmentScoreDistribution row = invocation.getArgument(0);
+			AssessmentScoreDistribution existing = rows.get(row.getAssessmentId());
+			if (existing != null && existing != row) {
+				throw new DataIntegrityViolationException("Duplicate entry for assessment " + row.getAssessmentId());
+			}
+			rows.put(row.getAssessmentId(), row);
+			return row;
+		});
+		return repository;
+	}
+
+	private interface HideRow {
+		boolean hide();
+	}
+
+	// Commits the submission, then records it on the node that scored it
+	private void submit(ScoreDistributionService node, String score, LocalDateTime scoredAt) {
+		submissions.add(new Submission(new BigDecimal(score), scoredAt));
+		if (node != null) {
+			node.recordAfterCommit(ASSESSMENT_ID, new BigDecimal(score), scoredAt);
+		}
+	}
+
+	private List<Object[]> countScoredBefore(LocalDateTime before) {
+		Map<BigDecimal, Long> counts = new TreeMap<>();
+		for (Submission submission : submissions) {
+			if (submission.scoredAt.isBefore(before)) {
+				counts.merge(submission.score, 1L, Long::sum);
+			}
+		}
+		List<Object[]> result = new ArrayList<>();
+		counts.forEach((score, count) -> result.add(new Object[] { score, count }));
+		return result;
+	}
+
+	private ScoreHistogram stored() {
+		return ScoreHistogram.fromBytes(rows.get(ASSESSMENT_ID).getHistogram());
+	}
+
+	private record Submission(BigDecimal score, LocalDateTime scoredAt) {
+	}
+}
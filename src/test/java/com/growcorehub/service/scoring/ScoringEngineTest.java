@@ -0,0 +1,105 @@
+package com.growcorehub.service.scoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.growcorehub.entity.Assessment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Question types, weights and edge cases of the scoring engine.
+ */
+class ScoringEngineTest {
+
+	private final ScoringEngine engine = new ScoringEngine(
+			List.of(new SingleChoiceStrategy(), new MultiSelectStrategy(), new NumericStrategy()), new ObjectMapper());
+
+	@Test
+	void legacyQuestionsScoreByExactMatch() {
+		Assessment assessment = assessment(1L, """
+				[{"question":"a","correctAnswer":"x"},{"question":"b","correctAnswer":"y"},
+				 {"question":"c","correctAnswer":"z"}]""");
+
+		assertScore("66.67", assessment, "{\"question_0\":\"x\",\"question_1\":\"y\",\"question_2\":\"q\"}");
+		assertScore("100.00", assessment, "{\"question_0\":\"x\",\"question_1\":\"y\",\"question_2\":\"z\"}");
+		assertScore("0.00", assessment, "{\"question_0\":1,\"question_1\":[\"y\"]}");
+	}
+
+	@Test
+	void emptyOrInvalidInputScoresZero() {
+		assertScore("0", assessment(2L, "[]"), "{}");
+		assertScore("0", assessment(3L, null), "{}");
+		assertScore("0", assessment(4L, "{not json"), "{}");
+		assertScore("0", assessment(5L, "[{\"correctAnswer\":\"x\"}]"), "{not json");
+	}
+
+	@Test
+	void multiSelectGivesPartialCredit() {
+		Assessment assessment = assessment(6L, """
+				[{"type":"multi-select","correctAnswers":["a","b","c","d"]}]""");
+
+		assertScore("100.00", assessment, "{\"question_0\":[\"a\",\"b\",\"c\",\"d\"]}");
+		assertScore("50.00", assessment, "{\"question_0\":[\"a\",\"b\"]}");
+		// A wrong pick cancels a right one
+		assertScore("25.00", assessment, "{\"question_0\":[\"a\",\"b\",\"x\"]}");
+		assertScore("0.00", assessment, "{\"question_0\":[\"x\",\"y\",\"a\"]}");
+		assertScore("25.00", assessment, "{\"question_0\":[\"a\",\"a\",\"a\",\"a\"]}");
+	}
+
+	@Test
+	void multiSelectWithoutPartialCreditNeedsTheExactSet() {
+		Assessment assessment = assessment(7L, """
+				[{"type":"multi-select","correctAnswers":["a","b"],"partialCredit":false}]""");
+
+		assertScore("100.00", assessment, "{\"question_0\":[\"b\",\"a\"]}");
+		assertScore("0.00", assessment, "{\"question_0\":[\"a\"]}");
+		assertScore("0.00", assessment, "{\"question_0\":[\"a\",\"b\",\"c\"]}");
+	}
+
+	@Test
+	void numericAcceptsAnswersWithinTolerance() {
+		Assessment assessment = assessment(8L, """
+				[{"type":"numeric","correctAnswer":3.14,"tolerance":0.01}]""");
+
+		assertScore("100.00", assessment, "{\"question_0\":3.15}");
+		assertScore("100.00", assessment, "{\"question_0\":\" 3.139 \"}");
+		assertScore("0.00", assessment, "{\"question_0\":3.2}");
+		assertScore("0.00", assessment, "{\"question_0\":\"pi\"}");
+	}
+
+	@Test
+	void weightsScaleQuestions() {
+		Assessment assessment = assessment(9L, """
+				[{"correctAnswer":"x","weight":3},{"correctAnswer":"y"}]""");
+
+		assertScore("75.00", assessment, "{\"question_0\":\"x\"}");
+		assertScore("25.00", assessment, "{\"question_1\":\"y\"}");
+	}
+
+	@Test
+	void compiledQuestionsAreReusedUntilTheyChange() {
+		Assessment assessment = assessment(10L, "[{\"correctAnswer\":\"x\"}]");
+		CompiledAssessment first = engine.compile(assessment);
+		assertSame(first, engine.compile(assessment(10L, "[{\"correctAnswer\":\"x\"}]")));
+
+		assessment.setQuestions("[{\"correctAnswer\":\"y\"}]");
+		assertNotSame(first, engine.compile(assessment));
+		assertScore("100.00", assessment, "{\"question_0\":\"y\"}");
+	}
+
+	private void assertScore(String expected, Assessment assessment, String answers) {
+		assertEquals(new BigDecimal(expected), engine.score(assessment, answers), answers);
+	}
+
+	private static Assessment assessment(Long id, String questions) {
+		Assessment assessment = new Assessment();
+		assessment.setId(id);
+		assessment.setQuestions(questions);
+		return assessment;
+	}
+}
@@ -0,0 +1,70 @@
+package com.growcorehub.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Round trips through the binary answer format, its size, and corrupt input.
+ */
+class AnswerCodecTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void roundTripsEveryKindOfAnswer() throws Exception {
+		assertRoundTrip("{}");
+		assertRoundTrip("{\"question_0\":\"B\",\"question_1\":[\"a\",\"c\"],\"question_2\":3.14,\"question_3\":-42}");
+		// Repeated and out-of-order picks, mixed arrays and other values are kept as sent
+		assertRoundTrip("{\"question_0\":\"c\",\"question_1\":[\"a\",\"c\"],\"question_2\":[\"a\",\"a\"],"
+				+ "\"question_3\":[],\"question_4\":[\"x\",1],\"question_5\":true,\"question_6\":null,"
+				+ "\"question_7\":{\"k\":\"v\"},\"question_8\":1.50,\"question_9\":123456789012345678901234567890}");
+		// Keys that are not question indexes, as the client wrote them
+		assertRoundTrip("{\"question_01\":\"x\",\"notes\":\"hi\",\"question_\":1,\"question_12\":\"\\u00e9\"}");
+	}
+
+	@Test
+	void isSmallerThanTheJson() throws Exception {
+		StringBuilder json = new StringBuilder("{");
+		for (int i = 0; i < 40; i++) {
+			json.append(i == 0 ? "" : ",").append("\"question_").append(i).append("\":");
+			json.append(i % 4 == 0 ? "[\"opt" + (i % 3) + "\",\"opt3\"]" : i % 4 == 1 ? "42" : "\"opt" + (i % 5) + "\"");
+		}
+		String answers = json.append('}').toString();
+
+		byte[] encoded = AnswerCodec.encode(objectMapper.readTree(answers));
+		assertTrue(encoded.length * 3 < answers.getBytes(StandardCharsets.UTF_8).length,
+				encoded.length + " bytes for " + answers.length() + " characters");
+		assertEquals(objectMapper.readTree(answers).toString(), AnswerCodec.decode(encoded).toString());
+	}
+
+	@Test
+	void onlyObjectsAreEncoded() throws Exception {
+		assertNull(AnswerCodec.encode(objectMapper.readTree("[\"x\"]")));
+		assertNull(AnswerCodec.encode(objectMapper.readTree("\"x\"")));
+		assertNull(AnswerCodec.encode(null));
+	}
+
+	@Test
+	void rejectsCorruptInput() throws Exception {
+		byte[] encoded = AnswerCodec.encode(objectMapper.readTree("{\"question_0\":\"x\",\"question_1\":[\"y\"]}"));
+		assertThrows(IllegalArgumentException.class, () -> AnswerCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+		assertThrows(IllegalArgumentException.class, () -> AnswerCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)));
+		assertThrows(IllegalArgumentException.class, () -> AnswerCodec.decode(new byte[] { 9 }));
+		assertThrows(IllegalArgumentException.class, () -> AnswerCodec.decode(new byte[] { 1, 0, 1, 0, 0 }));
+	}
+
+	private void assertRoundTrip(String json) throws Exception {
+		JsonNode answers = objectMapper.readTree(json);
+		JsonNode decoded = AnswerCodec.decode(AnswerCodec.encode(answers));
+		assertEquals(answers.toString(), decoded.toString(), json);
+	}
+}
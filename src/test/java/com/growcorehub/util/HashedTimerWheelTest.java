@@ -0,0 +1,105 @@
+package com.growcorehub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Expiry timing, deadlines beyond one revolution, and cancelling or replacing
+ * deadlines, on a small fast wheel: 4 buckets of 10ms, one revolution per 40ms.
+ */
+class HashedTimerWheelTest {
+
+	private static final long TICK_MS = 10;
+	private static final int WHEEL_SIZE = 4;
+
+	private final BlockingQueue<Expired> expired = new LinkedBlockingQueue<>();
+
+	@Test
+	void pastDeadlineExpiresOnTheNextTick() throws Exception {
+		try (HashedTimerWheel<String> wheel = startedWheel()) {
+			long scheduledAt = System.currentTimeMillis();
+			wheel.schedule("past", Instant.now().minusSeconds(3600));
+
+			Expired first = expired.poll(1, TimeUnit.SECONDS);
+			assertNotNull(first);
+			assertEquals("past", first.key);
+			// Next tick plus scheduling slack, not a pass over its long-gone bucket
+			assertTrue(first.atMillis - scheduledAt < 20 * TICK_MS, first.atMillis - scheduledAt + "ms");
+			assertEquals(0, wheel.size());
+		}
+	}
+
+	@Test
+	void deadlineSeveralRevolutionsOutWaitsForItsRound() throws Exception {
+		try (HashedTimerWheel<String> wheel = startedWheel()) {
+			// Six revolutions out, so its bucket comes round five times before it is due
+			Instant deadline = Instant.now().plusMillis(6 * WHEEL_SIZE * TICK_MS);
+			wheel.schedule("later", deadline);
+
+			assertNull(expired.poll(3 * WHEEL_SIZE * TICK_MS, TimeUnit.MILLISECONDS), "expired a round early");
+			assertEquals(1, wheel.size());
+
+			Expired later = expired.poll(1, TimeUnit.SECONDS);
+			assertNotNull(later);
+			assertEquals("later", later.key);
+			// Wall clock is read at millisecond granularity on both sides
+			assertTrue(later.atMillis >= deadline.toEpochMilli() - 1,
+					"expired " + (deadline.toEpochMilli() - later.atMillis) + "ms early");
+		}
+	}
+
+	@Test
+	void cancelAndRescheduleSuppressTheOldDeadline() throws Exception {
+		try (HashedTimerWheel<String> wheel = startedWheel()) {
+			Instant soon = Instant.now().plusMillis(5 * TICK_MS);
+			Instant later = soon.plusMillis(10 * TICK_MS);
+			wheel.schedule("cancelled", soon);
+			wheel.schedule("moved", soon);
+			wheel.schedule("marker", soon);
+			assertTrue(wheel.cancel("cancelled"));
+			wheel.schedule("moved", later);
+			assertEquals(2, wheel.size());
+
+			Expired marker = expired.poll(1, TimeUnit.SECONDS);
+			assertNotNull(marker);
+			assertEquals("marker", marker.key, "only the marker is due at the original deadline");
+
+			Expired moved = expired.poll(1, TimeUnit.SECONDS);
+			assertNotNull(moved);
+			assertEquals("moved", moved.key);
+			assertTrue(moved.atMillis >= later.toEpochMilli() - 1, "moved key expired at its old deadline");
+
+			assertNull(expired.poll(5 * TICK_MS, TimeUnit.MILLISECONDS));
+			assertFalse(wheel.cancel("cancelled"));
+			assertFalse(wheel.cancel("moved"));
+			assertEquals(0, wheel.size());
+		}
+	}
+
+	private HashedTimerWheel<String> startedWheel() {
+		HashedTimerWheel<String> wheel = new HashedTimerWheel<>("test-wheel", Duration.ofMillis(TICK_MS), WHEEL_SIZE,
+				this::onExpired);
+		wheel.start();
+		return wheel;
+	}
+
+	private void onExpired(List<String> keys) {
+		long now = System.currentTimeMillis();
+		keys.forEach(key -> expired.add(new Expired(key, now)));
+	}
+
+	private record Expired(String key, long atMillis) {
+	}
+}
@@ -0,0 +1,86 @@
+package com.growcorehub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ordering, best-score replacement and ranks against a brute-force sort, for
+ * boards built incrementally and in bulk.
+ */
+class LeaderboardTest {
+
+	@Test
+	void keepsEachUsersBestScore() {
+		Leaderboard board = new Leaderboard();
+		assertTrue(board.offer(1, new BigDecimal("70"), 100));
+		assertFalse(board.offer(1, new BigDecimal("65"), 50));
+		// A tie keeps the earlier score
+		assertFalse(board.offer(1, new BigDecimal("70.00"), 200));
+		assertTrue(board.offer(1, new BigDecimal("88.5"), 300));
+
+		assertEquals(1, board.size());
+		assertEquals(new BigDecimal("88.50"), board.get(1).scoreValue());
+	}
+
+	@Test
+	void ranksTiesByWhoScoredFirst() {
+		Leaderboard board = new Leaderboard();
+		board.offer(1, new BigDecimal("80"), 300);
+		board.offer(2, new BigDecimal("95"), 100);
+		board.offer(3, new BigDecimal("80"), 200);
+		board.offer(4, new BigDecimal("100"), 400);
+
+		assertEquals(List.of(4L, 2L, 3L, 1L), board.top(0, 10).stream().map(Leaderboard.Entry::userId).toList());
+		assertEquals(List.of(3L), board.top(2, 1).stream().map(Leaderboard.Entry::userId).toList());
+		assertEquals(OptionalLong.of(3), board.rankOf(3));
+		assertEquals(OptionalLong.of(4), board.rankOf(1));
+		assertTrue(board.rankOf(99).isEmpty());
+
+		board.remove(2);
+		assertEquals(OptionalLong.of(2), board.rankOf(3));
+	}
+
+	@Test
+	void ranksMatchASortedList() {
+		Random random = new Random(42);
+		Leaderboard board = new Leaderboard();
+		Leaderboard.Builder builder = new Leaderboard.Builder();
+		Map<Long, long[]> best = new HashMap<>();
+		for (int i = 0; i < 20000; i++) {
+			long userId = random.nextInt(3000);
+			int score = random.nextInt(200) * 50; // coarse, to force ties
+			long earnedAt = random.nextInt(1_000_000);
+			board.offer(userId, BigDecimal.valueOf(score, 2), earnedAt);
+			builder.offer(userId, BigDecimal.valueOf(score, 2), earnedAt);
+
+			long[] current = best.get(userId);
+			if (current == null || score > current[0] || (score == current[0] && earnedAt < current[1])) {
+				best.put(userId, new long[] { score, earnedAt, userId });
+			}
+		}
+
+		List<long[]> expected = new ArrayList<>(best.values());
+		expected.sort(Comparator.<long[]>comparingLong(entry -> -entry[0]).thenComparingLong(entry -> entry[1])
+				.thenComparingLong(entry -> entry[2]));
+		// Built in bulk or one score at a time, the boards agree
+		for (Leaderboard candidate : List.of(board, builder.build())) {
+			assertEquals(expected.size(), candidate.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals(OptionalLong.of(i + 1), candidate.rankOf(expected.get(i)[2]));
+			}
+			assertEquals(expected.get(100)[2], candidate.top(100, 1).get(0).userId());
+		}
+	}
+}
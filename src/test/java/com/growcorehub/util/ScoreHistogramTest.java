@@ -0,0 +1,78 @@
+package com.growcorehub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Rank queries, merging and the stored form of score histograms.
+ */
+class ScoreHistogramTest {
+
+	@Test
+	void answersRankQueries() {
+		ScoreHistogram histogram = histogram("50", "80", "80", "90.5");
+
+		assertEquals(4, histogram.getTotal());
+		assertEquals(new BigDecimal("75.13"), histogram.mean());
+		assertEquals(new BigDecimal("50.0"), histogram.quantile(0.25));
+		assertEquals(new BigDecimal("80.0"), histogram.quantile(0.50));
+		assertEquals(new BigDecimal("90.5"), histogram.quantile(0.90));
+		// Ties count half
+		assertEquals(new BigDecimal("50.00"), histogram.percentileRank(new BigDecimal("80")));
+		assertEquals(new BigDecimal("75.00"), histogram.shareAtOrAbove(new BigDecimal("70")));
+	}
+
+	@Test
+	void scoresJustBelowAThresholdStayBelowIt() {
+		ScoreHistogram histogram = histogram("69.95", "69.99", "70", "70.04");
+
+		assertEquals(new BigDecimal("50.00"), histogram.shareAtOrAbove(new BigDecimal("70")));
+		assertEquals(new BigDecimal("69.9"), histogram.quantile(0.5));
+		assertEquals(new BigDecimal("70.0"), histogram.quantile(1.0));
+	}
+
+	@Test
+	void emptyHistogramHasNoRanks() {
+		ScoreHistogram histogram = new ScoreHistogram();
+
+		assertNull(histogram.mean());
+		assertNull(histogram.quantile(0.5));
+		assertNull(histogram.percentileRank(BigDecimal.TEN));
+	}
+
+	@Test
+	void mergeAndSubtractAreExact() {
+		ScoreHistogram histogram = histogram("10", "20");
+		histogram.merge(histogram("20", "30"));
+		assertEquals(4, histogram.getTotal());
+		assertEquals(new BigDecimal("20.0"), histogram.quantile(0.5));
+
+		histogram.subtract(histogram("20", "30", "30"));
+		assertEquals(2, histogram.getTotal());
+		assertEquals(new BigDecimal("20.0"), histogram.quantile(1.0));
+	}
+
+	@Test
+	void roundTripsThroughBytes() {
+		ScoreHistogram histogram = histogram("0", "33.33", "100", "150");
+		histogram.record(new BigDecimal("66.7"), 300);
+
+		ScoreHistogram restored = ScoreHistogram.fromBytes(histogram.toBytes());
+		assertEquals(histogram.getTotal(), restored.getTotal());
+		assertEquals(histogram.mean(), restored.mean());
+		assertEquals(new BigDecimal("100.0"), restored.quantile(1.0));
+		assertEquals(0, ScoreHistogram.fromBytes(null).getTotal());
+	}
+
+	private static ScoreHistogram histogram(String... scores) {
+		ScoreHistogram histogram = new ScoreHistogram();
+		for (String score : scores) {
+			histogram.record(new BigDecimal(score));
+		}
+		return histogram;
+	}
+}
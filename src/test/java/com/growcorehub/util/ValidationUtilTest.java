@@ -0,0 +1,102 @@
+package com.growcorehub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Fuzzes the hand-written validators against the regex implementations they
+ * replaced.
+ */
+class ValidationUtilTest {
+
+	private static final Pattern EMAIL_PATTERN = Pattern.compile("^[A-Za-z0-9+_.-]+@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})$");
+	private static final Pattern PHONE_PATTERN = Pattern.compile("^[+]?[1-9]\\d{1,14}$");
+	private static final Pattern AADHAAR_PATTERN = Pattern.compile("^[2-9]{1}[0-9]{3}\\s[0-9]{4}\\s[0-9]{4}$");
+	private static final Pattern AADHAAR_PATTERN_NO_SPACE = Pattern.compile("^[2-9]{1}[0-9]{11}$");
+	private static final Pattern PASSWORD_PATTERN = Pattern
+			.compile("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)[a-zA-Z\\d@$!%*?&]{8,}$");
+	private static final Pattern NAME_PATTERN = Pattern.compile("^[a-zA-Z\\s'-]{2,50}$");
+
+	private static final String ALPHABET = "aZz09@.+-_()' \t\n\u000B\f\r<>\"&$!%*?,#é\u0001";
+	private static final int ITERATIONS = 200_000;
+
+	private final ValidationUtil validationUtil = new ValidationUtil();
+
+	@Test
+	void emailMatchesRegex() {
+		fuzz("email", 40, "aZ09+_.-@.com", validationUtil::isValidEmail,
+				email -> email != null && email.length() <= 255 && EMAIL_PATTERN.matcher(email.trim()).matches());
+	}
+
+	@Test
+	void phoneMatchesRegex() {
+		fuzz("phone", 24, "+0123456789 ()-\ta", validationUtil::isValidPhone,
+				phone -> phone != null && PHONE_PATTERN.matcher(phone.replaceAll("[\\s()-]", "")).matches());
+		fuzz("normalizePhone", 24, "+0123456789 ()-\ta", validationUtil::normalizePhone,
+				phone -> phone == null ? null : phone.replaceAll("[\\s()-]", ""));
+	}
+
+	@Test
+	void aadhaarMatchesRegex() {
+		fuzz("aadhaar", 16, "0123456789 \ta", validationUtil::isValidAadhaar,
+				aadhaar -> aadhaar != null && (AADHAAR_PATTERN.matcher(aadhaar).matches()
+						|| AADHAAR_PATTERN_NO_SPACE.matcher(aadhaar).matches()));
+		fuzz("normalizeAadhaar", 16, "0123456789 \ta", validationUtil::normalizeAadhaar, aadhaar -> {
+			if (aadhaar == null)
+				return null;
+			String clean = aadhaar.replaceAll("\\s", "");
+			return clean.length() == 12
+					? clean.substring(0, 4) + " " + clean.substring(4, 8) + " " + clean.substring(8, 12)
+					: aadhaar;
+		});
+	}
+
+	@Test
+	void passwordMatchesRegex() {
+		fuzz("password", 110, "aZ9@$!%*?& #\n", validationUtil::isValidPassword,
+				password -> password != null && password.length() >= 8 && password.length() <= 100
+						&& PASSWORD_PATTERN.matcher(password).matches());
+	}
+
+	@Test
+	void nameMatchesRegex() {
+		fuzz("name", 56, "aZ '-\t\n0\u0001", validationUtil::isValidName,
+				name -> name != null && NAME_PATTERN.matcher(name.trim()).matches());
+	}
+
+	@Test
+	void skillsMatchRegex() {
+		fuzz("skills", 1010, "aZ09 ,.-\t#", validationUtil::isValidSkills,
+				skills -> !(skills == null || skills.trim().isEmpty()) && skills.length() <= 1000
+						&& skills.matches("^[a-zA-Z0-9\\s,.-]+$"));
+	}
+
+	@Test
+	void sanitizeMatchesRegex() {
+		fuzz("sanitize", 40, ALPHABET, validationUtil::sanitizeInput,
+				input -> input == null ? null : input.trim().replaceAll("[<>\"'&]", "").replaceAll("\\s+", " "));
+	}
+
+	private <T> void fuzz(String name, int maxLength, String alphabet, Function<String, T> actual,
+			Function<String, T> expected) {
+		Random random = new Random(name.hashCode());
+		assertEquals(expected.apply(null), actual.apply(null), name + " <null>");
+
+		for (int i = 0; i < ITERATIONS; i++) {
+			// Mostly draw from the targeted alphabet, sometimes from the wide one
+			String chars = random.nextInt(8) == 0 ? ALPHABET : alphabet;
+			int length = random.nextInt(maxLength + 1);
+			StringBuilder sb = new StringBuilder(length);
+			for (int j = 0; j < length; j++) {
+				sb.append(chars.charAt(random.nextInt(chars.length())));
+			}
+			String input = sb.toString();
+			assertEquals(expected.apply(input), actual.apply(input), name + " <" + input + ">");
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.growcorehub.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Signing, round trips and rejection of tampered codes.
+ */
+class VerificationCodeSignerTest {
+
+	private final VerificationCodeSigner signer = new VerificationCodeSigner(1,
+			"test-secret-test-secret-test-secret".getBytes(StandardCharsets.UTF_8));
+
+	@Test
+	void signedIdsVerify() {
+		for (long id : new long[] { 0, 1, 127, 128, 51_234, Long.MAX_VALUE }) {
+			String code = signer.sign(id);
+			assertTrue(code.length() <= 28, code);
+			assertEquals(OptionalLong.of(id), signer.verify(code), code);
+		}
+		assertEquals(19, signer.sign(1_000_000).length());
+	}
+
+	@Test
+	void tamperedCodesAreRejected() {
+		String code = signer.sign(42);
+		byte[] bytes = Base64.getUrlDecoder().decode(code);
+		for (int i = 0; i < bytes.length; i++) {
+			byte[] tampered = bytes.clone();
+			tampered[i] ^= 0x01;
+			assertTrue(signer.verify(Base64.getUrlEncoder().withoutPadding().encodeToString(tampered)).isEmpty());
+		}
+	}
+
+	@Test
+	void malformedCodesAreRejected() {
+		for (String code : new String[] { null, "", "a", "!!!!", "AAAAAAAAAAAAAAAAAAAA",
+				"AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA" }) {
+			assertTrue(signer.verify(code).isEmpty(), String.valueOf(code));
+		}
+	}
+
+	@Test
+	void otherKeysDoNotVerify() {
+		VerificationCodeSigner otherKey = new VerificationCodeSigner(1,
+				"another-secret-another-secret".getBytes(StandardCharsets.UTF_8));
+		VerificationCodeSigner otherKeyId = new VerificationCodeSigner(2,
+				"test-secret-test-secret-test-secret".getBytes(StandardCharsets.UTF_8));
+
+		String code = signer.sign(7);
+		assertTrue(otherKey.verify(code).isEmpty());
+		assertTrue(otherKeyId.verify(code).isEmpty());
+		assertNotEquals(code, otherKeyId.sign(7));
+	}
+}